@@ -15,6 +15,12 @@
 */
 package org.pepstock.coderba.client;
 
+import org.pepstock.coderba.client.resources.ExternalAddOnResources;
+import org.pepstock.coderba.client.resources.MinifiedAddOnResources;
+import org.pepstock.coderba.client.resources.ResourceLoadException;
+
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+
 /**
  * CodeMirror distribution contains a number of reusable components that implement extra editor functionality.<br>
  * This object maps abstractly those components.
@@ -49,4 +55,61 @@ public abstract class AddOn extends InjectableItem {
 		}
 	}
 
+	/**
+	 * Injects the addon instance into DOM document in async mode, without blocking the UI, in order to consume it by
+	 * CodeMirror.
+	 * 
+	 * @param callback callback invoked when the addon is ready to be used
+	 */
+	public final void injectAsync(InjectionCallback callback) {
+		// checks if callback is consistent
+		if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Injection callback is null");
+		}
+		// checks if already injected
+		if (isInjected) {
+			// notifies the caller
+			callback.onInjected();
+		} else {
+			// injects in async
+			Injector.ensureInjectedAsync(this, new InjectionCallback() {
+
+				@Override
+				public void onInjected() {
+					// sets flag as already injected
+					isInjected = true;
+					// notifies the caller
+					callback.onInjected();
+				}
+
+				@Override
+				public void onError(ResourceLoadException exception) {
+					// notifies the caller
+					callback.onError(exception);
+				}
+			});
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getMinifiedResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getMinifiedResources() {
+		return MinifiedAddOnResources.INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getExternalResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getExternalResources() {
+		return ExternalAddOnResources.INSTANCE;
+	}
+
 }
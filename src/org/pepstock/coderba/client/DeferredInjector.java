@@ -0,0 +1,409 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.pepstock.coderba.client.resources.ExternalResourceLoader;
+import org.pepstock.coderba.client.resources.InjectableResource;
+import org.pepstock.coderba.client.resources.ResourceLoadException;
+import org.pepstock.coderba.client.resources.ResourcesType;
+import org.pepstock.coderba.client.resources.StyleResource;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.ResourcePrototype;
+
+/**
+ * Loads the resources of an injectable item and of its dependencies in async mode, as external files, by their URLs, and
+ * injects them by the order of the dependencies.<br>
+ * The java script files are downloaded in parallel, by preloading them, and evaluated one by one, by the order of the
+ * dependencies, loading the next one only when the previous one has been evaluated, even if it is loaded by another
+ * request. The style sheets are loaded all together, because they do not depend on each other.<br>
+ * Every resource is emitted as a static file by the external resources client bundle of its item, or by the minified one if
+ * the resources type is minified, and it is loaded and evaluated by the browser, without evaluating its content by CODERBA.<br>
+ * The resources which are already loading by another request are not loaded again but the request waits for their
+ * injection.<br>
+ * If a resource is not available as external file or it can not be loaded, the embedded one is injected, before the scripts
+ * which depend on it. When the embedded one is not compiled into the application, the request is stopped, releasing the
+ * resources which are not loaded yet, and the callback is notified of the error, as the other requests waiting for the
+ * resource.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DeferredInjector {
+
+	// contains the requests waiting for the resources which are loading
+	// K = key of resource
+	// V = list of requests to notify when the resource is injected or can not be loaded
+	private static final Map<String, List<DeferredInjector>> RESOURCES_LOADING = new HashMap<>();
+	// injectable items to inject, sorted by their dependencies
+	private final List<InjectableItem> items;
+	// callback to invoke when the items are injected
+	private final InjectionCallback callback;
+	// resources which are loaded by this request
+	private final List<InjectableResource> ownedResources = new LinkedList<>();
+	// java script resources to evaluate, by this or by other requests, sorted by their dependencies
+	private final LinkedList<InjectableResource> scripts = new LinkedList<>();
+	// prefix of the User Timing measures of the loading
+	private static final String FETCH_MEASURE_PREFIX = "fetch:";
+	// amount of resources not injected yet
+	private int pendingResources = 0;
+	// flag if a resource can not be loaded
+	private boolean failed = false;
+
+	/**
+	 * Creates the object with the items to inject and the callback to invoke when the items are ready.
+	 * 
+	 * @param items injectable items to inject, sorted by their dependencies
+	 * @param callback callback to invoke when the items are injected
+	 */
+	DeferredInjector(List<InjectableItem> items, InjectionCallback callback) {
+		this.items = items;
+		this.callback = callback;
+	}
+
+	/**
+	 * Starts to load and inject the resources of the items.
+	 */
+	void inject() {
+		// collects the resources of all items, by the order of the dependencies
+		List<InjectableResource> resources = new ArrayList<>();
+		for (InjectableItem item : items) {
+			resources.addAll(item.getResources());
+		}
+		// sorts the resources, adding priority to style resources
+		// the sort is stable then the order of the dependencies is kept
+		Collections.sort(resources, Injector.COMPARATOR);
+		// scans all resources in order to register the request
+		// before loading anything, because the loading could be synchronous
+		for (InjectableResource resource : resources) {
+			// checks if already injected
+			if (!Injector.isInjected(resource.getResource())) {
+				// creates the key
+				String key = Injector.createKey(resource.getResource());
+				// increments the counter of resources to wait for
+				pendingResources++;
+				// checks if the resource is a script
+				boolean isScript = !(resource instanceof StyleResource);
+				// the scripts are evaluated by the order of dependencies
+				if (isScript) {
+					scripts.add(resource);
+				}
+				// checks if the resource is already loading
+				if (RESOURCES_LOADING.containsKey(key)) {
+					// waits for the other request
+					RESOURCES_LOADING.get(key).add(this);
+				} else {
+					// loads the resource by this request
+					RESOURCES_LOADING.put(key, new LinkedList<>());
+					ownedResources.add(resource);
+				}
+			}
+		}
+		// checks if there is anything to wait for
+		if (pendingResources == 0) {
+			// if here, the items are already injected
+			onItemsInjected();
+		} else {
+			// scans all resources of this request
+			// copying the list because the loading could be synchronous
+			for (InjectableResource resource : new ArrayList<>(ownedResources)) {
+				// checks if the resource is a style
+				if (resource instanceof StyleResource) {
+					// loads the style sheet
+					loadExternal(resource);
+				} else {
+					// gets the URL of the script
+					String url = getUrl(resource);
+					// checks if the script is available as external file
+					if (url != null) {
+						// starts to download the script, in parallel with the others
+						ExternalResourceLoader.preloadScript(url);
+					}
+				}
+			}
+			// starts to evaluate the scripts
+			loadNextScript();
+		}
+	}
+
+	/**
+	 * Loads the next script to evaluate, by the order of the dependencies, if owned by this request, or waits for the script
+	 * loaded by another request.
+	 */
+	private void loadNextScript() {
+		// scans the scripts to evaluate
+		// the list is empty if the request is failed
+		while (!scripts.isEmpty()) {
+			// gets the next script
+			InjectableResource resource = scripts.getFirst();
+			// checks if the script is loaded by this request
+			if (ownedResources.contains(resource)) {
+				scripts.removeFirst();
+				// loads the script
+				// the next one is loaded when this one is injected
+				loadExternal(resource);
+				return;
+			} else if (Injector.isInjected(resource.getResource())) {
+				// the script has been injected by another request
+				scripts.removeFirst();
+			} else {
+				// waits for the other request
+				// the next one is loaded when the script is injected
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Invoked when a resource, loaded by another request, has been injected. When the resource is a script, the next scripts
+	 * are evaluated.
+	 * 
+	 * @param resource resource injected
+	 */
+	private void onWaitedResourceInjected(InjectableResource resource) {
+		// notifies the injection
+		onResourceInjected();
+		// checks if the resource is a script
+		if (!(resource instanceof StyleResource)) {
+			// continues with the next script
+			loadNextScript();
+		}
+	}
+
+	/**
+	 * Returns the URL of a resource as external file, provided by the external resources of the item which the resource
+	 * belongs to, or by the minified ones if the resources type is minified.
+	 * 
+	 * @param resource resource to load
+	 * @return the URL of the resource or <code>null</code> if the resource is not available as external file
+	 */
+	private String getUrl(InjectableResource resource) {
+		// gets the item which the resource belongs to
+		InjectableItem owner = getOwner(resource);
+		// gets the client bundle, minified if requested
+		ClientBundleWithLookup bundle = ResourcesType.isMinified() ? owner.getMinifiedResources() : owner.getExternalResources();
+		// gets the external resource by the name of the embedded one
+		ResourcePrototype external = bundle.getResource(resource.getResource().getName());
+		// checks if there is an external resource
+		if (external instanceof DataResource) {
+			return ((DataResource) external).getSafeUri().asString();
+		}
+		// if here, the resource is not external
+		return null;
+	}
+
+	/**
+	 * Loads a resource as external file, by its URL. When the resource is a script, the next script is loaded after its
+	 * injection.
+	 * 
+	 * @param resource resource to load
+	 */
+	private void loadExternal(final InjectableResource resource) {
+		// gets the URL of the resource
+		String url = getUrl(resource);
+		// checks if there is an external resource
+		if (url != null) {
+			// creates the element which loads the file
+			Element element = resource.createElement(url);
+			// starts the measure of the loading
+			final String measureName = FETCH_MEASURE_PREFIX + resource.getResource().getName();
+			final double start = InjectionTimer.start(measureName);
+			// loads the file
+			ExternalResourceLoader.load(element, () -> {
+				// sets the resource as injected, with the time spent to load and evaluate it
+				Injector.setInjected(resource.getResource(), resource instanceof StyleResource, getOwner(resource), getTrigger(), InjectionTimer.end(measureName, start));
+				// checks if the resource is a style
+				if (resource instanceof StyleResource) {
+					// stores the LINK element to remove it when the theme is unloaded
+					Injector.setStyleLink(resource.getResource(), element);
+				}
+				// notifies the injection
+				onOwnedResourceInjected(resource);
+			}, () -> onOwnedResourceNotLoaded(resource));
+		} else {
+			// if here, the resource is not external
+			onOwnedResourceNotLoaded(resource);
+		}
+	}
+
+	/**
+	 * Invoked when a resource, loaded by this request, is not available as external file or it can not be loaded.<br>
+	 * The embedded resource is injected, if compiled into the application, otherwise the request is failed.
+	 * 
+	 * @param resource resource not loaded
+	 */
+	private void onOwnedResourceNotLoaded(InjectableResource resource) {
+		// checks if the code of resource is compiled into the application
+		if (resource.isEmbedded()) {
+			// uses the embedded resource
+			// the scripts which depend on it are not evaluated yet
+			injectEmbedded(resource);
+		} else {
+			// creates the exception
+			ResourceLoadException exception = new ResourceLoadException("Unable to load resource '" + resource.getResource().getName() + "'");
+			// releases the resource and notifies the requests waiting for it
+			release(resource, exception);
+			// stops this request
+			onFailed(exception);
+		}
+	}
+
+	/**
+	 * Releases a resource loaded by this request, which is not injected, in order to be able to load it again by next
+	 * requests, and notifies the error to the requests waiting for it.
+	 * 
+	 * @param resource resource to release
+	 * @param exception exception which describes the error
+	 */
+	private void release(InjectableResource resource, ResourceLoadException exception) {
+		// gets and removes the requests waiting for the resource
+		List<DeferredInjector> waitingRequests = RESOURCES_LOADING.remove(Injector.createKey(resource.getResource()));
+		// checks if there is any request
+		if (waitingRequests != null) {
+			// notifies the other requests
+			for (DeferredInjector request : waitingRequests) {
+				request.onFailed(exception);
+			}
+		}
+	}
+
+	/**
+	 * Invoked when a resource of the items can not be loaded, by this or by another request.<br>
+	 * The scripts not evaluated yet are not loaded anymore, releasing the ones of this request, and the callback is notified
+	 * of the error.
+	 * 
+	 * @param exception exception which describes the error
+	 */
+	private void onFailed(ResourceLoadException exception) {
+		// checks if already failed
+		if (!failed) {
+			failed = true;
+			// scans the scripts not evaluated yet
+			for (InjectableResource script : scripts) {
+				// checks if the script is loaded by this request
+				if (ownedResources.contains(script)) {
+					release(script, exception);
+				}
+			}
+			// stops the evaluation of the scripts
+			scripts.clear();
+			// notifies the caller
+			callback.onError(exception);
+		}
+	}
+
+	/**
+	 * Injects the embedded resource, when the external file is not available, and notifies the injection.
+	 * 
+	 * @param resource resource to inject
+	 */
+	private void injectEmbedded(InjectableResource resource) {
+		// injects the embedded content
+		Injector.ensureInjected(resource.getResource(), resource.getResource().getText(), resource.getElement(), getOwner(resource), getTrigger(), 0D);
+		// applies the style changes, if any
+		InjectedStyleSheet.flush();
+		// notifies the injection
+		onOwnedResourceInjected(resource);
+	}
+
+	/**
+	 * Invoked when a resource, loaded by this request, has been injected, in order to notify this and the other requests
+	 * which are waiting for it and to evaluate the next scripts.
+	 * 
+	 * @param resource resource injected
+	 */
+	private void onOwnedResourceInjected(InjectableResource resource) {
+		// gets and removes the requests waiting for the resource
+		List<DeferredInjector> waitingRequests = RESOURCES_LOADING.remove(Injector.createKey(resource.getResource()));
+		// notifies this request
+		onResourceInjected();
+		// checks if there is any request
+		if (waitingRequests != null) {
+			// notifies the other requests
+			for (DeferredInjector request : waitingRequests) {
+				request.onWaitedResourceInjected(resource);
+			}
+		}
+		// checks if the resource is a script
+		if (!(resource instanceof StyleResource)) {
+			// continues with the next script
+			loadNextScript();
+		}
+	}
+
+	/**
+	 * Invoked when a resource of the items has been injected.
+	 */
+	private void onResourceInjected() {
+		// decrements the counter of resources to wait for
+		pendingResources--;
+		// checks if all resources have been injected
+		// and the request is not failed
+		if (pendingResources == 0 && !failed) {
+			onItemsInjected();
+		}
+	}
+
+	/**
+	 * Invoked when all resources of the items have been injected.
+	 */
+	private void onItemsInjected() {
+		// adds the items into the cache
+		for (InjectableItem item : items) {
+			Injector.addToCache(item);
+		}
+		// notifies the caller
+		callback.onInjected();
+	}
+
+	/**
+	 * Returns the item which triggered the injection, the requested one, which is the last of the sorted items.
+	 * 
+	 * @return the item which triggered the injection
+	 */
+	private InjectableItem getTrigger() {
+		return items.get(items.size() - 1);
+	}
+
+	/**
+	 * Returns the item which a resource belongs to.
+	 * 
+	 * @param resource resource to search
+	 * @return the item which the resource belongs to
+	 */
+	private InjectableItem getOwner(InjectableResource resource) {
+		// scans all items
+		for (InjectableItem item : items) {
+			// checks if the resource belongs to the item
+			if (item.getResources().contains(resource)) {
+				return item;
+			}
+		}
+		// if here, the resource is not found
+		// but this never happens because the resources are collected by the items
+		// then returns the requested one
+		return getTrigger();
+	}
+}
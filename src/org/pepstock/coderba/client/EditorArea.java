@@ -18,9 +18,14 @@ package org.pepstock.coderba.client;
 import org.pepstock.coderba.client.entities.CodeMirror;
 import org.pepstock.coderba.client.entities.Editor;
 import org.pepstock.coderba.client.entities.EditorOptions;
+import org.pepstock.coderba.client.resources.ResourceLoadException;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.DivElement;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.PreElement;
+import com.google.gwt.dom.client.Style.Display;
 import com.google.gwt.dom.client.Style.Position;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.dom.client.TextAreaElement;
@@ -29,7 +34,9 @@ import com.google.gwt.user.client.ui.Widget;
 /**
  * GWT widget to use into user interface which is wrapping a text area and a CodeMirror editor to manage the content of the area
  * itself.<br>
- * Pay attention that the CodeMirror editor must be initialized after the widget will be attached to DOM document.
+ * Pay attention that the CodeMirror editor must be initialized after the widget will be attached to DOM document.<br>
+ * CodeMirror, the language and the theme are not injected until the editor is initialized, optionally in async mode. Until
+ * then, the value of the editor is shown into a lightweight placeholder.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -42,10 +49,26 @@ public class EditorArea extends Widget {
 	private final DivElement wrapper;
 	// text area element to use to highlight
 	private final TextAreaElement element;
+	// placeholder element showing the value until the editor is initialized
+	private final PreElement placeholder;
 	// flag if must be initialized on attach
 	private boolean initOnAttach = true;
 	// flag if must be destroy on detach
 	private boolean destroyOnDetach = true;
+	// flag if the resources must be injected in async mode on attach
+	private boolean initAsync = false;
+	// flag if an async initialization is in progress
+	private boolean initializing = false;
+	// flag if the editor must be created from the text area
+	private boolean useTextArea = true;
+	// flag if the current editor has been created from the text area
+	private boolean createdFromTextArea = false;
+	// document to attach to the editor when it is created
+	private org.pepstock.coderba.client.entities.Document document = null;
+	// flag if the document has been released by the pool with the editor
+	private boolean documentReleased = false;
+	// pool of editors to reuse
+	private EditorPool editorPool = null;
 	// initializer instance
 	private Initializer initializer = null;
 	// editor instance
@@ -77,12 +100,17 @@ public class EditorArea extends Widget {
 		element = Document.get().createTextAreaElement();
 		// sets unique ID
 		element.setId(editorAreaId.getId());
+		// hides the text area until the editor is initialized
+		element.getStyle().setDisplay(Display.NONE);
 		wrapper.appendChild(element);
+		// creates the placeholder
+		placeholder = Document.get().createPreElement();
+		placeholder.getStyle().setMargin(0, Unit.PX);
+		wrapper.appendChild(placeholder);
 		// set element
 		super.setElement(wrapper);
-		// injects codemirror.js java script source
-		Injector.ensureInjected();
 		// creates the option wrapper
+		// CodeMirror is not injected until the editor is initialized
 		options = new EditorOptions();
 	}
 
@@ -141,6 +169,101 @@ public class EditorArea extends Widget {
 		this.initOnAttach = initOnAttach;
 	}
 
+	/**
+	 * Returns <code>true</code> if CodeMirror, the language and the theme will be injected in async mode, when the widget
+	 * will be attached to DOM, without blocking the UI.
+	 * 
+	 * @return <code>true</code> if CodeMirror, the language and the theme will be injected in async mode
+	 */
+	public boolean isInitAsync() {
+		return initAsync;
+	}
+
+	/**
+	 * Sets <code>true</code> if CodeMirror, the language and the theme will be injected in async mode, when the widget will
+	 * be attached to DOM, without blocking the UI. The editor is initialized when they are injected, showing the placeholder
+	 * in the meantime.
+	 * 
+	 * @param initAsync <code>true</code> if CodeMirror, the language and the theme will be injected in async mode
+	 */
+	public void setInitAsync(boolean initAsync) {
+		this.initAsync = initAsync;
+	}
+
+	/**
+	 * Returns <code>true</code> if the editor will be created from the text area, which provides the content of the editor.
+	 * 
+	 * @return <code>true</code> if the editor will be created from the text area
+	 */
+	public boolean isUseTextArea() {
+		return useTextArea;
+	}
+
+	/**
+	 * Sets <code>true</code> if the editor will be created from the text area, which provides the content of the
+	 * editor.<br>
+	 * If <code>false</code>, the editor is created directly into the widget and the value of the options is passed as is to
+	 * CodeMirror, without parsing it as HTML and copying it into the text area, which is better for large contents.
+	 * 
+	 * @param useTextArea <code>true</code> if the editor will be created from the text area
+	 */
+	public void setUseTextArea(boolean useTextArea) {
+		this.useTextArea = useTextArea;
+	}
+
+	/**
+	 * Returns the document which will be attached to the editor when it is created.
+	 * 
+	 * @return the document which will be attached to the editor when it is created or <code>null</code> if not set
+	 */
+	public org.pepstock.coderba.client.entities.Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * Sets a document, usually built by {@link org.pepstock.coderba.client.entities.DocumentBuilder}, which will be attached
+	 * to the editor when it is created, instead of the value of the options.<br>
+	 * When a document is set, the editor is created directly into the widget, without the text area.
+	 * 
+	 * @param document the document which will be attached to the editor when it is created
+	 */
+	public void setDocument(org.pepstock.coderba.client.entities.Document document) {
+		this.document = document;
+		// resets the flag because the document is set by the user
+		this.documentReleased = false;
+	}
+
+	/**
+	 * Stores the document detached from the editor released into the pool, in order to attach it again when the editor area
+	 * is initialized, unless the value is set into the options in the meantime.
+	 * 
+	 * @param document the document detached from the editor released into the pool
+	 */
+	void setReleasedDocument(org.pepstock.coderba.client.entities.Document document) {
+		this.document = document;
+		this.documentReleased = true;
+	}
+
+	/**
+	 * Returns the pool of editors used to take and release the editor.
+	 * 
+	 * @return the pool of editors or <code>null</code> if not set
+	 */
+	public EditorPool getEditorPool() {
+		return editorPool;
+	}
+
+	/**
+	 * Sets the pool of editors used to take the editor, when initialized, and to release it, when destroyed, instead of
+	 * creating and destroying a CodeMirror instance.<br>
+	 * When a pool is set, the editor is created directly into the widget, without the text area.
+	 * 
+	 * @param editorPool the pool of editors
+	 */
+	public void setEditorPool(EditorPool editorPool) {
+		this.editorPool = editorPool;
+	}
+
 	/**
 	 * Returns <code>true</code> if the editor will be destroy after the widget will be detached from DOM.
 	 * 
@@ -187,10 +310,21 @@ public class EditorArea extends Widget {
 		// invokes super
 		// MANDATORY
 		super.onAttach();
-		// checks if must create the editor
-		if (initOnAttach) {
-			// initializes editor
-			initialize();
+		// checks if the editor is not initialized yet
+		if (editor == null) {
+			// shows the value into placeholder
+			updatePlaceholder();
+			// checks if must create the editor
+			if (initOnAttach) {
+				// checks if must be initialized in async
+				if (initAsync) {
+					// initializes editor in async
+					initializeAsync();
+				} else {
+					// initializes editor
+					initialize();
+				}
+			}
 		}
 	}
 
@@ -222,15 +356,54 @@ public class EditorArea extends Widget {
 				// invokes the custom implementation
 				initializer.beforeInit(this);
 			}
-			// checks the configuration contains a starting text
-			if (options.getValue() != null) {
-				// if yes, sets to text area
-				element.setInnerHTML(options.getValue());
+			// injects CodeMirror, language, key map and theme
+			// because the options do not inject them until the editor is created
+			// and the theme could be unloaded after it has been set into the options
+			Injector.ensureInjected();
+			Injector.ensureInjected(options.getLanguage());
+			KeyMap keyMap = options.getKeyMap();
+			if (keyMap != null) {
+				keyMap.inject();
+			}
+			Injector.ensureInjected(options.getTheme());
+			// removes the placeholder
+			placeholder.getStyle().setDisplay(Display.NONE);
+			// checks if the editor must be created from the text area
+			createdFromTextArea = useTextArea && document == null && editorPool == null;
+			if (createdFromTextArea) {
+				// checks the configuration contains a starting text
+				if (options.getValue() != null) {
+					// if yes, sets to text area
+					element.setInnerHTML(options.getValue());
+				}
+				// shows the text area which is hidden by CodeMirror
+				element.getStyle().clearDisplay();
+				// stores the editor area instance into cache
+				EditorAreas.add(this);
+				// creates the CodeMirror editor
+				this.editor = CodeMirror.get().fromTextArea(editorAreaId, this);
+			} else {
+				// checks if the value has been set into the options after the document has been released
+				if (documentReleased && options.getOwnValue() != null) {
+					// discards the released document
+					// in order to create a new one by the options
+					document = null;
+				}
+				documentReleased = false;
+				// stores the editor area instance into cache
+				EditorAreas.add(this);
+				// takes an editor from the pool, if any
+				this.editor = editorPool != null ? editorPool.acquire(editorAreaId, this) : null;
+				// checks if the editor has been taken from the pool
+				if (this.editor == null) {
+					// creates the CodeMirror editor directly into the wrapper
+					this.editor = CodeMirror.get().create(editorAreaId, this);
+					// checks if there is a document to attach
+					if (document != null) {
+						this.editor.swapDoc(document);
+					}
+				}
 			}
-			// stores the editor area instance into cache
-			EditorAreas.add(this);
-			// creates the CodeMirror editor
-			this.editor = CodeMirror.get().fromTextArea(editorAreaId, this);
 			// checks an initializer instance has been set
 			if (initializer != null) {
 				// invokes the custom implementation
@@ -242,6 +415,102 @@ public class EditorArea extends Widget {
 		}
 	}
 
+	/**
+	 * Initializes the CodeMirror editor in async mode.<br>
+	 * CodeMirror, the language, the key map and the theme are injected without blocking the UI and then the editor is
+	 * initialized, if the widget is still attached to DOM.
+	 */
+	public final void initializeAsync() {
+		// checks if editor is already initialized or initializing
+		if (editor == null && !initializing) {
+			initializing = true;
+			// postpones the injection in order to render the placeholder before
+			Scheduler.get().scheduleDeferred(this::injectAsync);
+		}
+	}
+
+	/**
+	 * Injects CodeMirror in async mode and then the language, the key map and the theme, initializing the editor at the
+	 * end.<br>
+	 * The language, the key map and the theme are read from the options only when CodeMirror has been injected, because their
+	 * defaults are provided by CodeMirror.
+	 */
+	private void injectAsync() {
+		Injector.ensureInjectedAsync(new AsyncInjectionCallback(this::injectLanguageAsync));
+	}
+
+	/**
+	 * Injects the language in async mode, continuing with the key map.
+	 */
+	private void injectLanguageAsync() {
+		Injector.ensureInjectedAsync(options.getLanguage(), new AsyncInjectionCallback(this::injectKeyMapAsync));
+	}
+
+	/**
+	 * Injects the key map in async mode, if set, continuing with the theme.
+	 */
+	private void injectKeyMapAsync() {
+		// gets the key map
+		KeyMap keyMap = options.getKeyMap();
+		// checks if there is a key map to inject
+		if (keyMap != null) {
+			Injector.ensureInjectedAsync(keyMap, new AsyncInjectionCallback(this::injectThemeAsync));
+		} else {
+			// continues with the theme
+			injectThemeAsync();
+		}
+	}
+
+	/**
+	 * Injects the theme in async mode, initializing the editor at the end.
+	 */
+	private void injectThemeAsync() {
+		Injector.ensureInjectedAsync(options.getTheme(), new AsyncInjectionCallback(this::onInjectedAsync));
+	}
+
+	/**
+	 * Invoked when CodeMirror, the language, the key map and the theme have been injected in async mode, in order to
+	 * initialize the editor.
+	 */
+	private void onInjectedAsync() {
+		// resets the flag
+		initializing = false;
+		// checks if the widget is still attached
+		if (isAttached()) {
+			// initializes editor
+			initialize();
+		}
+	}
+
+	/**
+	 * Invoked when CodeMirror, the language, the key map or the theme can not be injected in async mode. The editor is not initialized
+	 * and it can be initialized again.
+	 * 
+	 * @param exception exception which describes the resource which can not be loaded
+	 */
+	private void onInjectedAsyncFailed(ResourceLoadException exception) {
+		// resets the flag
+		initializing = false;
+		// reports the error
+		GWT.reportUncaughtException(exception);
+	}
+
+	/**
+	 * Shows the starting value of the editor into the placeholder, if set, without injecting CodeMirror.<br>
+	 * When the value is not set into the options, the value of the document to attach is shown, if any.
+	 */
+	private void updatePlaceholder() {
+		// gets the value set by the user
+		String value = options.getOwnValue();
+		// checks if the value is not set and there is a document to attach
+		if (value == null && document != null) {
+			// uses the value of the document
+			value = document.getValue();
+		}
+		// sets the value as text
+		placeholder.setInnerText(value != null ? value : "");
+	}
+
 	/**
 	 * Destroy the CodeMirror editor.
 	 */
@@ -250,10 +519,31 @@ public class EditorArea extends Widget {
 		if (editor != null) {
 			// notify before destroy
 			EditorAreas.fireBeforeDestory(this);
-			// detaches text area
-			editor.toTextArea();
-			// removes wrapper
-			editor.getWrapperElement().removeFromParent();
+			// checks if the editor can be released into the pool
+			if (createdFromTextArea || editorPool == null || !editorPool.release(this)) {
+				// restores the options in order to be able to initialize the editor again
+				CodeMirror.get().restoreOptions(editor, this);
+				// checks if the editor has been created from the text area
+				if (createdFromTextArea) {
+					// detaches text area
+					editor.toTextArea();
+				} else if (document != null) {
+					// detaches the document set by the user
+					// in order to be able to attach it to a new editor when initialized again
+					CodeMirror.get().detachDocument(editor);
+				}
+				// destroys the editor, removing handlers and wrapper
+				CodeMirror.get().destroy(editor);
+			}
+			// checks if the editor has been created from the text area
+			if (createdFromTextArea) {
+				// hides the text area, shown by CodeMirror when detached
+				element.getStyle().setDisplay(Display.NONE);
+				createdFromTextArea = false;
+			}
+			// shows the placeholder as before the initialization
+			updatePlaceholder();
+			placeholder.getStyle().clearDisplay();
 			// destroy ...
 			editor = null;
 			// removes editor area instance from cache
@@ -261,4 +551,46 @@ public class EditorArea extends Widget {
 		}
 	}
 
+	/**
+	 * Callback used to inject CodeMirror, the language, the key map and the theme in async mode, one after the other,
+	 * resetting the initialization if any resource can not be loaded.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private final class AsyncInjectionCallback implements InjectionCallback {
+
+		// next step to execute when the item is injected
+		private final Runnable next;
+
+		/**
+		 * Creates the callback with the next step to execute.
+		 * 
+		 * @param next next step to execute when the item is injected
+		 */
+		private AsyncInjectionCallback(Runnable next) {
+			this.next = next;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.coderba.client.InjectionCallback#onInjected()
+		 */
+		@Override
+		public void onInjected() {
+			next.run();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.coderba.client.InjectionCallback#onError(org.pepstock.coderba.client.resources.ResourceLoadException)
+		 */
+		@Override
+		public void onError(ResourceLoadException exception) {
+			onInjectedAsyncFailed(exception);
+		}
+	}
+
 }
@@ -15,6 +15,7 @@
 */
 package org.pepstock.coderba.client;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -128,6 +129,15 @@ public final class EditorAreas {
 		return null;
 	}
 
+	/**
+	 * Returns all editor area instances in the cache.
+	 * 
+	 * @return all editor area instances in the cache
+	 */
+	static List<EditorArea> values() {
+		return new ArrayList<>(EDITOR_AREA_INSTANCES.values());
+	}
+
 	/**
 	 * Removes an editor area instance by its id.
 	 * 
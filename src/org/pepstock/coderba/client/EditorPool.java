@@ -0,0 +1,140 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.LinkedList;
+
+import org.pepstock.coderba.client.entities.CodeMirror;
+import org.pepstock.coderba.client.entities.Document;
+import org.pepstock.coderba.client.entities.Editor;
+
+/**
+ * Keeps a bounded number of warm editors, released by the editor areas when they are destroyed, in order to reuse them for
+ * other editor areas, instead of creating new CodeMirror instances.<br>
+ * When an editor is released, its document is detached and kept by the editor area, with its history, selections and
+ * markers, then attached again when the editor area is initialized, unless the value is set into the options in the
+ * meantime. Reusing an editor costs a document swap and the application of the changed options, instead of a full
+ * construction.<br>
+ * The editor areas which use a pool create their editors directly, without the text area.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see EditorArea#setEditorPool(EditorPool)
+ */
+public final class EditorPool {
+
+	/**
+	 * Default maximum amount of editors kept by the pool, <b>{@value DEFAULT_MAX_SIZE}</b>.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4;
+
+	// editors ready to be reused
+	private final LinkedList<Editor> editors = new LinkedList<>();
+	// maximum amount of editors kept by the pool
+	private final int maxSize;
+
+	/**
+	 * Creates a pool with the default maximum amount of editors, {@link EditorPool#DEFAULT_MAX_SIZE}.
+	 */
+	public EditorPool() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a pool with the maximum amount of editors to keep.
+	 * 
+	 * @param maxSize maximum amount of editors to keep
+	 */
+	public EditorPool(int maxSize) {
+		// checks if argument is consistent
+		if (maxSize < 1) {
+			// if not, exception
+			throw new IllegalArgumentException("Maximum size of the pool is not valid: " + maxSize);
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the maximum amount of editors kept by the pool.
+	 * 
+	 * @return the maximum amount of editors kept by the pool
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the amount of editors ready to be reused.
+	 * 
+	 * @return the amount of editors ready to be reused
+	 */
+	public int size() {
+		return editors.size();
+	}
+
+	/**
+	 * Removes all editors from the pool, destroying them.
+	 */
+	public void clear() {
+		// scans all editors
+		for (Editor editor : editors) {
+			// destroys the editor
+			CodeMirror.get().destroy(editor);
+		}
+		editors.clear();
+	}
+
+	/**
+	 * Takes an editor from the pool, if there is any, binding it to the editor area.
+	 * 
+	 * @param id editor area id instance
+	 * @param editorArea editor area instance
+	 * @return the editor bound to the editor area or <code>null</code> if the pool is empty
+	 */
+	Editor acquire(EditorAreaId id, EditorArea editorArea) {
+		// checks if there is any editor
+		if (editors.isEmpty()) {
+			return null;
+		}
+		// reuses the most recent editor
+		return CodeMirror.get().reuse(editors.removeFirst(), id, editorArea);
+	}
+
+	/**
+	 * Releases the editor of the editor area into the pool, if the pool is not full.<br>
+	 * The document of the editor is kept by the editor area, in order to attach it when the editor area is initialized again.
+	 * If the value is set into the options of the editor area before, a new document is created by the options instead.
+	 * 
+	 * @param editorArea editor area which the editor belongs to
+	 * @return <code>true</code> if the editor has been released into the pool, otherwise <code>false</code> and the editor
+	 *         must be destroyed
+	 */
+	boolean release(EditorArea editorArea) {
+		// checks if the pool is full
+		if (editors.size() >= maxSize) {
+			return false;
+		}
+		// gets the editor
+		Editor editor = editorArea.getEditor();
+		// releases the editor, getting its document
+		Document document = CodeMirror.get().release(editor, editorArea);
+		// stores the document into editor area
+		editorArea.setReleasedDocument(document);
+		// adds the editor to the pool
+		editors.addFirst(editor);
+		return true;
+	}
+
+}
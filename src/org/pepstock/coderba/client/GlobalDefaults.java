@@ -133,6 +133,8 @@ public final class GlobalDefaults implements IsDefaultOptions {
 	// PAY ATTENTION: must be defined AFTER all other constants because
 	// the constants are used into constructor
 	private static final GlobalDefaults INSTANCE = new GlobalDefaults();
+	// policy to apply to large documents, disabled by default
+	private LargeFilePolicy largeFilePolicy = null;
 
 	/**
 	 * To avoid any instantiation
@@ -153,6 +155,25 @@ public final class GlobalDefaults implements IsDefaultOptions {
 		return INSTANCE;
 	}
 
+	/**
+	 * Returns the policy applied to the editors to manage large documents, when not set into the editor options.
+	 * 
+	 * @return the policy applied to the editors to manage large documents or <code>null</code> if not set
+	 */
+	public LargeFilePolicy getLargeFilePolicy() {
+		return largeFilePolicy;
+	}
+
+	/**
+	 * Sets the policy applied to the editors to manage large documents, when not set into the editor options.<br>
+	 * It is applied to the editors which are initialized after it has been set.
+	 * 
+	 * @param largeFilePolicy the policy applied to the editors to manage large documents or <code>null</code> to disable it
+	 */
+	public void setLargeFilePolicy(LargeFilePolicy largeFilePolicy) {
+		this.largeFilePolicy = largeFilePolicy;
+	}
+
 	/**
 	 * The starting value of the editor
 	 * 
@@ -20,6 +20,8 @@ import java.util.List;
 
 import org.pepstock.coderba.client.resources.InjectableResource;
 
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+
 /**
  * Defines an object which must inject script or CSS style resources into DOM document, at runtime.<br>
  * It must have a name.
@@ -31,6 +33,8 @@ public abstract class InjectableItem extends NamedItem {
 
 	// internal collections of resources to be inject
 	private final List<InjectableResource> resources = new LinkedList<>();
+	// internal collections of items which this item depends on
+	private final List<InjectableItem> dependencies = new LinkedList<>();
 
 	/**
 	 * Creates the object with a mandatory name as string.
@@ -50,4 +54,34 @@ public abstract class InjectableItem extends NamedItem {
 		return resources;
 	}
 
+	/**
+	 * Returns the collection of items which this item depends on, to classes which extend this one.<br>
+	 * The dependencies are injected before this item.
+	 * 
+	 * @return the collection of items which this item depends on
+	 */
+	protected final List<InjectableItem> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * Returns the client bundle which contains the minified resources as external files, to use to load the resources of the
+	 * item in async mode, by their URLs, when the resources type is minified.<br>
+	 * By default, it returns the external resources, for items without minified resources.
+	 * 
+	 * @return the client bundle which contains the minified resources as external files
+	 */
+	ClientBundleWithLookup getMinifiedResources() {
+		return getExternalResources();
+	}
+
+	/**
+	 * Returns the client bundle which contains the resources as external files, to use to load the resources of the item in
+	 * async mode by their URLs.<br>
+	 * The external resources are searched by the name of the resources of the item.
+	 * 
+	 * @return the client bundle which contains the resources as external files
+	 */
+	abstract ClientBundleWithLookup getExternalResources();
+
 }
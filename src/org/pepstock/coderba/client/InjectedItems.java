@@ -15,7 +15,9 @@
 */
 package org.pepstock.coderba.client;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.pepstock.coderba.client.commons.HasName;
@@ -71,4 +73,13 @@ public abstract class InjectedItems<T extends HasName> {
 		return null;
 	}
 
+	/**
+	 * Returns all injectable items in the cache.
+	 * 
+	 * @return all injectable items in the cache
+	 */
+	final List<T> values() {
+		return new ArrayList<>(instances.values());
+	}
+
 }
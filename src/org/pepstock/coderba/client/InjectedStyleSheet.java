@@ -0,0 +1,140 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.pepstock.coderba.client.commons.JsHelper;
+
+/**
+ * Manages the CSS code of the injected style resources by a style sheet for each resource, managed by CODERBA, instead of a
+ * STYLE element in the body for each resource.<br>
+ * The style sheets are adopted by the document if the browser supports constructable style sheets, otherwise they are STYLE
+ * elements in the head.<br>
+ * The changes are applied in batch, when {@link InjectedStyleSheet#flush()} is invoked, adding and removing only the style
+ * sheets of the changed resources.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class InjectedStyleSheet {
+
+	// contains the keys of the resources in the style sheets, including the changes not applied yet
+	private static final Set<String> KEYS = new HashSet<>();
+	// contains the CSS code of the resources to add, by the order of injection
+	// K = key of resource
+	// V = CSS code
+	private static final Map<String, String> ADDED = new LinkedHashMap<>();
+	// contains the keys of the resources to remove
+	private static final Set<String> REMOVED = new HashSet<>();
+	// total time spent to apply the changes
+	private static double flushTime = 0D;
+	// name of the User Timing measure of the flush
+	private static final String FLUSH_MEASURE_NAME = "stylesheet";
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private InjectedStyleSheet() {
+		// do nothing
+	}
+
+	/**
+	 * Adds the CSS code of a resource as style sheet. The change is applied by the next flush.
+	 * 
+	 * @param key key of resource
+	 * @param css CSS code of resource
+	 */
+	static void add(String key, String css) {
+		KEYS.add(key);
+		REMOVED.remove(key);
+		ADDED.put(key, css);
+	}
+
+	/**
+	 * Removes the style sheet of a resource. The change is applied by the next flush.
+	 * 
+	 * @param key key of resource
+	 * @return <code>true</code> if the resource was in the style sheets
+	 */
+	static boolean remove(String key) {
+		// removes the resource
+		if (KEYS.remove(key)) {
+			// the style sheet could be already applied
+			// then it is removed in any case
+			ADDED.remove(key);
+			REMOVED.add(key);
+			return true;
+		}
+		// if here, the resource was not in the style sheets
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the CSS code of a resource is in the style sheets.
+	 * 
+	 * @param key key of resource
+	 * @return <code>true</code> if the CSS code of a resource is in the style sheets
+	 */
+	static boolean contains(String key) {
+		return KEYS.contains(key);
+	}
+
+	/**
+	 * Applies all changes to the style sheets, if there is any.
+	 */
+	static void flush() {
+		// checks if there is any change
+		if (!ADDED.isEmpty() || !REMOVED.isEmpty()) {
+			// copies and resets the changes before applying them
+			// because the helper could inject its script at first invocation
+			List<String> removed = new ArrayList<>(REMOVED);
+			Map<String, String> added = new LinkedHashMap<>(ADDED);
+			REMOVED.clear();
+			ADDED.clear();
+			// gets the helper before starting the measure
+			// because the helper could inject its script at first invocation
+			JsHelper helper = JsHelper.get();
+			// starts the measure
+			double start = InjectionTimer.start(FLUSH_MEASURE_NAME);
+			// removes the style sheets of the unloaded resources
+			for (String key : removed) {
+				helper.removeStyleSheet(key);
+			}
+			// adds the style sheets of the injected resources
+			for (Entry<String, String> entry : added.entrySet()) {
+				helper.addStyleSheet(entry.getKey(), entry.getValue());
+			}
+			// ends the measure
+			flushTime += InjectionTimer.end(FLUSH_MEASURE_NAME, start);
+		}
+	}
+
+	/**
+	 * Returns the total time spent to apply the changes to the style sheets in milliseconds.
+	 * 
+	 * @return the total time spent to apply the changes to the style sheets in milliseconds
+	 */
+	static double getFlushTime() {
+		return flushTime;
+	}
+}
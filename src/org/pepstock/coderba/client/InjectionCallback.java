@@ -0,0 +1,47 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import org.pepstock.coderba.client.resources.ResourceLoadException;
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Callback which is invoked when an item, requested to be injected in async mode, is ready to be used.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Injector#ensureInjectedAsync(InjectableItem, InjectionCallback)
+ * @see Injector#ensureInjectedAsync(Language, InjectionCallback)
+ */
+public interface InjectionCallback {
+
+	/**
+	 * Invoked when all resources of the requested item have been injected into DOM document.
+	 */
+	void onInjected();
+
+	/**
+	 * Invoked when a resource of the requested item, or of the items which it depends on, can not be loaded.<br>
+	 * The requested item is not injected and it can be requested again. By default, the exception is reported to the uncaught
+	 * exception handler of GWT.
+	 * 
+	 * @param exception exception which describes the resource which can not be loaded
+	 */
+	default void onError(ResourceLoadException exception) {
+		GWT.reportUncaughtException(exception);
+	}
+
+}
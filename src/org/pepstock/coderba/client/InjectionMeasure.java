@@ -0,0 +1,146 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+/**
+ * Measure of the injection of a resource, with its size, the time spent to load it and to evaluate it and the items which
+ * the resource belongs to and which triggered the injection.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see InjectionStats
+ */
+public final class InjectionMeasure {
+
+	// name of resource
+	private final String resourceName;
+	// name of item which the resource belongs to
+	private final String itemName;
+	// name of item which triggered the injection
+	private final String triggerName;
+	// if the resource is a style
+	private final boolean style;
+	// size of resource in characters
+	private final int size;
+	// time spent to load the resource in milliseconds
+	private final double fetchTime;
+	// time spent to evaluate the resource in milliseconds
+	private final double evalTime;
+	// timestamp of the injection
+	private final double timestamp;
+
+	/**
+	 * Creates the measure.
+	 * 
+	 * @param resourceName name of resource
+	 * @param item item which the resource belongs to, could be <code>null</code>
+	 * @param trigger item which triggered the injection, could be <code>null</code>
+	 * @param style <code>true</code> if the resource is a style
+	 * @param size size of resource in characters
+	 * @param fetchTime time spent to load the resource in milliseconds
+	 * @param evalTime time spent to evaluate the resource in milliseconds
+	 * @param timestamp timestamp of the injection
+	 */
+	InjectionMeasure(String resourceName, InjectableItem item, InjectableItem trigger, boolean style, int size, double fetchTime, double evalTime, double timestamp) {
+		this.resourceName = resourceName;
+		this.itemName = item != null ? item.getName() : null;
+		this.triggerName = trigger != null ? trigger.getName() : null;
+		this.style = style;
+		this.size = size;
+		this.fetchTime = fetchTime;
+		this.evalTime = evalTime;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Returns the name of the resource.
+	 * 
+	 * @return the name of the resource
+	 */
+	public String getResourceName() {
+		return resourceName;
+	}
+
+	/**
+	 * Returns the name of the item which the resource belongs to.
+	 * 
+	 * @return the name of the item which the resource belongs to or <code>null</code> if the resource has been injected
+	 *         directly, like CodeMirror
+	 */
+	public String getItemName() {
+		return itemName;
+	}
+
+	/**
+	 * Returns the name of the item which triggered the injection. It is different from the item which the resource belongs
+	 * to when the resource has been injected as dependency.
+	 * 
+	 * @return the name of the item which triggered the injection or <code>null</code> if the resource has been injected
+	 *         directly, like CodeMirror
+	 */
+	public String getTriggerName() {
+		return triggerName;
+	}
+
+	/**
+	 * Returns <code>true</code> if the resource is a style.
+	 * 
+	 * @return <code>true</code> if the resource is a style
+	 */
+	public boolean isStyle() {
+		return style;
+	}
+
+	/**
+	 * Returns the size of the resource in characters.
+	 * 
+	 * @return the size of the resource in characters or <code>0</code> if the resource has been loaded as external file
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the time spent to load the resource in milliseconds.<br>
+	 * For the resources loaded as external files, it includes the evaluation time.
+	 * 
+	 * @return the time spent to load the resource in milliseconds or <code>0</code> if the resource is embedded
+	 */
+	public double getFetchTime() {
+		return fetchTime;
+	}
+
+	/**
+	 * Returns the time spent to evaluate the resource in milliseconds.<br>
+	 * The styles are evaluated all together when the style sheets are applied, then the time is available by
+	 * {@link InjectionStats#getStyleSheetTime()}.
+	 * 
+	 * @return the time spent to evaluate the resource in milliseconds or <code>0</code> if the resource is a style or it has
+	 *         been loaded as external file
+	 */
+	public double getEvalTime() {
+		return evalTime;
+	}
+
+	/**
+	 * Returns the timestamp of the injection in milliseconds, measured from the beginning of the page load.
+	 * 
+	 * @return the timestamp of the injection in milliseconds
+	 */
+	public double getTimestamp() {
+		return timestamp;
+	}
+
+}
@@ -0,0 +1,141 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of the measures of all resources injected by {@link Injector}, to know which modes, addons, themes and keymaps
+ * are dominating the startup.<br>
+ * The same measures are available as User Timing measures, with the prefix <b>{@value InjectionTimer#PREFIX}</b>, in the
+ * browser performance tools.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Injector#getStats()
+ */
+public final class InjectionStats {
+
+	// measures of the injected resources
+	private final List<InjectionMeasure> measures;
+	// time spent to apply the style sheets
+	private final double styleSheetTime;
+
+	/**
+	 * Creates the snapshot copying the measures.
+	 * 
+	 * @param measures measures of the injected resources
+	 * @param styleSheetTime time spent to apply the style sheets in milliseconds
+	 */
+	InjectionStats(List<InjectionMeasure> measures, double styleSheetTime) {
+		this.measures = Collections.unmodifiableList(new ArrayList<>(measures));
+		this.styleSheetTime = styleSheetTime;
+	}
+
+	/**
+	 * Returns the measures of the injected resources, by the order of injection.
+	 * 
+	 * @return the unmodifiable list of the measures of the injected resources
+	 */
+	public List<InjectionMeasure> getMeasures() {
+		return measures;
+	}
+
+	/**
+	 * Returns the measures of the resources which belong to an item.
+	 * 
+	 * @param itemName name of the item
+	 * @return the list of the measures of the resources which belong to the item
+	 */
+	public List<InjectionMeasure> getMeasures(String itemName) {
+		// creates the result
+		List<InjectionMeasure> result = new ArrayList<>();
+		// checks if argument is consistent
+		if (itemName != null) {
+			// scans all measures
+			for (InjectionMeasure measure : measures) {
+				// checks if the resource belongs to the item
+				if (itemName.equals(measure.getItemName())) {
+					result.add(measure);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the amount of injected resources.
+	 * 
+	 * @return the amount of injected resources
+	 */
+	public int getCount() {
+		return measures.size();
+	}
+
+	/**
+	 * Returns the total size of the injected resources in characters.
+	 * 
+	 * @return the total size of the injected resources in characters
+	 */
+	public long getTotalSize() {
+		long total = 0;
+		// scans all measures
+		for (InjectionMeasure measure : measures) {
+			total += measure.getSize();
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the total time spent to load the resources in milliseconds.
+	 * 
+	 * @return the total time spent to load the resources in milliseconds
+	 */
+	public double getTotalFetchTime() {
+		double total = 0D;
+		// scans all measures
+		for (InjectionMeasure measure : measures) {
+			total += measure.getFetchTime();
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the total time spent to evaluate the resources in milliseconds, including the time spent to apply the style
+	 * sheet.
+	 * 
+	 * @return the total time spent to evaluate the resources in milliseconds
+	 */
+	public double getTotalEvalTime() {
+		double total = styleSheetTime;
+		// scans all measures
+		for (InjectionMeasure measure : measures) {
+			total += measure.getEvalTime();
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the total time spent to apply the style sheets of the injected styles, in milliseconds.
+	 * 
+	 * @return the total time spent to apply the style sheets in milliseconds
+	 */
+	public double getStyleSheetTime() {
+		return styleSheetTime;
+	}
+
+}
@@ -0,0 +1,80 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import org.pepstock.coderba.client.utils.Performance;
+
+/**
+ * Utility to measure the time spent to load and inject the resources, creating the User Timing marks and measures, which
+ * are shown by the browser performance tools.<br>
+ * All measures have the prefix <b>{@value PREFIX}</b>.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class InjectionTimer {
+
+	/**
+	 * Prefix of all User Timing measures.
+	 */
+	static final String PREFIX = "coderba:";
+	// suffix of the mark at the start of a measure
+	private static final String START_SUFFIX = ":start";
+	// suffix of the mark at the end of a measure
+	private static final String END_SUFFIX = ":end";
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private InjectionTimer() {
+		// do nothing
+	}
+
+	/**
+	 * Starts a measure, creating the start mark.
+	 * 
+	 * @param name name of the measure, without prefix
+	 * @return the timestamp of the start, to pass to {@link InjectionTimer#end(String, double)}
+	 */
+	static double start(String name) {
+		// creates the start mark
+		Performance.mark(PREFIX + name + START_SUFFIX);
+		return Performance.now();
+	}
+
+	/**
+	 * Ends a measure, creating the end mark and the measure between the start and end marks.
+	 * 
+	 * @param name name of the measure, without prefix
+	 * @param start the timestamp returned by {@link InjectionTimer#start(String)}
+	 * @return the elapsed time in milliseconds
+	 */
+	static double end(String name, double start) {
+		// calculates the elapsed time
+		double elapsed = Performance.now() - start;
+		// creates the marks names
+		String measureName = PREFIX + name;
+		String startMark = measureName + START_SUFFIX;
+		String endMark = measureName + END_SUFFIX;
+		// creates the end mark and the measure
+		Performance.mark(endMark);
+		Performance.measure(measureName, startMark, endMark);
+		// removes the marks, being the measure enough
+		Performance.clearMarks(startMark);
+		Performance.clearMarks(endMark);
+		return elapsed;
+	}
+}
@@ -18,16 +18,30 @@ package org.pepstock.coderba.client;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.pepstock.coderba.client.entities.CodeMirror;
+import org.pepstock.coderba.client.entities.Defaults;
 import org.pepstock.coderba.client.entities.ModeSpecification;
+import org.pepstock.coderba.client.resources.ExternalResourceLoader;
 import org.pepstock.coderba.client.resources.InjectableResource;
+import org.pepstock.coderba.client.resources.ResourceLoadException;
 import org.pepstock.coderba.client.resources.ResourcesType;
+import org.pepstock.coderba.client.utils.Performance;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.ScriptElement;
+import com.google.gwt.dom.client.StyleElement;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.ExternalTextResource;
+import com.google.gwt.resources.client.ResourceCallback;
+import com.google.gwt.resources.client.ResourceException;
 import com.google.gwt.resources.client.ResourcePrototype;
 import com.google.gwt.resources.client.TextResource;
 
@@ -46,8 +60,18 @@ public final class Injector {
 	private static final String CODERBA_PREFIX_SCRIPT_ELEMENT_ID = "_coderba_";
 	// contains all script object injected
 	private static final Set<String> ELEMENTS_INJECTED = new HashSet<>();
+	// contains the LINK elements of the style resources loaded as external files, by resource key
+	private static final Map<String, Element> STYLE_LINKS = new HashMap<>();
 	// internal comparator to sort the injectable resources, adding priority to style resources
-	private static final Comparator<InjectableResource> COMPARATOR = (InjectableResource::compare);
+	static final Comparator<InjectableResource> COMPARATOR = (InjectableResource::compare);
+	// contains the measures of all injected resources
+	private static final List<InjectionMeasure> MEASURES = new LinkedList<>();
+	// prefix of the User Timing measures of the injection
+	private static final String INJECT_MEASURE_PREFIX = "inject:";
+	// name of the User Timing measure of the loading of CodeMirror in async mode
+	private static final String CODEMIRROR_FETCH_MEASURE_NAME = "fetch:codemirror";
+	// callbacks waiting for CodeMirror which is loading in async mode, null if not loading
+	private static List<InjectionCallback> codemirrorCallbacks = null;
 
 	/**
 	 * To avoid any instantiation
@@ -65,6 +89,133 @@ public final class Injector {
 		ensureInjected(ResourcesType.getClientBundle().codemirror());
 	}
 
+	/**
+	 * Injects CodeMirror java script and CSS style sheet files in async mode, without blocking the UI.<br>
+	 * When the resources type is {@link org.pepstock.coderba.client.resources.ExternalResources}, CodeMirror is loaded by its
+	 * URL, when it is {@link org.pepstock.coderba.client.resources.DeferredResources}, its code is downloaded, otherwise the
+	 * embedded code is evaluated in a separate task.<br>
+	 * If CodeMirror has been already injected, the callback is invoked immediately.
+	 * 
+	 * @param callback callback invoked when CodeMirror is ready to be used
+	 */
+	public static void ensureInjectedAsync(InjectionCallback callback) {
+		// checks if argument is consistent
+		if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Injection callback is null");
+		}
+		// gets CodeMirror resource
+		final ResourcePrototype resource = ResourcesType.getClientBundle().codemirror();
+		// checks if already injected
+		if (isInjected(resource)) {
+			// injects the CSS if missing
+			ensureInjected();
+			// notifies the caller
+			callback.onInjected();
+			return;
+		}
+		// checks if CodeMirror is already loading
+		if (codemirrorCallbacks != null) {
+			// waits for the loading
+			codemirrorCallbacks.add(callback);
+			return;
+		}
+		codemirrorCallbacks = new LinkedList<>();
+		codemirrorCallbacks.add(callback);
+		// checks the type of resource
+		if (resource instanceof DataResource) {
+			// starts the measure of the loading
+			final double start = InjectionTimer.start(CODEMIRROR_FETCH_MEASURE_NAME);
+			// creates the script element which loads CodeMirror by its URL
+			final ScriptElement element = Document.get().createScriptElement();
+			element.setSrc(((DataResource) resource).getSafeUri().asString());
+			// loads CodeMirror
+			ExternalResourceLoader.load(element, () -> {
+				// sets CodeMirror as injected
+				setInjected(resource, false, null, null, InjectionTimer.end(CODEMIRROR_FETCH_MEASURE_NAME, start));
+				onCodeMirrorInjected();
+			}, () -> {
+				// removes the element in order to be able to load it again
+				element.removeFromParent();
+				onCodeMirrorNotLoaded(null);
+			});
+		} else if (resource instanceof ExternalTextResource) {
+			// starts the measure of the loading
+			final double start = InjectionTimer.start(CODEMIRROR_FETCH_MEASURE_NAME);
+			try {
+				// downloads CodeMirror code
+				((ExternalTextResource) resource).getText(new ResourceCallback<TextResource>() {
+
+					/*
+					 * (non-Javadoc)
+					 * 
+					 * @see
+					 * com.google.gwt.resources.client.ResourceCallback#onError(com.google.gwt.resources.client.ResourceException)
+					 */
+					@Override
+					public void onError(ResourceException e) {
+						onCodeMirrorNotLoaded(e);
+					}
+
+					/*
+					 * (non-Javadoc)
+					 * 
+					 * @see
+					 * com.google.gwt.resources.client.ResourceCallback#onSuccess(com.google.gwt.resources.client.ResourcePrototype)
+					 */
+					@Override
+					public void onSuccess(TextResource textResource) {
+						// injects the downloaded code as CodeMirror resource
+						ensureInjected(resource, textResource.getText(), Document.get().createScriptElement(), null, null, InjectionTimer.end(CODEMIRROR_FETCH_MEASURE_NAME, start));
+						onCodeMirrorInjected();
+					}
+				});
+			} catch (ResourceException e) {
+				// if here, there is an error on resource callback
+				onCodeMirrorNotLoaded(e);
+			}
+		} else {
+			// evaluates the embedded code in a separate task
+			Scheduler.get().scheduleDeferred(() -> {
+				ensureInjected(resource);
+				onCodeMirrorInjected();
+			});
+		}
+	}
+
+	/**
+	 * Invoked when CodeMirror has been injected in async mode, in order to inject the CSS and to notify the callbacks.
+	 */
+	private static void onCodeMirrorInjected() {
+		// injects the CSS if missing
+		ensureInjected();
+		// gets and resets the callbacks
+		List<InjectionCallback> callbacks = codemirrorCallbacks;
+		codemirrorCallbacks = null;
+		// notifies the callbacks
+		for (InjectionCallback callback : callbacks) {
+			callback.onInjected();
+		}
+	}
+
+	/**
+	 * Invoked when CodeMirror can not be loaded in async mode, in order to notify the callbacks. CodeMirror can be requested
+	 * again.
+	 * 
+	 * @param cause exception which caused the error, could be <code>null</code>
+	 */
+	private static void onCodeMirrorNotLoaded(Throwable cause) {
+		// gets and resets the callbacks, in order to be able to load it again
+		List<InjectionCallback> callbacks = codemirrorCallbacks;
+		codemirrorCallbacks = null;
+		// creates the exception
+		ResourceLoadException exception = new ResourceLoadException("Unable to load CodeMirror resource", cause);
+		// notifies the callbacks
+		for (InjectionCallback callback : callbacks) {
+			callback.onError(exception);
+		}
+	}
+
 	/**
 	 * Injects a language object, injecting the mode resources related to the language.
 	 * 
@@ -73,6 +224,8 @@ public final class Injector {
 	public static void ensureInjected(Language language) {
 		// check if argument is consistent
 		if (language != null) {
+			// removes the language from the preloaders
+			Preloader.onRequested(language);
 			// injects CodeMirror if missing
 			ensureInjected();
 			// injects mode of language
@@ -94,10 +247,8 @@ public final class Injector {
 	private static void ensureInjected(Mode mode) {
 		// check if argument is consistent
 		if (mode != null) {
-			// injects mode
+			// injects mode and its dependencies
 			internalEnsureInjected(mode);
-			// adds mode into cache
-			Modes.get().add(mode);
 		}
 	}
 
@@ -110,12 +261,12 @@ public final class Injector {
 	static void ensureInjected(AddOn addon) {
 		// check if argument is consistent
 		if (addon != null) {
+			// removes the addon from the preloaders
+			Preloader.onRequested(addon);
 			// injects CodeMirror if missing
 			ensureInjected();
-			// injects addon
+			// injects addon and its dependencies
 			internalEnsureInjected(addon);
-			// adds addon into cache
-			AddOns.get().add(addon);
 		}
 	}
 
@@ -130,10 +281,8 @@ public final class Injector {
 		if (keyMap != null) {
 			// injects CodeMirror if missing
 			ensureInjected();
-			// injects keymap
+			// injects keymap and its dependencies
 			internalEnsureInjected(keyMap);
-			// adds keymap into cache
-			KeyMaps.get().add(keyMap);
 		}
 	}
 
@@ -145,15 +294,97 @@ public final class Injector {
 	public static void ensureInjected(Theme theme) {
 		// check if argument is consistent
 		if (theme != null) {
+			// removes the theme from the preloaders
+			Preloader.onRequested(theme);
 			// injects CodeMirror if missing
 			ensureInjected();
-			// injects theme
+			// injects theme and its dependencies
 			internalEnsureInjected(theme);
-			// adds theme into cache
-			Themes.get().add(theme);
 		}
 	}
 
+	/**
+	 * Injects an injectable item (mode, addon, theme or keymap) in async mode, without blocking the UI.<br>
+	 * The resources of the item and of its dependencies are loaded as external files, one file for each resource, by their
+	 * URLs and injected by the order of the dependencies. Concurrent requests for the same resources are deduplicated and all
+	 * callbacks are notified when the resources are ready.<br>
+	 * When the <code>coderba.injection</code> property of the GWT module is set to <code>deferred</code>, the code of the
+	 * items is not compiled into the application and they can be injected only by this method.<br>
+	 * If the item has been already injected, the callback is invoked immediately.
+	 * 
+	 * @param item injectable item to inject
+	 * @param callback callback invoked when the item is ready to be used
+	 */
+	public static void ensureInjectedAsync(InjectableItem item, InjectionCallback callback) {
+		// checks if arguments are consistent
+		if (item == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Injectable item is null");
+		} else if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Injection callback is null");
+		}
+		// removes the item from the preloaders
+		Preloader.onRequested(item);
+		// injects CodeMirror in async mode if missing
+		ensureInjectedAsync(new InjectionCallback() {
+
+			@Override
+			public void onInjected() {
+				// starts to load the resources in async mode
+				new DeferredInjector(resolve(item), callback).inject();
+			}
+
+			@Override
+			public void onError(ResourceLoadException exception) {
+				// notifies the caller
+				callback.onError(exception);
+			}
+		});
+	}
+
+	/**
+	 * Injects a language object in async mode, injecting the mode resources related to the language, without blocking the
+	 * UI.<br>
+	 * If the language has been already injected, the callback is invoked immediately.
+	 * 
+	 * @param language language instance
+	 * @param callback callback invoked when the language is ready to be used
+	 */
+	public static void ensureInjectedAsync(Language language, InjectionCallback callback) {
+		// checks if arguments are consistent
+		if (language == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Language is null");
+		} else if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Injection callback is null");
+		}
+		// removes the language from the preloaders
+		Preloader.onRequested(language);
+		// injects mode of language in async
+		ensureInjectedAsync(language.getMode(), new InjectionCallback() {
+
+			@Override
+			public void onInjected() {
+				// gets the mode specification, loaded by the mode
+				ModeSpecification modeSpec = CodeMirror.get().getModeSpecification(language);
+				// loads the the mode specification into language
+				language.setModeSpecification(modeSpec);
+				// adds language into cache
+				Languages.get().add(language);
+				// notifies the caller
+				callback.onInjected();
+			}
+
+			@Override
+			public void onError(ResourceLoadException exception) {
+				// notifies the caller
+				callback.onError(exception);
+			}
+		});
+	}
+
 	/**
 	 * Injects a script resource if not injected yet.
 	 * 
@@ -167,36 +398,161 @@ public final class Injector {
 	 * Injects a script or a style resource if not injected yet.
 	 * 
 	 * @param resource text resource
-	 * @param asStyle if <code>true</code>, the text resource is injected as STYLE, otherwise SCRIPT.
+	 * @param asStyle if <code>true</code>, the text resource is injected as style, into a style sheet managed by CODERBA,
+	 *            otherwise as SCRIPT.
 	 */
 	public static void ensureInjected(ResourcePrototype resource, boolean asStyle) {
 		if (asStyle) {
-			ensureInjected(resource, Document.get().createStyleElement());
+			ensureInjected(resource, Document.get().createStyleElement(), null, null);
 		} else {
-			ensureInjected(resource, Document.get().createScriptElement());
+			ensureInjected(resource, Document.get().createScriptElement(), null, null);
 		}
+		// applies the style changes, if any
+		InjectedStyleSheet.flush();
 	}
 
 	/**
-	 * Injects script or style resources if not injected yet by an injectable item.
+	 * Injects script or style resources if not injected yet by an injectable item and by the items which it depends on.<br>
+	 * All injected items are added into the cache related to their type.
 	 * 
 	 * @param item injectable item to inject
 	 */
 	private static void internalEnsureInjected(InjectableItem item) {
 		// check if argument is consistent
 		if (item != null) {
-			// gets resources
-			List<InjectableResource> resources = item.getResources();
-			// checks if there is any resources to add
-			if (!resources.isEmpty()) {
-				Collections.sort(resources, COMPARATOR);
-				// scans all resources to add
-				for (InjectableResource resource : resources) {
-					// inject
-					ensureInjected(resource.getResource(), resource.getElement());
+			// scans all items to inject, by the order of dependencies
+			for (InjectableItem itemToInject : resolve(item)) {
+				// gets resources
+				List<InjectableResource> resources = itemToInject.getResources();
+				// checks if there is any resources to add
+				if (!resources.isEmpty()) {
+					Collections.sort(resources, COMPARATOR);
+					// scans all resources to add
+					for (InjectableResource resource : resources) {
+						// inject
+						ensureInjected(resource.getResource(), resource.getElement(), itemToInject, item);
+					}
 				}
+				// adds item into cache
+				addToCache(itemToInject);
+			}
+			// applies the style changes of all items at once
+			InjectedStyleSheet.flush();
+		}
+	}
+
+	/**
+	 * Removes the style sheets, managed by CODERBA, of the injected themes which are not used by any live editor area or by
+	 * the defaults, and the LINK elements of the themes loaded in async mode as external files.<br>
+	 * A removed theme is injected again when it is set into the options of an editor.
+	 * 
+	 * @return the amount of themes removed
+	 */
+	public static int unloadUnusedThemes() {
+		// collects the themes used by the defaults and by the editor areas
+		Set<Theme> usedThemes = new HashSet<>();
+		usedThemes.add(Defaults.get().getTheme());
+		for (EditorArea editorArea : EditorAreas.values()) {
+			usedThemes.add(editorArea.getOptions().getTheme());
+		}
+		// amount of removed themes
+		int count = 0;
+		// scans all injected themes
+		for (Theme theme : Themes.get().values()) {
+			// checks if the theme is not used
+			if (!usedThemes.contains(theme) && unload(theme)) {
+				// increments the counter
+				count++;
+			}
+		}
+		// applies the style changes at once
+		InjectedStyleSheet.flush();
+		return count;
+	}
+
+	/**
+	 * Removes the CSS code of the style resources of an injectable item from the style sheet managed by CODERBA, or their LINK
+	 * elements if loaded as external files, setting them as not injected.
+	 * 
+	 * @param item injectable item to remove
+	 * @return <code>true</code> if at least a resource has been removed
+	 */
+	private static boolean unload(InjectableItem item) {
+		// flag to know if a resource has been removed
+		boolean removed = false;
+		// scans all resources
+		for (InjectableResource resource : item.getResources()) {
+			// creates the key
+			String resourceKey = createKey(resource.getResource());
+			// gets the LINK element, if loaded as external file
+			Element link = STYLE_LINKS.remove(resourceKey);
+			// checks if loaded as external file
+			if (link != null) {
+				// removes the element from the DOM
+				link.removeFromParent();
+				// sets as not injected
+				ELEMENTS_INJECTED.remove(resourceKey);
+				removed = true;
+			} else if (InjectedStyleSheet.remove(resourceKey)) {
+				// removes from style sheet
+				// sets as not injected
+				ELEMENTS_INJECTED.remove(resourceKey);
+				removed = true;
 			}
 		}
+		return removed;
+	}
+
+	/**
+	 * Resolves the dependencies of an injectable item, returning the list of items to inject, sorted in order that every item
+	 * is after the items which it depends on. The passed item is the last one of the list.
+	 * 
+	 * @param item injectable item to resolve
+	 * @return the list of items to inject, sorted by their dependencies
+	 */
+	static List<InjectableItem> resolve(InjectableItem item) {
+		// creates the result
+		List<InjectableItem> result = new LinkedList<>();
+		// resolves the item
+		resolve(item, result, new HashSet<>());
+		return result;
+	}
+
+	/**
+	 * Resolves recursively the dependencies of an injectable item, by a depth-first visit of the dependencies graph.
+	 * 
+	 * @param item injectable item to resolve
+	 * @param result list of items already resolved, where the item is added
+	 * @param visiting set of items which are resolving, used to check circular dependencies
+	 */
+	private static void resolve(InjectableItem item, List<InjectableItem> result, Set<InjectableItem> visiting) {
+		// checks if already resolved
+		if (!result.contains(item)) {
+			// checks if the item is resolving
+			if (!visiting.add(item)) {
+				// if here, there is a circular dependency
+				// then exception
+				throw new IllegalArgumentException("Circular dependency found for item " + item.getName());
+			}
+			// scans all dependencies
+			for (InjectableItem dependency : item.getDependencies()) {
+				resolve(dependency, result, visiting);
+			}
+			// the item is resolved
+			visiting.remove(item);
+			result.add(item);
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the measures of all injected resources, with their size and the time spent to load and to
+	 * evaluate them, in order to know which items are dominating the startup.<br>
+	 * The same measures are available as User Timing measures in the browser performance tools.
+	 * 
+	 * @return a snapshot of the measures of all injected resources
+	 */
+	public static InjectionStats getStats() {
+		return new InjectionStats(MEASURES, InjectedStyleSheet.getFlushTime());
 	}
 
 	/**
@@ -204,28 +560,136 @@ public final class Injector {
 	 * 
 	 * @param resource script resource
 	 * @param element DOM element which will contain the resource
+	 * @param item injectable item which the resource belongs to, could be <code>null</code>
+	 * @param trigger injectable item which triggered the injection, could be <code>null</code>
 	 */
-	private static void ensureInjected(ResourcePrototype resource, Element element) {
+	private static void ensureInjected(ResourcePrototype resource, Element element, InjectableItem item, InjectableItem trigger) {
 		// checks if resource is consistent
 		if (resource != null) {
-			// creates a unique key
-			String resourceKey = createKey(resource);
 			// checks if already injected
-			if (!ELEMENTS_INJECTED.contains(resourceKey)) {
+			if (!isInjected(resource)) {
 				if (resource instanceof TextResource) {
 					TextResource textResource = (TextResource) resource;
-					// sets ID
-					element.setId(CODERBA_PREFIX_SCRIPT_ELEMENT_ID + resource.getName());
-					// sets the script content source
-					element.setInnerText(textResource.getText());
-					// appends to the body
-					Document.get().getBody().appendChild(element);
+					// injects the content
+					inject(resource, textResource.getText(), element, item, trigger, 0D);
 				}
-				ELEMENTS_INJECTED.add(resourceKey);
+				ELEMENTS_INJECTED.add(createKey(resource));
 			}
 		}
 	}
 
+	/**
+	 * Injects the content of a script or style resource if not injected yet.<br>
+	 * This is used to inject the content of a resource which has been loaded in async mode.
+	 * 
+	 * @param resource resource which the content belongs to
+	 * @param text content of the resource to inject
+	 * @param element DOM element which will contain the resource
+	 * @param item injectable item which the resource belongs to
+	 * @param trigger injectable item which triggered the injection
+	 * @param fetchTime time spent to load the resource in milliseconds
+	 */
+	static void ensureInjected(ResourcePrototype resource, String text, Element element, InjectableItem item, InjectableItem trigger, double fetchTime) {
+		// checks if already injected
+		if (!isInjected(resource)) {
+			// injects the content
+			inject(resource, text, element, item, trigger, fetchTime);
+			// stores the key
+			ELEMENTS_INJECTED.add(createKey(resource));
+		}
+	}
+
+	/**
+	 * Sets a resource as injected. This is used when the resource has been injected by its URL, as external file.
+	 * 
+	 * @param resource resource instance injected
+	 * @param style <code>true</code> if the resource is a style
+	 * @param item injectable item which the resource belongs to
+	 * @param trigger injectable item which triggered the injection
+	 * @param fetchTime time spent to load and evaluate the file in milliseconds
+	 */
+	static void setInjected(ResourcePrototype resource, boolean style, InjectableItem item, InjectableItem trigger, double fetchTime) {
+		ELEMENTS_INJECTED.add(createKey(resource));
+		// stores the measure, the size is unknown
+		MEASURES.add(new InjectionMeasure(resource.getName(), item, trigger, style, 0, fetchTime, 0D, Performance.now()));
+	}
+
+	/**
+	 * Stores the LINK element which loaded a style resource as external file, in order to remove it when the style resource is
+	 * unloaded.
+	 * 
+	 * @param resource style resource instance injected
+	 * @param link LINK element which loaded the style resource
+	 */
+	static void setStyleLink(ResourcePrototype resource, Element link) {
+		STYLE_LINKS.put(createKey(resource), link);
+	}
+
+	/**
+	 * Returns <code>true</code> if the resource has been already injected.
+	 * 
+	 * @param resource resource instance to check
+	 * @return <code>true</code> if the resource has been already injected
+	 */
+	static boolean isInjected(ResourcePrototype resource) {
+		return ELEMENTS_INJECTED.contains(createKey(resource));
+	}
+
+	/**
+	 * Adds an injectable item, injected in async mode, into the cache related to its type.
+	 * 
+	 * @param item injectable item injected
+	 */
+	static void addToCache(InjectableItem item) {
+		// checks the type of item
+		if (item instanceof Mode) {
+			Modes.get().add((Mode) item);
+		} else if (item instanceof AddOn) {
+			AddOns.get().add((AddOn) item);
+		} else if (item instanceof KeyMap) {
+			KeyMaps.get().add((KeyMap) item);
+		} else if (item instanceof Theme) {
+			Themes.get().add((Theme) item);
+		}
+	}
+
+	/**
+	 * Injects the content of a script or style resource into the DOM document.<br>
+	 * The style resources are added to the style sheet managed by CODERBA.
+	 * 
+	 * @param resource resource which the content belongs to
+	 * @param text content of the resource to inject
+	 * @param element DOM element which will contain the resource
+	 * @param item injectable item which the resource belongs to, could be <code>null</code>
+	 * @param trigger injectable item which triggered the injection, could be <code>null</code>
+	 * @param fetchTime time spent to load the resource in milliseconds
+	 */
+	private static void inject(ResourcePrototype resource, String text, Element element, InjectableItem item, InjectableItem trigger, double fetchTime) {
+		// checks if the resource is a style
+		boolean isStyle = StyleElement.TAG.equalsIgnoreCase(element.getTagName());
+		// time spent to evaluate the content
+		double evalTime = 0D;
+		if (isStyle) {
+			// adds the CSS code as managed style sheet
+			// applied by the next flush
+			InjectedStyleSheet.add(createKey(resource), text);
+		} else {
+			// sets ID
+			element.setId(CODERBA_PREFIX_SCRIPT_ELEMENT_ID + resource.getName());
+			// sets the script content source
+			element.setInnerText(text);
+			// starts the measure of the evaluation
+			String measureName = INJECT_MEASURE_PREFIX + resource.getName();
+			double start = InjectionTimer.start(measureName);
+			// appends to the body, the script is evaluated synchronously
+			Document.get().getBody().appendChild(element);
+			// ends the measure
+			evalTime = InjectionTimer.end(measureName, start);
+		}
+		// stores the measure
+		MEASURES.add(new InjectionMeasure(resource.getName(), item, trigger, isStyle, text != null ? text.length() : 0, fetchTime, evalTime, Performance.now()));
+	}
+
 	/**
 	 * Creates a unique key for a resource, in order to be able to cache it.<br>
 	 * The key is built by class name of resource, a separator and the name of resource.
@@ -233,7 +697,7 @@ public final class Injector {
 	 * @param resource resource instance to inject
 	 * @return a unique key
 	 */
-	private static final String createKey(ResourcePrototype resource) {
+	static final String createKey(ResourcePrototype resource) {
 		return resource.getClass().getName() + KEY_CLASS_AND_METHOD_SEPARATOR + resource.getName();
 	}
 }
\ No newline at end of file
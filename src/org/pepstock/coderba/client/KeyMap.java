@@ -15,6 +15,11 @@
 */
 package org.pepstock.coderba.client;
 
+import org.pepstock.coderba.client.resources.ExternalKeyMapResources;
+import org.pepstock.coderba.client.resources.MinifiedKeyMapResources;
+
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+
 /**
  * Key maps are ways to associate keys and mouse buttons with functionality.<br>
  * A key map is an object mapping strings that identify the buttons to functions that implement their functionality.<br>
@@ -41,4 +46,34 @@ public abstract class KeyMap extends InjectableItem {
 		Injector.ensureInjected(this);
 	}
 
+	/**
+	 * Injects the keymap instance into DOM document in async mode, without blocking the UI, in order to consume it by
+	 * CodeMirror.
+	 * 
+	 * @param callback callback invoked when the keymap is ready to be used
+	 */
+	public final void injectAsync(InjectionCallback callback) {
+		Injector.ensureInjectedAsync(this, callback);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getMinifiedResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getMinifiedResources() {
+		return MinifiedKeyMapResources.INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getExternalResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getExternalResources() {
+		return ExternalKeyMapResources.INSTANCE;
+	}
+
 }
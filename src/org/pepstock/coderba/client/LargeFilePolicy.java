@@ -0,0 +1,214 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.pepstock.coderba.client.languages.PlainText;
+
+/**
+ * Defines when a document must be considered large and how the editor is degraded to manage it.<br>
+ * When the document of an editor exceeds the maximum amount of lines or characters, the editor switches into a degraded
+ * profile, setting a plain language, reducing the maximum length of the highlighted lines and disabling the options of the
+ * most expensive addons. The full profile is restored when the document shrinks under the thresholds, reduced by
+ * {@link LargeFilePolicy#RESTORE_RATIO}, in order to avoid to switch continuously when the document is near to the
+ * thresholds.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class LargeFilePolicy {
+
+	/**
+	 * Default maximum amount of lines of a document before degrading the editor, <b>{@value DEFAULT_MAX_LINES}</b>.
+	 */
+	public static final int DEFAULT_MAX_LINES = 50000;
+
+	/**
+	 * Default maximum amount of characters of a document before degrading the editor, <b>{@value DEFAULT_MAX_SIZE}</b>.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 2 * 1024 * 1024;
+
+	/**
+	 * Default maximum length of the lines which are highlighted in degraded profile, <b>{@value DEFAULT_MAX_HIGHLIGHT_LENGTH}</b>.
+	 */
+	public static final int DEFAULT_MAX_HIGHLIGHT_LENGTH = 1000;
+
+	/**
+	 * Ratio applied to the thresholds to restore the full profile, <b>{@value RESTORE_RATIO}</b>.
+	 */
+	public static final double RESTORE_RATIO = 0.9D;
+
+	/**
+	 * Default options, set to <code>false</code> in degraded profile.
+	 */
+	public static final List<String> DEFAULT_DISABLED_OPTIONS = Collections.unmodifiableList(
+			Arrays.asList("lineWrapping", "matchBrackets", "matchTags", "highlightSelectionMatches", "styleActiveLine", "showTrailingSpace", "foldGutter", "lint"));
+
+	// maximum amount of lines
+	private int maxLines = DEFAULT_MAX_LINES;
+	// maximum amount of characters
+	private int maxSize = DEFAULT_MAX_SIZE;
+	// maximum length of highlighted lines in degraded profile
+	private int maxHighlightLength = DEFAULT_MAX_HIGHLIGHT_LENGTH;
+	// language in degraded profile
+	private Language language = PlainText.LANGUAGE;
+	// options to disable in degraded profile
+	private final List<String> disabledOptions = new ArrayList<>(DEFAULT_DISABLED_OPTIONS);
+
+	/**
+	 * Returns the maximum amount of lines of a document before degrading the editor.
+	 * 
+	 * @return the maximum amount of lines of a document before degrading the editor
+	 */
+	public int getMaxLines() {
+		return maxLines;
+	}
+
+	/**
+	 * Sets the maximum amount of lines of a document before degrading the editor.
+	 * 
+	 * @param maxLines the maximum amount of lines of a document before degrading the editor
+	 */
+	public void setMaxLines(int maxLines) {
+		// checks if argument is consistent
+		if (maxLines <= 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Maximum amount of lines is not greater than 0");
+		}
+		this.maxLines = maxLines;
+	}
+
+	/**
+	 * Returns the maximum amount of characters of a document before degrading the editor.
+	 * 
+	 * @return the maximum amount of characters of a document before degrading the editor
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum amount of characters of a document before degrading the editor.
+	 * 
+	 * @param maxSize the maximum amount of characters of a document before degrading the editor
+	 */
+	public void setMaxSize(int maxSize) {
+		// checks if argument is consistent
+		if (maxSize <= 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Maximum size is not greater than 0");
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the maximum length of the lines which are highlighted in degraded profile.
+	 * 
+	 * @return the maximum length of the lines which are highlighted in degraded profile
+	 */
+	public int getMaxHighlightLength() {
+		return maxHighlightLength;
+	}
+
+	/**
+	 * Sets the maximum length of the lines which are highlighted in degraded profile.
+	 * 
+	 * @param maxHighlightLength the maximum length of the lines which are highlighted in degraded profile
+	 */
+	public void setMaxHighlightLength(int maxHighlightLength) {
+		this.maxHighlightLength = Math.max(0, maxHighlightLength);
+	}
+
+	/**
+	 * Returns the language set to the editor in degraded profile.
+	 * 
+	 * @return the language set to the editor in degraded profile
+	 */
+	public Language getLanguage() {
+		return language;
+	}
+
+	/**
+	 * Sets the language set to the editor in degraded profile.
+	 * 
+	 * @param language the language set to the editor in degraded profile
+	 */
+	public void setLanguage(Language language) {
+		// checks if argument is consistent
+		if (language == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Language is null");
+		}
+		this.language = language;
+	}
+
+	/**
+	 * Returns the unmodifiable list of the options set to <code>false</code> in degraded profile.
+	 * 
+	 * @return the unmodifiable list of the options set to <code>false</code> in degraded profile
+	 */
+	public List<String> getDisabledOptions() {
+		return Collections.unmodifiableList(disabledOptions);
+	}
+
+	/**
+	 * Sets the options to set to <code>false</code> in degraded profile, usually the options of the addons.
+	 * 
+	 * @param disabledOptions the options to set to <code>false</code> in degraded profile
+	 */
+	public void setDisabledOptions(String... disabledOptions) {
+		// clears the current options
+		this.disabledOptions.clear();
+		// checks if argument is consistent
+		if (disabledOptions != null) {
+			// scans all options
+			for (String option : disabledOptions) {
+				// checks if option is consistent
+				if (option != null && !this.disabledOptions.contains(option)) {
+					this.disabledOptions.add(option);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if a document with the passed amount of lines and characters exceeds the thresholds.
+	 * 
+	 * @param lines amount of lines of the document
+	 * @param size amount of characters of the document
+	 * @return <code>true</code> if a document with the passed amount of lines and characters exceeds the thresholds
+	 */
+	public boolean isLarge(int lines, int size) {
+		return lines > maxLines || size > maxSize;
+	}
+
+	/**
+	 * Returns <code>true</code> if a document with the passed amount of lines and characters is enough under the thresholds
+	 * to restore the full profile.
+	 * 
+	 * @param lines amount of lines of the document
+	 * @param size amount of characters of the document
+	 * @return <code>true</code> if a document with the passed amount of lines and characters is enough under the thresholds
+	 */
+	public boolean isRestorable(int lines, int size) {
+		return lines <= maxLines * RESTORE_RATIO && size <= maxSize * RESTORE_RATIO;
+	}
+
+}
@@ -15,6 +15,11 @@
 */
 package org.pepstock.coderba.client;
 
+import org.pepstock.coderba.client.resources.ExternalModeResources;
+import org.pepstock.coderba.client.resources.MinifiedModeResources;
+
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+
 /**
  * Modes typically consist of a single JavaScript file.<br>
  * This file defines, in the simplest case, a lexer (tokenizer) for your language - a function that takes a character stream as
@@ -35,4 +40,24 @@ public abstract class Mode extends InjectableItem {
 		super(name);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getMinifiedResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getMinifiedResources() {
+		return MinifiedModeResources.INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getExternalResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getExternalResources() {
+		return ExternalModeResources.INSTANCE;
+	}
+
 }
@@ -0,0 +1,292 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.pepstock.coderba.client.commons.HasName;
+import org.pepstock.coderba.client.commons.IdleDeadline;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.commons.UndefinedValues;
+
+import com.google.gwt.core.client.Duration;
+
+/**
+ * Injects languages, themes and addons which will be needed, during the idle periods of the browser, before they are actually
+ * requested.<br>
+ * The items are injected in slices, by <code>requestIdleCallback</code>, and every slice injects items until its time budget
+ * or the idle period is elapsed. An item is injected as whole then a slice can exceed its budget by the time needed to inject
+ * a single item.<br>
+ * When an item is actually requested to {@link Injector}, it is removed from the pending items of all preloaders.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class Preloader {
+
+	/**
+	 * Default time budget of a slice in milliseconds, <b>{@value DEFAULT_SLICE_BUDGET}</b>.
+	 */
+	public static final int DEFAULT_SLICE_BUDGET = 10;
+
+	/**
+	 * Default amount of milliseconds after which a slice is executed even if the browser is not idle,
+	 * <b>{@value DEFAULT_TIMEOUT}</b>.
+	 */
+	public static final int DEFAULT_TIMEOUT = 5000;
+
+	// contains all preloaders which are running
+	private static final List<Preloader> RUNNING = new LinkedList<>();
+	// pending items to inject
+	private final LinkedList<NamedItem> items = new LinkedList<>();
+	// time budget of a slice
+	private int sliceBudget = DEFAULT_SLICE_BUDGET;
+	// timeout of a slice
+	private int timeout = DEFAULT_TIMEOUT;
+	// handle of the idle callback request
+	private int handle = UndefinedValues.INTEGER;
+
+	/**
+	 * Adds the languages to inject.
+	 * 
+	 * @param languages languages to inject
+	 * @return preloader instance
+	 */
+	public Preloader add(Language... languages) {
+		return addItems(languages);
+	}
+
+	/**
+	 * Adds the themes to inject.
+	 * 
+	 * @param themes themes to inject
+	 * @return preloader instance
+	 */
+	public Preloader add(Theme... themes) {
+		return addItems(themes);
+	}
+
+	/**
+	 * Adds the addons to inject.
+	 * 
+	 * @param addons addons to inject
+	 * @return preloader instance
+	 */
+	public Preloader add(AddOn... addons) {
+		return addItems(addons);
+	}
+
+	/**
+	 * Sets the time budget of a slice in milliseconds.
+	 * 
+	 * @param sliceBudget the time budget of a slice in milliseconds
+	 * @return preloader instance
+	 */
+	public Preloader setSliceBudget(int sliceBudget) {
+		// checks if argument is consistent
+		if (sliceBudget <= 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Slice budget is not valid: " + sliceBudget);
+		}
+		this.sliceBudget = sliceBudget;
+		return this;
+	}
+
+	/**
+	 * Returns the time budget of a slice in milliseconds.
+	 * 
+	 * @return the time budget of a slice in milliseconds. Default is {@link Preloader#DEFAULT_SLICE_BUDGET}.
+	 */
+	public int getSliceBudget() {
+		return sliceBudget;
+	}
+
+	/**
+	 * Sets the amount of milliseconds after which a slice is executed even if the browser is not idle.
+	 * 
+	 * @param timeout the amount of milliseconds after which a slice is executed even if the browser is not idle
+	 * @return preloader instance
+	 */
+	public Preloader setTimeout(int timeout) {
+		// checks if argument is consistent
+		if (timeout <= 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Timeout is not valid: " + timeout);
+		}
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Returns the amount of milliseconds after which a slice is executed even if the browser is not idle.
+	 * 
+	 * @return the amount of milliseconds after which a slice is executed even if the browser is not idle. Default is
+	 *         {@link Preloader#DEFAULT_TIMEOUT}.
+	 */
+	public int getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Returns the amount of items not injected yet.
+	 * 
+	 * @return the amount of items not injected yet
+	 */
+	public int getPendingItems() {
+		return items.size();
+	}
+
+	/**
+	 * Returns <code>true</code> if the preloader is injecting the items.
+	 * 
+	 * @return <code>true</code> if the preloader is injecting the items
+	 */
+	public boolean isRunning() {
+		return handle != UndefinedValues.INTEGER;
+	}
+
+	/**
+	 * Starts to inject the items during the idle periods of the browser.
+	 */
+	public void start() {
+		// checks if already running
+		if (!isRunning()) {
+			// adds to running preloaders
+			RUNNING.add(this);
+			// schedules the first slice
+			schedule();
+		}
+	}
+
+	/**
+	 * Cancels the injection of the pending items. The preloader can be restarted to inject the remaining items.
+	 */
+	public void cancel() {
+		// checks if running
+		if (isRunning()) {
+			// cancels the request
+			JsHelper.get().cancelIdleCallback(handle);
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+		}
+		// removes from running preloaders
+		RUNNING.remove(this);
+	}
+
+	/**
+	 * Moves a pending item at the top of the queue, in order to be injected in the next slice.
+	 * 
+	 * @param item language, theme or addon to move at the top of the queue
+	 * @return <code>true</code> if the item was pending
+	 */
+	public boolean prioritize(HasName item) {
+		// removes the item from the queue
+		if (item instanceof NamedItem && items.remove(item)) {
+			// adds it at the top
+			items.addFirst((NamedItem) item);
+			return true;
+		}
+		// if here, the item is not pending
+		return false;
+	}
+
+	/**
+	 * Removes an item, which is actually requested, from the pending items of all running preloaders.
+	 * 
+	 * @param item item actually requested
+	 */
+	static void onRequested(NamedItem item) {
+		// scans all running preloaders
+		for (Preloader preloader : RUNNING) {
+			preloader.items.remove(item);
+		}
+	}
+
+	/**
+	 * Adds the items to inject, skipping the <code>null</code> ones.
+	 * 
+	 * @param newItems items to inject
+	 * @return preloader instance
+	 */
+	private Preloader addItems(NamedItem[] newItems) {
+		// checks if argument is consistent
+		if (newItems != null) {
+			// scans all items
+			for (NamedItem item : newItems) {
+				// checks if consistent and not added yet
+				if (item != null && !items.contains(item)) {
+					items.add(item);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Schedules the next slice if there is any pending item, otherwise stops the preloader.
+	 */
+	private void schedule() {
+		// checks if there is any item
+		if (items.isEmpty()) {
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+			// removes from running preloaders
+			RUNNING.remove(this);
+		} else {
+			// requests the next slice
+			handle = JsHelper.get().requestIdleCallback(this::onIdle, timeout);
+		}
+	}
+
+	/**
+	 * Invoked during an idle period of the browser, injecting the pending items until the time budget of the slice or the idle
+	 * period is elapsed.
+	 * 
+	 * @param deadline the idle period, with the amount of time remaining
+	 */
+	private void onIdle(IdleDeadline deadline) {
+		// stores the start time of the slice
+		double start = Duration.currentTimeMillis();
+		// injects the first item anyway if the timeout is expired or there is idle time
+		boolean canInject = deadline.isDidTimeout() || deadline.timeRemaining() > 0;
+		// scans the items while there is time
+		while (canInject && !items.isEmpty()) {
+			// injects the item
+			inject(items.removeFirst());
+			// checks if there is time for another item
+			canInject = deadline.timeRemaining() > 0 && (Duration.currentTimeMillis() - start) < sliceBudget;
+		}
+		// schedules the next slice
+		schedule();
+	}
+
+	/**
+	 * Injects an item by its type.
+	 * 
+	 * @param item item to inject
+	 */
+	private void inject(NamedItem item) {
+		// checks the type of item
+		if (item instanceof Language) {
+			Injector.ensureInjected((Language) item);
+		} else if (item instanceof Theme) {
+			Injector.ensureInjected((Theme) item);
+		} else if (item instanceof AddOn) {
+			((AddOn) item).inject();
+		}
+	}
+}
@@ -15,6 +15,10 @@
 */
 package org.pepstock.coderba.client;
 
+import org.pepstock.coderba.client.resources.ExternalThemeResources;
+
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+
 /**
  * The theme to style the editor.<br>
  * A theme is related to CSS file defining the corresponding styles.
@@ -33,4 +37,14 @@ public abstract class Theme extends InjectableItem {
 		super(name);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.InjectableItem#getExternalResources()
+	 */
+	@Override
+	final ClientBundleWithLookup getExternalResources() {
+		return ExternalThemeResources.INSTANCE;
+	}
+
 }
@@ -41,6 +41,8 @@ public final class AddOnAnywordHint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.anywordHint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnShowHint.INSTANCE);
 	}
 
 }
@@ -41,6 +41,8 @@ public final class AddOnClosetag extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.closetag()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnXmlFold.INSTANCE);
 	}
 
 }
@@ -41,6 +41,8 @@ public final class AddOnCoffeescriptLint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.coffeescriptLint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnLint.INSTANCE);
 	}
 
 }
@@ -41,6 +41,8 @@ public final class AddOnColorize extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.colorize()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnRunmode.INSTANCE);
 	}
 
 }
@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.addons;
 
 import org.pepstock.coderba.client.AddOn;
+import org.pepstock.coderba.client.modes.ModeCss;
 import org.pepstock.coderba.client.resources.AddOnResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,6 +42,9 @@ public final class AddOnCssHint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.cssHint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnShowHint.INSTANCE);
+		getDependencies().add(ModeCss.MODE);
 	}
 
 }
@@ -43,6 +43,8 @@ public final class AddOnFoldgutter extends AddOn {
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.foldgutter()));
 		getResources().add(new StyleResource(AddOnResources.INSTANCE.foldgutterCss()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnFoldcode.INSTANCE);
 	}
 
 }
@@ -41,6 +41,9 @@ public final class AddOnHtmlHint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.htmlHint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnShowHint.INSTANCE);
+		getDependencies().add(AddOnXmlHint.INSTANCE);
 	}
 
 }
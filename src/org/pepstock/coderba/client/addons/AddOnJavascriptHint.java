@@ -41,6 +41,8 @@ public final class AddOnJavascriptHint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.javascriptHint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnShowHint.INSTANCE);
 	}
 
 }
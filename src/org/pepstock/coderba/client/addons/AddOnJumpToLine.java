@@ -41,6 +41,8 @@ public final class AddOnJumpToLine extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.jumpToLine()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnDialog.INSTANCE);
 	}
 
 }
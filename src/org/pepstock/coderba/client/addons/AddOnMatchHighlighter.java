@@ -41,6 +41,8 @@ public final class AddOnMatchHighlighter extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.matchHighlighter()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnMatchesonscrollbar.INSTANCE);
 	}
 
 }
@@ -43,6 +43,9 @@ public final class AddOnMatchesonscrollbar extends AddOn {
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.matchesonscrollbar()));
 		getResources().add(new StyleResource(AddOnResources.INSTANCE.matchesonscrollbarCss()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnSearchcursor.INSTANCE);
+		getDependencies().add(AddOnAnnotatescrollbar.INSTANCE);
 	}
 
 }
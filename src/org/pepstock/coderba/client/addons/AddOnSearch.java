@@ -41,6 +41,9 @@ public final class AddOnSearch extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.search()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnSearchcursor.INSTANCE);
+		getDependencies().add(AddOnDialog.INSTANCE);
 	}
 
 }
@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.addons;
 
 import org.pepstock.coderba.client.AddOn;
+import org.pepstock.coderba.client.modes.ModeSql;
 import org.pepstock.coderba.client.resources.AddOnResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,6 +42,9 @@ public final class AddOnSqlHint extends AddOn {
 		// passes the name of addon
 		super(NAME);
 		getResources().add(new ScriptResource(AddOnResources.INSTANCE.sqlHint()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnShowHint.INSTANCE);
+		getDependencies().add(ModeSql.MODE);
 	}
 
 }
@@ -0,0 +1,36 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.entities.Document;
+
+/**
+ * To implement to provide the value of a document in chunks, loaded by {@link Document#setValueAsync(ChunkSupplier, ProgressCallback)}
+ * without blocking the UI.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface ChunkSupplier {
+
+	/**
+	 * Returns the next chunk of the value to append to the document.
+	 * 
+	 * @return the next chunk of the value or <code>null</code> if there are no more chunks
+	 */
+	String next();
+
+}
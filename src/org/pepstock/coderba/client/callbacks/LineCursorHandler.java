@@ -0,0 +1,36 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.entities.LineCursor;
+
+/**
+ * Callback interface to scan the lines of a document by a {@link LineCursor}, without creating a line handle for each line.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface LineCursorHandler {
+
+	/**
+	 * Called for each line of the scanned range. The cursor instance is reused for all lines and must not be kept.
+	 * 
+	 * @param cursor cursor positioned on the current line
+	 * @return <code>true</code> to continue the scan, <code>false</code> to stop it
+	 */
+	boolean handle(LineCursor cursor);
+
+}
@@ -0,0 +1,39 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.entities.Document;
+import org.pepstock.coderba.client.entities.LineScanner;
+
+/**
+ * Callback interface to be notified when an asynchronous scan of the lines of a document ends.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see LineScanner
+ */
+public interface LineScanCallback {
+
+	/**
+	 * Called when the scan has visited all lines of the range or has been stopped by the line handler.<br>
+	 * It is not called when the scan is cancelled.
+	 * 
+	 * @param document document instance which has been scanned
+	 * @param lines amount of scanned lines
+	 * @param stopped <code>true</code> if the scan has been stopped by the line handler
+	 */
+	void onScanCompleted(Document document, int lines, boolean stopped);
+
+}
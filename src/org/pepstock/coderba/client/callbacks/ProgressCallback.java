@@ -0,0 +1,40 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.commons.UndefinedValues;
+import org.pepstock.coderba.client.entities.Document;
+
+/**
+ * To implement to be notified about the progress of the loading of the value of a document in chunks, by
+ * {@link Document#setValueAsync(String, ProgressCallback)} or {@link Document#setValueAsync(ChunkSupplier, ProgressCallback)}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface ProgressCallback {
+
+	/**
+	 * Called after every slice of chunks appended to the document and when the loading is completed.
+	 * 
+	 * @param document document instance which is loading the value
+	 * @param loaded amount of characters appended to the document
+	 * @param total total amount of characters of the value or {@link UndefinedValues#INTEGER} if unknown
+	 * @param completed <code>true</code> if the whole value has been appended to the document
+	 */
+	void onProgress(Document document, int loaded, int total, boolean completed);
+
+}
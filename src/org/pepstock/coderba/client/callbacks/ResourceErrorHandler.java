@@ -0,0 +1,35 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.resources.ResourceLoadException;
+
+/**
+ * Callback interface to be notified when a resource, loaded in async mode, can not be loaded.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface ResourceErrorHandler {
+
+	/**
+	 * Called when a resource can not be loaded.
+	 * 
+	 * @param exception exception which describes the resource which can not be loaded
+	 */
+	void onError(ResourceLoadException exception);
+
+}
@@ -0,0 +1,36 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.callbacks;
+
+import org.pepstock.coderba.client.entities.MarkerIndex;
+import org.pepstock.coderba.client.entities.TextMarker;
+
+/**
+ * To implement to visit the text markers found by a {@link MarkerIndex}, without creating any list.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface TextMarkerHandler {
+
+	/**
+	 * Called for each text marker found by the query.
+	 * 
+	 * @param marker text marker instance
+	 */
+	void handle(TextMarker marker);
+
+}
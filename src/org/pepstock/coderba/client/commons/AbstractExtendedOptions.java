@@ -43,6 +43,16 @@ public abstract class AbstractExtendedOptions<T extends AbstractNativeObjectCont
 		super(nativeObjectContainer, defaultsValue);
 	}
 
+	/**
+	 * Creates the options manager by a container, for an editor which is not created yet, resolving the default values at first
+	 * access and deferring the injection of language, key map and theme.
+	 * 
+	 * @param nativeObjectContainer native object container which manage all set and get by key
+	 */
+	protected AbstractExtendedOptions(T nativeObjectContainer) {
+		super(nativeObjectContainer);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -53,6 +63,16 @@ public abstract class AbstractExtendedOptions<T extends AbstractNativeObjectCont
 		return getNativeObjectContainer().keys().isEmpty();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.entities.IsExtendedOptions#getOwnValue()
+	 */
+	@Override
+	public String getOwnValue() {
+		return getNativeObjectContainer().getValue(Options.VALUE, UndefinedValues.STRING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -211,7 +211,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getIntProperty(key.value(), defaultValue);
 	}
 
@@ -316,7 +316,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getDoubleProperty(key.value(), defaultValue);
 	}
 
@@ -421,7 +421,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getBooleanProperty(key.value(), defaultValue);
 	}
 
@@ -459,7 +459,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getStringProperty(key.value(), defaultValue);
 	}
 
@@ -566,7 +566,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return null;
 		}
-		// gets descriptor
+		// gets value
 		return getObjectProperty(key.value());
 	}
 
@@ -776,7 +776,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns null
 			return null;
 		}
-		// gets descriptor
+		// gets value
 		return getArrayProperty(key.value());
 	}
 
@@ -837,7 +837,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getRegExpProperty(key.value(), defaultValue);
 	}
 
@@ -897,7 +897,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getElementProperty(key.value(), defaultValue);
 	}
 
@@ -960,7 +960,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getEntityProperty(key.value(), defaultValue);
 	}
 
@@ -1024,7 +1024,7 @@ public abstract class AbstractNativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
+		// gets value
 		return getFunctionProperty(key.value(), defaultValue);
 	}
 
@@ -22,6 +22,7 @@ import org.pepstock.coderba.client.IsDefaultOptions;
 import org.pepstock.coderba.client.KeyMap;
 import org.pepstock.coderba.client.Language;
 import org.pepstock.coderba.client.Theme;
+import org.pepstock.coderba.client.entities.Defaults;
 import org.pepstock.coderba.client.entities.ExtraKeyMapTable;
 import org.pepstock.coderba.client.entities.IsExtendedOptions;
 import org.pepstock.coderba.client.entities.IsOptions;
@@ -47,7 +48,10 @@ import org.pepstock.coderba.client.utils.RegExp;
 public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> implements IsOptions {
 
 	// default options values
-	private final IsDefaultOptions defaultsValue;
+	// if null, they are resolved at first access
+	private IsDefaultOptions defaultsValue;
+	// if true, language, key map and theme are not injected when set
+	private final boolean deferredInjection;
 	// native object container which manage all set and get
 	// by key
 	private final T nativeObjectContainer;
@@ -69,6 +73,35 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	protected AbstractOptions(T nativeObjectContainer, IsDefaultOptions defaultsValue) {
 		this.nativeObjectContainer = nativeObjectContainer;
 		this.defaultsValue = defaultsValue;
+		this.deferredInjection = false;
+	}
+
+	/**
+	 * Creates the options manager by a container, for an editor which is not created yet.<br>
+	 * The default values are the CodeMirror defaults, resolved at first access, and the language, key map and theme are not
+	 * injected when set, because they are injected when the editor is created. In this way, CodeMirror is not injected until
+	 * it is really needed.
+	 * 
+	 * @param nativeObjectContainer native object container which manage all set and get by key
+	 */
+	protected AbstractOptions(T nativeObjectContainer) {
+		this.nativeObjectContainer = nativeObjectContainer;
+		this.defaultsValue = null;
+		this.deferredInjection = true;
+	}
+
+	/**
+	 * Returns the default values, resolving them at first access if not passed at creation time.
+	 * 
+	 * @return the default values
+	 */
+	private IsDefaultOptions getDefaultsValue() {
+		// checks if the defaults must be resolved
+		if (defaultsValue == null) {
+			// gets CodeMirror defaults, injecting CodeMirror if needed
+			defaultsValue = Defaults.get();
+		}
+		return defaultsValue;
 	}
 
 	/**
@@ -134,7 +167,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 		}
 		// if here, the property is missing
 		// and then returns the default
-		return defaultsValue.getAllowDropFileTypes();
+		return getDefaultsValue().getAllowDropFileTypes();
 	}
 
 	/*
@@ -144,7 +177,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getCursorBlinkRate() {
-		return nativeObjectContainer.getValue(Options.CURSOR_BLINK_RATE, defaultsValue.getCursorBlinkRate());
+		return nativeObjectContainer.getValue(Options.CURSOR_BLINK_RATE, getDefaultsValue().getCursorBlinkRate());
 	}
 
 	/*
@@ -154,7 +187,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getCursorHeight() {
-		return nativeObjectContainer.getValue(Options.CURSOR_HEIGHT, defaultsValue.getCursorHeight());
+		return nativeObjectContainer.getValue(Options.CURSOR_HEIGHT, getDefaultsValue().getCursorHeight());
 	}
 
 	/*
@@ -164,7 +197,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getCursorScrollMargin() {
-		return nativeObjectContainer.getValue(Options.CURSOR_SCROLL_MARGIN, defaultsValue.getCursorScrollMargin());
+		return nativeObjectContainer.getValue(Options.CURSOR_SCROLL_MARGIN, getDefaultsValue().getCursorScrollMargin());
 	}
 
 	/*
@@ -174,7 +207,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public Direction getDirection() {
-		return nativeObjectContainer.getValue(Options.DIRECTION, Direction.class, defaultsValue.getDirection());
+		return nativeObjectContainer.getValue(Options.DIRECTION, Direction.class, getDefaultsValue().getDirection());
 	}
 
 	/*
@@ -184,7 +217,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getFirstLineNumber() {
-		return nativeObjectContainer.getValue(Options.FIRST_LINE_NUMBER, defaultsValue.getFirstLineNumber());
+		return nativeObjectContainer.getValue(Options.FIRST_LINE_NUMBER, getDefaultsValue().getFirstLineNumber());
 	}
 
 	/*
@@ -206,7 +239,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 		}
 		// if here, the property is missing
 		// and then returns the default
-		return defaultsValue.getGutters();
+		return getDefaultsValue().getGutters();
 	}
 
 	/*
@@ -216,7 +249,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getHistoryEventDelay() {
-		return nativeObjectContainer.getValue(Options.HISTORY_EVENT_DELAY, defaultsValue.getHistoryEventDelay());
+		return nativeObjectContainer.getValue(Options.HISTORY_EVENT_DELAY, getDefaultsValue().getHistoryEventDelay());
 	}
 
 	/*
@@ -226,7 +259,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getIndentUnit() {
-		return nativeObjectContainer.getValue(Options.INDENT_UNIT, defaultsValue.getIndentUnit());
+		return nativeObjectContainer.getValue(Options.INDENT_UNIT, getDefaultsValue().getIndentUnit());
 	}
 
 	/*
@@ -236,7 +269,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public InputStyle getInputStyle() {
-		return nativeObjectContainer.getValue(Options.INPUT_STYLE, InputStyle.class, defaultsValue.getInputStyle());
+		return nativeObjectContainer.getValue(Options.INPUT_STYLE, InputStyle.class, getDefaultsValue().getInputStyle());
 	}
 
 	/*
@@ -249,7 +282,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 		if (keyMap != null) {
 			return keyMap;
 		}
-		return defaultsValue.getKeyMap();
+		return getDefaultsValue().getKeyMap();
 	}
 
 	/*
@@ -262,7 +295,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 		if (language != null) {
 			return language;
 		}
-		return defaultsValue.getLanguage();
+		return getDefaultsValue().getLanguage();
 	}
 
 	/*
@@ -272,7 +305,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public String getLineSeparator() {
-		return nativeObjectContainer.getValue(Options.LINE_SEPARATOR, defaultsValue.getLineSeparator());
+		return nativeObjectContainer.getValue(Options.LINE_SEPARATOR, getDefaultsValue().getLineSeparator());
 	}
 
 	/*
@@ -282,7 +315,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getMaxHighlightLength() {
-		return nativeObjectContainer.getValue(Options.MAX_HIGHLIGHT_LENGTH, defaultsValue.getMaxHighlightLength());
+		return nativeObjectContainer.getValue(Options.MAX_HIGHLIGHT_LENGTH, getDefaultsValue().getMaxHighlightLength());
 	}
 
 	/*
@@ -302,7 +335,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getPollInterval() {
-		return nativeObjectContainer.getValue(Options.POLL_INTERVAL, defaultsValue.getPollInterval());
+		return nativeObjectContainer.getValue(Options.POLL_INTERVAL, getDefaultsValue().getPollInterval());
 	}
 
 	/*
@@ -313,11 +346,11 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	@Override
 	public ReadOnly getReadOnly() {
 		if (!nativeObjectContainer.has(Options.READ_ONLY)) {
-			return defaultsValue.getReadOnly();
+			return getDefaultsValue().getReadOnly();
 		}
 		ObjectType type = nativeObjectContainer.type(Options.READ_ONLY);
 		if (ObjectType.BOOLEAN.equals(type)) {
-			boolean isReadOnly = nativeObjectContainer.getValue(Options.READ_ONLY, defaultsValue.isReadOnly());
+			boolean isReadOnly = nativeObjectContainer.getValue(Options.READ_ONLY, getDefaultsValue().isReadOnly());
 			if (isReadOnly) {
 				return ReadOnly.TRUE;
 			}
@@ -333,7 +366,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public String getScrollbarStyle() {
-		return nativeObjectContainer.getValue(Options.SCROLLBAR_STYLE, defaultsValue.getScrollbarStyle());
+		return nativeObjectContainer.getValue(Options.SCROLLBAR_STYLE, getDefaultsValue().getScrollbarStyle());
 	}
 
 	/*
@@ -343,7 +376,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public RegExp getSpecialChars() {
-		return nativeObjectContainer.getValue(Options.SPECIAL_CHARS, defaultsValue.getSpecialChars());
+		return nativeObjectContainer.getValue(Options.SPECIAL_CHARS, getDefaultsValue().getSpecialChars());
 	}
 
 	/*
@@ -353,7 +386,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getTabindex() {
-		return nativeObjectContainer.getValue(Options.TABINDEX, defaultsValue.getTabindex());
+		return nativeObjectContainer.getValue(Options.TABINDEX, getDefaultsValue().getTabindex());
 	}
 
 	/*
@@ -363,7 +396,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getTabSize() {
-		return nativeObjectContainer.getValue(Options.TAB_SIZE, defaultsValue.getTabSize());
+		return nativeObjectContainer.getValue(Options.TAB_SIZE, getDefaultsValue().getTabSize());
 	}
 
 	/*
@@ -376,7 +409,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 		if (theme != null) {
 			return theme;
 		}
-		return defaultsValue.getTheme();
+		return getDefaultsValue().getTheme();
 	}
 
 	/*
@@ -386,7 +419,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getUndoDepth() {
-		return nativeObjectContainer.getValue(Options.UNDO_DEPTH, defaultsValue.getUndoDepth());
+		return nativeObjectContainer.getValue(Options.UNDO_DEPTH, getDefaultsValue().getUndoDepth());
 	}
 
 	/*
@@ -396,7 +429,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public String getValue() {
-		return nativeObjectContainer.getValue(Options.VALUE, defaultsValue.getValue());
+		return nativeObjectContainer.getValue(Options.VALUE, getDefaultsValue().getValue());
 	}
 
 	/*
@@ -406,7 +439,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getViewportMargin() {
-		return nativeObjectContainer.getValue(Options.VIEWPORT_MARGIN, defaultsValue.getViewportMargin());
+		return nativeObjectContainer.getValue(Options.VIEWPORT_MARGIN, getDefaultsValue().getViewportMargin());
 	}
 
 	/*
@@ -416,7 +449,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getWorkDelay() {
-		return nativeObjectContainer.getValue(Options.WORK_DELAY, defaultsValue.getWorkDelay());
+		return nativeObjectContainer.getValue(Options.WORK_DELAY, getDefaultsValue().getWorkDelay());
 	}
 
 	/*
@@ -426,7 +459,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public int getWorkTime() {
-		return nativeObjectContainer.getValue(Options.WORK_TIME, defaultsValue.getWorkTime());
+		return nativeObjectContainer.getValue(Options.WORK_TIME, getDefaultsValue().getWorkTime());
 	}
 
 	/*
@@ -436,7 +469,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isAddModeClass() {
-		return nativeObjectContainer.getValue(Options.ADD_MODE_CLASS, defaultsValue.isAddModeClass());
+		return nativeObjectContainer.getValue(Options.ADD_MODE_CLASS, getDefaultsValue().isAddModeClass());
 	}
 
 	/*
@@ -446,7 +479,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isAutocapitalize() {
-		return nativeObjectContainer.getValue(Options.AUTOCAPITALIZE, defaultsValue.isAutocapitalize());
+		return nativeObjectContainer.getValue(Options.AUTOCAPITALIZE, getDefaultsValue().isAutocapitalize());
 	}
 
 	/*
@@ -456,7 +489,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isAutocorrect() {
-		return nativeObjectContainer.getValue(Options.AUTOCORRECT, defaultsValue.isAutocorrect());
+		return nativeObjectContainer.getValue(Options.AUTOCORRECT, getDefaultsValue().isAutocorrect());
 	}
 
 	/*
@@ -466,7 +499,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isAutofocus() {
-		return nativeObjectContainer.getValue(Options.AUTOFOCUS, defaultsValue.isAutofocus());
+		return nativeObjectContainer.getValue(Options.AUTOFOCUS, getDefaultsValue().isAutofocus());
 	}
 
 	/*
@@ -476,7 +509,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isCoverGutterNextToScrollbar() {
-		return nativeObjectContainer.getValue(Options.COVER_GUTTER_NEXT_TO_SCROLLBAR, defaultsValue.isCoverGutterNextToScrollbar());
+		return nativeObjectContainer.getValue(Options.COVER_GUTTER_NEXT_TO_SCROLLBAR, getDefaultsValue().isCoverGutterNextToScrollbar());
 	}
 
 	/*
@@ -486,7 +519,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isDragDrop() {
-		return nativeObjectContainer.getValue(Options.DRAG_DROP, defaultsValue.isDragDrop());
+		return nativeObjectContainer.getValue(Options.DRAG_DROP, getDefaultsValue().isDragDrop());
 	}
 
 	/*
@@ -496,7 +529,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isElectricChars() {
-		return nativeObjectContainer.getValue(Options.ELECTRIC_CHARS, defaultsValue.isElectricChars());
+		return nativeObjectContainer.getValue(Options.ELECTRIC_CHARS, getDefaultsValue().isElectricChars());
 	}
 
 	/*
@@ -506,7 +539,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isFixedGutter() {
-		return nativeObjectContainer.getValue(Options.FIXED_GUTTER, defaultsValue.isFixedGutter());
+		return nativeObjectContainer.getValue(Options.FIXED_GUTTER, getDefaultsValue().isFixedGutter());
 	}
 
 	/*
@@ -516,7 +549,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isFlattenSpans() {
-		return nativeObjectContainer.getValue(Options.FLATTEN_SPANS, defaultsValue.isFlattenSpans());
+		return nativeObjectContainer.getValue(Options.FLATTEN_SPANS, getDefaultsValue().isFlattenSpans());
 	}
 
 	/*
@@ -526,7 +559,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isIndentWithTabs() {
-		return nativeObjectContainer.getValue(Options.INDENT_WITH_TABS, defaultsValue.isIndentWithTabs());
+		return nativeObjectContainer.getValue(Options.INDENT_WITH_TABS, getDefaultsValue().isIndentWithTabs());
 	}
 
 	/*
@@ -536,7 +569,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isLineNumbers() {
-		return nativeObjectContainer.getValue(Options.LINE_NUMBERS, defaultsValue.isLineNumbers());
+		return nativeObjectContainer.getValue(Options.LINE_NUMBERS, getDefaultsValue().isLineNumbers());
 	}
 
 	/*
@@ -546,7 +579,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isLineWiseCopyCut() {
-		return nativeObjectContainer.getValue(Options.LINE_WISE_COPY_CUT, defaultsValue.isLineWiseCopyCut());
+		return nativeObjectContainer.getValue(Options.LINE_WISE_COPY_CUT, getDefaultsValue().isLineWiseCopyCut());
 	}
 
 	/*
@@ -556,7 +589,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isLineWrapping() {
-		return nativeObjectContainer.getValue(Options.LINE_WRAPPING, defaultsValue.isLineWrapping());
+		return nativeObjectContainer.getValue(Options.LINE_WRAPPING, getDefaultsValue().isLineWrapping());
 	}
 
 	/*
@@ -566,7 +599,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isPasteLinesPerSelection() {
-		return nativeObjectContainer.getValue(Options.PASTE_LINES_PER_SELECTION, defaultsValue.isPasteLinesPerSelection());
+		return nativeObjectContainer.getValue(Options.PASTE_LINES_PER_SELECTION, getDefaultsValue().isPasteLinesPerSelection());
 	}
 
 	/*
@@ -577,11 +610,11 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	@Override
 	public boolean isReadOnly() {
 		if (!nativeObjectContainer.has(Options.READ_ONLY)) {
-			return defaultsValue.isReadOnly();
+			return getDefaultsValue().isReadOnly();
 		}
 		ObjectType type = nativeObjectContainer.type(Options.READ_ONLY);
 		if (ObjectType.BOOLEAN.equals(type)) {
-			return nativeObjectContainer.getValue(Options.READ_ONLY, defaultsValue.isReadOnly());
+			return nativeObjectContainer.getValue(Options.READ_ONLY, getDefaultsValue().isReadOnly());
 		}
 		return true;
 	}
@@ -593,7 +626,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isResetSelectionOnContextMenu() {
-		return nativeObjectContainer.getValue(Options.RESET_SELECTION_ON_CONTEXT_MENU, defaultsValue.isResetSelectionOnContextMenu());
+		return nativeObjectContainer.getValue(Options.RESET_SELECTION_ON_CONTEXT_MENU, getDefaultsValue().isResetSelectionOnContextMenu());
 	}
 
 	/*
@@ -603,7 +636,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isRtlMoveVisually() {
-		return nativeObjectContainer.getValue(Options.RTL_MOVE_VISUALLY, defaultsValue.isRtlMoveVisually());
+		return nativeObjectContainer.getValue(Options.RTL_MOVE_VISUALLY, getDefaultsValue().isRtlMoveVisually());
 	}
 
 	/*
@@ -613,7 +646,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isSelectionsMayTouch() {
-		return nativeObjectContainer.getValue(Options.SELECTIONS_MAY_TOUCH, defaultsValue.isSelectionsMayTouch());
+		return nativeObjectContainer.getValue(Options.SELECTIONS_MAY_TOUCH, getDefaultsValue().isSelectionsMayTouch());
 	}
 
 	/*
@@ -623,7 +656,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isShowCursorWhenSelecting() {
-		return nativeObjectContainer.getValue(Options.SHOW_CURSOR_WHEN_SELECTING, defaultsValue.isShowCursorWhenSelecting());
+		return nativeObjectContainer.getValue(Options.SHOW_CURSOR_WHEN_SELECTING, getDefaultsValue().isShowCursorWhenSelecting());
 	}
 
 	/*
@@ -633,7 +666,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isSmartIndent() {
-		return nativeObjectContainer.getValue(Options.SMART_INDENT, defaultsValue.isSmartIndent());
+		return nativeObjectContainer.getValue(Options.SMART_INDENT, getDefaultsValue().isSmartIndent());
 	}
 
 	/*
@@ -643,7 +676,7 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	 */
 	@Override
 	public boolean isSpellcheck() {
-		return nativeObjectContainer.getValue(Options.SPELLCHECK, defaultsValue.isSpellcheck());
+		return nativeObjectContainer.getValue(Options.SPELLCHECK, getDefaultsValue().isSpellcheck());
 	}
 
 	/*
@@ -874,7 +907,10 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	@Override
 	public void setKeyMap(KeyMap keyMap) {
 		if (keyMap != null) {
-			keyMap.inject();
+			// checks if the key map must be injected now
+			if (!deferredInjection) {
+				keyMap.inject();
+			}
 			nativeObjectContainer.setValue(Options.KEY_MAP, keyMap.getName());
 			this.keyMap = keyMap;
 		}
@@ -888,7 +924,10 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	@Override
 	public void setLanguage(Language language) {
 		if (language != null) {
-			Injector.ensureInjected(language);
+			// checks if the language must be injected now
+			if (!deferredInjection) {
+				Injector.ensureInjected(language);
+			}
 			nativeObjectContainer.setValue(Options.MODE, language.getName());
 			this.language = language;
 		}
@@ -1110,7 +1149,10 @@ public abstract class AbstractOptions<T extends AbstractNativeObjectContainer> i
 	@Override
 	public void setTheme(Theme theme) {
 		if (theme != null && theme.getName() != null) {
-			Injector.ensureInjected(theme);
+			// checks if the theme must be injected now
+			if (!deferredInjection) {
+				Injector.ensureInjected(theme);
+			}
 			nativeObjectContainer.setValue(Options.THEME, theme.getName());
 			this.theme = theme;
 		}
@@ -0,0 +1,105 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.commons;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list backed by a java script array of doubles, without any copy of the elements.<br>
+ * The elements can be read without boxing them by DoubleListView.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ArrayDoubleListView extends AbstractList<Double> implements DoubleListView, RandomAccess {
+
+	// delegated array
+	private final ArrayDouble array;
+
+	/**
+	 * Creates the view of a java script array.
+	 * 
+	 * @param array java script array instance. If <code>null</code>, new empty array has been created
+	 */
+	ArrayDoubleListView(ArrayDouble array) {
+		this.array = array == null ? new ArrayDouble() : array;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return array.length();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return array.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Double get(int index) {
+		return getDouble(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.commons.DoubleListView#getDouble(int)
+	 */
+	@Override
+	public double getDouble(int index) {
+		// checks range
+		if (index >= 0 && index < array.length()) {
+			return array.get(index);
+		}
+		return Double.NaN;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.commons.DoubleListView#toArray(double[])
+	 */
+	@Override
+	public int toArray(double[] target) {
+		// checks if argument is consistent
+		if (target == null) {
+			return 0;
+		}
+		// copies the elements until the array is full
+		int size = Math.min(target.length, array.length());
+		for (int i = 0; i < size; i++) {
+			target[i] = array.get(i);
+		}
+		return size;
+	}
+
+}
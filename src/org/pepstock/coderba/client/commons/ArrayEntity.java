@@ -216,7 +216,8 @@ public final class ArrayEntity<T extends NativeEntity> extends Array {
 	 */
 	@JsOverlay
 	public T get(int index) {
-		return slice(index, index + 1).pop();
+		// direct access, without creating any array
+		return NativeJsHelper.getAt(this, index);
 	}
 
 	/**
@@ -254,6 +255,7 @@ public final class ArrayEntity<T extends NativeEntity> extends Array {
 	 */
 	@JsOverlay
 	void set(int index, T item) {
-		fill(item, index, index + 1);
+		// direct access, without creating any array
+		NativeJsHelper.setAt(this, index, item);
 	}
 }
\ No newline at end of file
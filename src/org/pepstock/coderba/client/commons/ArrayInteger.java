@@ -270,7 +270,8 @@ public final class ArrayInteger extends Array {
 	 */
 	@JsOverlay
 	public int get(int index) {
-		return slice(index, index + 1).pop();
+		// direct access, without creating any array
+		return NativeJsHelper.getIntAt(this, index);
 	}
 
 	/**
@@ -308,6 +309,7 @@ public final class ArrayInteger extends Array {
 	 */
 	@JsOverlay
 	void set(int index, int item) {
-		fill(item, index, index + 1);
+		// direct access, without creating any array
+		NativeJsHelper.setAt(this, index, item);
 	}
 }
\ No newline at end of file
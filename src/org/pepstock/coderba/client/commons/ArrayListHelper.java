@@ -15,7 +15,6 @@
 */
 package org.pepstock.coderba.client.commons;
 
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -99,44 +98,68 @@ public final class ArrayListHelper {
 	}
 
 	/**
-	 * Creates an unmodifiable array list of doubles by a java script array of doubles.
+	 * Creates an unmodifiable array list of doubles by a java script array of doubles.<br>
+	 * The list is a view of the array, without any copy of the elements.
 	 * 
 	 * @param values array of elements to load when the list is creating.
 	 * @return a array list of doubles instance
 	 */
 	public static List<Double> unmodifiableList(ArrayDouble values) {
-		return Collections.unmodifiableList(list(values));
+		return new ArrayDoubleListView(values);
 	}
 
 	/**
-	 * Creates an unmodifiable array list of integers by a java script array of integers.
+	 * Creates an unmodifiable array list of integers by a java script array of integers.<br>
+	 * The list is a view of the array, without any copy of the elements.
 	 * 
 	 * @param values array of elements to load when the list is creating.
 	 * @return a array list of integers instance
 	 */
 	public static List<Integer> unmodifiableList(ArrayInteger values) {
-		return Collections.unmodifiableList(list(values));
+		return new ArrayIntegerListView(values);
 	}
 
 	/**
-	 * Creates a array list of strings by a java script array of strings.
+	 * Creates a array list of strings by a java script array of strings.<br>
+	 * The list is a view of the array, without any copy of the elements.
 	 * 
 	 * @param values array of elements to load when the list is creating.
 	 * @return a array list of strings instance
 	 */
 	public static List<String> unmodifiableList(ArrayString values) {
-		return Collections.unmodifiableList(list(values));
+		return new ArrayStringListView(values);
+	}
+
+	/**
+	 * Creates a read-only view of a java script array of doubles, to read the elements without boxing them.
+	 * 
+	 * @param values java script array of doubles
+	 * @return a read-only view of the array
+	 */
+	public static DoubleListView doubleView(ArrayDouble values) {
+		return new ArrayDoubleListView(values);
+	}
+
+	/**
+	 * Creates a read-only view of a java script array of integers, to read the elements without boxing them.
+	 * 
+	 * @param values java script array of integers
+	 * @return a read-only view of the array
+	 */
+	public static IntListView intView(ArrayInteger values) {
+		return new ArrayIntegerListView(values);
 	}
 
 	/**
-	 * Creates an unmodifiable array list of native entity java script objects by a java script array.
+	 * Creates an unmodifiable array list of native entity java script objects by a java script array.<br>
+	 * The list is a view of the array, without any copy of the elements.
 	 * 
 	 * @param values array of elements to load when the list is creating.
 	 * @param <E> type of native entity
 	 * @return a array list of native entities instance
 	 */
 	public static <E extends NativeEntity> List<E> unmodifiableList(ArrayEntity<E> values) {
-		return Collections.unmodifiableList(list(values));
+		return new ArrayEntityListView<>(values);
 	}
 
 }
\ No newline at end of file
@@ -167,7 +167,8 @@ public final class ArrayObject extends Array {
 	 */
 	@JsOverlay
 	public NativeObject get(int index) {
-		return slice(index, index + 1).pop();
+		// direct access, without creating any array
+		return NativeJsHelper.getAt(this, index);
 	}
 
 	/**
@@ -205,6 +206,7 @@ public final class ArrayObject extends Array {
 	 */
 	@JsOverlay
 	void set(int index, NativeObject item) {
-		fill(item, index, index + 1);
+		// direct access, without creating any array
+		NativeJsHelper.setAt(this, index, item);
 	}
 }
\ No newline at end of file
@@ -320,7 +320,8 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	public String get(int index) {
-		return slice(index, index + 1).pop();
+		// direct access, without creating any array
+		return NativeJsHelper.getStringAt(this, index);
 	}
 
 	/**
@@ -358,6 +359,7 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	void set(int index, String item) {
-		fill(item, index, index + 1);
+		// direct access, without creating any array
+		NativeJsHelper.setAt(this, index, item);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.commons;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list backed by a java script array of strings, without any copy of the elements and without any further
+ * wrapper.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ArrayStringListView extends AbstractList<String> implements RandomAccess {
+
+	// delegated array
+	private final ArrayString array;
+
+	/**
+	 * Creates the view of a java script array.
+	 * 
+	 * @param array java script array instance. If <code>null</code>, new empty array has been created
+	 */
+	ArrayStringListView(ArrayString array) {
+		this.array = array == null ? new ArrayString() : array;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return array.length();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return array.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public String get(int index) {
+		// checks range
+		if (index >= 0 && index < array.length()) {
+			return array.get(index);
+		}
+		return null;
+	}
+
+}
@@ -68,12 +68,10 @@ public enum Id implements Key
 	 * @return the property value or {@link UndefinedValues#STRING} if not exist
 	 */
 	public static String retrieveFrom(NativeObject nativeObject) {
-		// checks if argument is consistent and property exists
-		if (nativeObject != null && nativeObject.hasProperty(CODERBA_ID.value())) {
-			// gets descriptor
-			NativeStringDescriptor descriptor = nativeObject.getStringProperty(CODERBA_ID.value());
-			// if descriptor is consistent, return value
-			return descriptor != null ? descriptor.getValue() : UndefinedValues.STRING;
+		// checks if argument is consistent
+		if (nativeObject != null) {
+			// returns the value, if the property exists
+			return nativeObject.getStringProperty(CODERBA_ID.value(), UndefinedValues.STRING);
 		}
 		// property doesn't exist
 		return UndefinedValues.STRING;
@@ -0,0 +1,55 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.commons;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Represents the idle period of the browser, passed to the callback queued by
+ * {@link JsHelper#requestIdleCallback(IdleCallback, int)}.<br>
+ * It provides the amount of time remaining in the idle period.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = NativeName.OBJECT)
+public final class IdleDeadline {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private IdleDeadline() {
+		// do nothing
+	}
+
+	/**
+	 * Returns <code>true</code> if the callback is invoked because the timeout expired and not because the browser is idle.
+	 * 
+	 * @return <code>true</code> if the callback is invoked because the timeout expired
+	 */
+	@JsProperty(name = "didTimeout")
+	public native boolean isDidTimeout();
+
+	/**
+	 * Returns the estimated amount of milliseconds remaining in the current idle period.
+	 * 
+	 * @return the estimated amount of milliseconds remaining in the current idle period
+	 */
+	public native double timeRemaining();
+
+}
@@ -0,0 +1,56 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.commons;
+
+/**
+ * Read-only view of a sequence of integers, to read the elements without boxing them.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public interface IntListView {
+
+	/**
+	 * Returns the number of elements of the view.
+	 * 
+	 * @return the number of elements of the view
+	 */
+	int size();
+
+	/**
+	 * Returns <code>true</code> if the view contains no elements.
+	 * 
+	 * @return <code>true</code> if the view contains no elements
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Returns the element at the specified position.
+	 * 
+	 * @param index index of the element to return
+	 * @return the element at the specified position or <code>Integer.MIN_VALUE</code> if the index is out of range
+	 */
+	int getInt(int index);
+
+	/**
+	 * Copies the elements of the view into the passed array, starting from its first position, until the array is full.
+	 * 
+	 * @param target array where the elements are copied
+	 * @return the amount of copied elements
+	 */
+	int toArray(int[] target);
+
+}
@@ -18,6 +18,7 @@ package org.pepstock.coderba.client.commons;
 import org.pepstock.coderba.client.Injector;
 import org.pepstock.coderba.client.events.EditorNativeEvent;
 import org.pepstock.coderba.client.resources.ResourcesType;
+import org.pepstock.coderba.client.utils.WeakMap;
 
 /**
  * This is a singleton wrapper for Java native object which is wrapping a CODERBA java script object implementation with some
@@ -159,6 +160,170 @@ public final class JsHelper {
 		return NativeJsHelper.newCallbackProxy();
 	}
 
+	/**
+	 * Queues a function to be called during the idle periods of the browser, by <code>requestIdleCallback</code> if
+	 * available, otherwise by a timeout.
+	 * 
+	 * @param callback function to call, receiving the idle deadline
+	 * @param timeout amount of milliseconds after which the callback is called even if the browser is not idle
+	 * @return the handle of the request, to use to cancel it
+	 */
+	public int requestIdleCallback(IdleCallback callback, int timeout) {
+		// checks consistency of arguments
+		if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Idle callback is null");
+		}
+		return NativeJsHelper.requestIdleCallback(callback, Math.max(0, timeout));
+	}
+
+	/**
+	 * Cancels a function previously queued by {@link JsHelper#requestIdleCallback(IdleCallback, int)}.
+	 * 
+	 * @param handle the handle of the request to cancel
+	 */
+	public void cancelIdleCallback(int handle) {
+		NativeJsHelper.cancelIdleCallback(handle);
+	}
+
+	/**
+	 * Adds a style sheet, managed by CODERBA, with the CSS code of a resource or replaces its content if already added.<br>
+	 * The style sheet is adopted by the document, if the browser supports constructable style sheets, otherwise it is a STYLE
+	 * element.
+	 * 
+	 * @param key key of the resource
+	 * @param css the CSS code to set into the style sheet
+	 */
+	public void addStyleSheet(String key, String css) {
+		// checks if key is consistent
+		if (key == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Style sheet key is null");
+		}
+		NativeJsHelper.addStyleSheet(key, css == null ? "" : css);
+	}
+
+	/**
+	 * Removes the style sheet, managed by CODERBA, with the CSS code of a resource, if added.
+	 * 
+	 * @param key key of the resource
+	 */
+	public void removeStyleSheet(String key) {
+		// checks if key is consistent
+		if (key != null) {
+			NativeJsHelper.removeStyleSheet(key);
+		}
+	}
+
+	/**
+	 * Returns the options of an editor which are different from the defaults, ignoring the passed keys.
+	 * 
+	 * @param editor CodeMirror editor instance
+	 * @param defaults the default options of CodeMirror
+	 * @param ignoredKeys keys of the options to ignore
+	 * @return a new object with the options of the editor which are different from the defaults
+	 */
+	public NativeObject diffOptions(Object editor, NativeObject defaults, Key... ignoredKeys) {
+		// checks consistency of arguments
+		if (editor == null || defaults == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Editor or defaults are null");
+		}
+		return NativeJsHelper.diffOptions(editor, defaults, ArrayString.fromOrEmpty(ignoredKeys));
+	}
+
+	/**
+	 * Applies the passed options to an editor, in a single operation, changing only the options which have a different value
+	 * and resetting to the defaults the options which are not in the passed object.
+	 * 
+	 * @param editor CodeMirror editor instance
+	 * @param options the options to apply
+	 * @param defaults the default options of CodeMirror
+	 * @param ignoredKeys keys of the options to ignore
+	 */
+	public void applyOptions(Object editor, NativeObject options, NativeObject defaults, Key... ignoredKeys) {
+		// checks consistency of arguments
+		if (editor == null || options == null || defaults == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Editor, options or defaults are null");
+		}
+		NativeJsHelper.applyOptions(editor, options, defaults, ArrayString.fromOrEmpty(ignoredKeys));
+	}
+
+	/**
+	 * Marks the passed ranges of a document with the same options, in a single operation, adding the markers to the passed
+	 * array.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array where the created markers are added
+	 * @param ranges array of ranges to mark
+	 * @param options options of the markers
+	 */
+	public void markRanges(Object document, Array markers, Array ranges, NativeObject options) {
+		// checks consistency of arguments
+		if (document == null || markers == null || ranges == null || options == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Document, markers, ranges or options are null");
+		}
+		NativeJsHelper.markRanges(document, markers, ranges, options);
+	}
+
+	/**
+	 * Clears all markers of the passed array, in a single operation, emptying the array.<br>
+	 * Only the cleared markers which are keys of the passed weak map, because wrapped, are added to the cleared ones.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array of the markers to clear
+	 * @param cleared array where the cleared markers which are keys of the weak map are added
+	 * @param map weak map of the wrapped markers
+	 */
+	public void clearMarkers(Object document, Array markers, Array cleared, WeakMap<?, ?> map) {
+		// checks consistency of arguments
+		if (document == null || markers == null || cleared == null || map == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Document, markers, cleared markers or map are null");
+		}
+		NativeJsHelper.clearMarkers(document, markers, cleared, map);
+	}
+
+	/**
+	 * Replaces the markers of the passed array with the markers of the passed ranges, in a single operation, keeping the
+	 * markers which are already marking a passed range.<br>
+	 * Only the cleared markers which are keys of the passed weak map, because wrapped, are added to the cleared ones.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array of the current markers
+	 * @param ranges array of ranges to mark
+	 * @param options options of the new markers
+	 * @param cleared array where the cleared markers which are keys of the weak map are added
+	 * @param map weak map of the wrapped markers
+	 */
+	public void replaceMarkers(Object document, Array markers, Array ranges, NativeObject options, Array cleared, WeakMap<?, ?> map) {
+		// checks consistency of arguments
+		if (document == null || markers == null || ranges == null || options == null || cleared == null || map == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Document, markers, ranges, options, cleared markers or map are null");
+		}
+		NativeJsHelper.replaceMarkers(document, markers, ranges, options, cleared, map);
+	}
+
+	/**
+	 * Returns the content of the lines of a document, from start up to (not including) end, in a single call.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @return array with the content of the lines
+	 */
+	public ArrayString getLines(Object document, int start, int end) {
+		// checks consistency of arguments
+		if (document == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Document is null");
+		}
+		return NativeJsHelper.getLines(document, start, end);
+	}
+
 	/**
 	 * Removes a property from a java script object.
 	 * 
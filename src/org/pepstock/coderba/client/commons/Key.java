@@ -84,7 +84,8 @@ public interface Key {
 	}
 
 	/**
-	 * Returns a key into an enumeration by the value, or the default key passed as argument.
+	 * Returns a key into an enumeration by the value, ignoring the case, or the default key passed as argument.<br>
+	 * The keys of the enumeration are indexed the first time, then the search is executed in constant time.
 	 * 
 	 * @param clazz enumeration of keys
 	 * @param value value to search into key
@@ -95,17 +96,10 @@ public interface Key {
 	static <T extends Key> T getKeyByValue(Class<T> clazz, String value, T defaultKey) {
 		// checks if arguments are consistent
 		if (value != null && clazz != null && clazz.isEnum()) {
-			// scans enumeration
-			for (T enumValue : clazz.getEnumConstants()) {
-				// checks if Enum value name is equals to value
-				if (enumValue.value().equalsIgnoreCase(value)) {
-					// returns EnumValue
-					return enumValue;
-				}
-			}
+			// searches into the index of enumeration
+			return KeyRegistry.get(clazz, value, defaultKey);
 		}
-		// if here the arguments are not consistent or the
-		// value has not found
+		// if here the arguments are not consistent
 		// then returns default
 		return defaultKey;
 	}
@@ -0,0 +1,122 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.commons;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the indexes of the enumerations of keys, in order to get a key by its value in constant time.<br>
+ * The index of an enumeration is built once, the first time a key of that enumeration is requested.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class KeyRegistry {
+
+	// maps the indexes by enumeration
+	private static final Map<Class<?>, Index> INDEXES = new HashMap<>();
+
+	/**
+	 * Index of an enumeration of keys, by the values of the keys.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Index {
+
+		// maps the keys by their value
+		private final Map<String, Key> values = new HashMap<>();
+		// maps the keys by their value in lower case
+		private final Map<String, Key> lowerCaseValues = new HashMap<>();
+
+		/**
+		 * Creates the index of the passed keys.
+		 * 
+		 * @param keys keys of the enumeration
+		 */
+		private Index(Key[] keys) {
+			// scans all keys
+			for (Key key : keys) {
+				// checks if key is consistent
+				if (Key.isValid(key)) {
+					// the first key with a value wins
+					// as the scan of the enumeration
+					if (!values.containsKey(key.value())) {
+						values.put(key.value(), key);
+					}
+					String lowerCaseValue = key.value().toLowerCase();
+					if (!lowerCaseValues.containsKey(lowerCaseValue)) {
+						lowerCaseValues.put(lowerCaseValue, key);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Returns the key by its value, ignoring the case.
+		 * 
+		 * @param value value of the key
+		 * @return the key or <code>null</code> if not found
+		 */
+		private Key get(String value) {
+			// searches by the exact value first
+			// without creating the lower case value
+			Key key = values.get(value);
+			// checks if found
+			if (key != null) {
+				return key;
+			}
+			return lowerCaseValues.get(value.toLowerCase());
+		}
+	}
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private KeyRegistry() {
+		// do nothing
+	}
+
+	/**
+	 * Returns a key into an enumeration by the value, ignoring the case, or the default key passed as argument.
+	 * 
+	 * @param clazz enumeration of keys
+	 * @param value value to search into key
+	 * @param defaultKey default key instance if the value is not found
+	 * @param <T> type of key
+	 * @return the found key by value or the default one
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Key> T get(Class<T> clazz, String value, T defaultKey) {
+		// gets the index of enumeration
+		Index index = INDEXES.get(clazz);
+		// checks if the index has been already built
+		if (index == null) {
+			// builds the index
+			index = new Index(clazz.getEnumConstants());
+			INDEXES.put(clazz, index);
+		}
+		Key key = index.get(value);
+		// checks if found
+		if (key != null) {
+			// the index contains only the keys of the enumeration
+			return (T) key;
+		}
+		return defaultKey;
+	}
+
+}
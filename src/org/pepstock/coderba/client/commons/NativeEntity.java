@@ -104,35 +104,20 @@ public abstract class NativeEntity {
 	 */
 	@JsOverlay
 	protected final void defineStringProperty(String key, String value) {
-		// creates a descriptor
-		NativeStringDescriptor descriptor = new NativeStringDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		NativeObject.resetPropertyDescriptor(descriptor);
-		// defines the property
-		NativeObject.defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Returns a string value for an own property (that is, one directly present on an object and not in the object's prototype
-	 * chain) of a given object.
+	 * Returns a string value for a property of a given object, reading it once and checking the type of the read value.
 	 * 
 	 * @param key the name of the property to test.
 	 * @return string value of the given property if it exists on the object, <code>null</code> otherwise.
 	 */
 	@JsOverlay
 	protected final String getStringProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.STRING.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			NativeStringDescriptor descriptor = NativeObject.getOwnPropertyDescriptor(this, key);
-			if (descriptor != null) {
-				return descriptor.getValue();
-			}
-		}
-		// if here, property does not exist
-		return null;
+		// returns the value if it is a string
+		return NativeJsHelper.<String> propertyOrDefault(this, key, ObjectType.STRING.value(), null);
 	}
 
 	/**
@@ -16,7 +16,9 @@
 package org.pepstock.coderba.client.commons;
 
 import org.pepstock.coderba.client.events.EditorNativeEvent;
+import org.pepstock.coderba.client.utils.WeakMap;
 
+import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 
@@ -88,6 +90,113 @@ final class NativeJsHelper {
 	 * @return string value
 	 */
 	static native String propertyAsString(Object object, String key);
+
+	/**
+	 * Returns a property of java script object, reading it directly.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param <T> type of the property value
+	 * @return value of the property
+	 */
+	static native <T> T property(Object object, String key);
+
+	/**
+	 * Returns a property of java script object as integer, reading it once, if it is a number, otherwise the default value.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param type the type of the value, as returned by <code>typeof</code> operator.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return integer value of the property or the default value
+	 */
+	@JsMethod(name = "propertyOrDefault")
+	static native int propertyOrDefault(Object object, String key, String type, int defaultValue);
+
+	/**
+	 * Returns a property of java script object as double, reading it once, if it is a number, otherwise the default value.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param type the type of the value, as returned by <code>typeof</code> operator.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return double value of the property or the default value
+	 */
+	@JsMethod(name = "propertyOrDefault")
+	static native double propertyOrDefault(Object object, String key, String type, double defaultValue);
+
+	/**
+	 * Returns a property of java script object as boolean, reading it once, if it is a boolean, otherwise the default value.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param type the type of the value, as returned by <code>typeof</code> operator.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return boolean value of the property or the default value
+	 */
+	@JsMethod(name = "propertyOrDefault")
+	static native boolean propertyOrDefault(Object object, String key, String type, boolean defaultValue);
+
+	/**
+	 * Returns a property of java script object, reading it once, if the value has got the passed type and it is not
+	 * <code>null</code> or an array, otherwise the default value.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param type the type of the value, as returned by <code>typeof</code> operator.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @param <T> type of the property value
+	 * @return value of the property or the default value
+	 */
+	@JsMethod(name = "propertyOrDefault")
+	static native <T> T propertyOrDefault(Object object, String key, String type, T defaultValue);
+
+	/**
+	 * Returns a property of java script object, reading it once, if it is an array, otherwise the default value.
+	 * 
+	 * @param object the object on which to read the property.
+	 * @param key the string name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or is not an array.
+	 * @param <T> type of the property value
+	 * @return value of the property or the default value
+	 */
+	static native <T> T arrayOrDefault(Object object, String key, T defaultValue);
+
+	/**
+	 * Sets a boolean property of java script object by assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to set.
+	 * @param value the value of the property
+	 */
+	static native void setProperty(Object object, String key, boolean value);
+
+	/**
+	 * Sets an integer property of java script object by assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to set.
+	 * @param value the value of the property
+	 */
+	static native void setProperty(Object object, String key, int value);
+
+	/**
+	 * Sets a double property of java script object by assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to set.
+	 * @param value the value of the property
+	 */
+	static native void setProperty(Object object, String key, double value);
+
+	/**
+	 * Sets a property of java script object by assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to set the property.
+	 * @param key the string name of the property to set.
+	 * @param value the value of the property
+	 */
+	static native void setProperty(Object object, String key, Object value);
 	
 	/**
 	 * Creates new proxy for callback which will pass <code>this</code> environment of java script as first argument of callback
@@ -137,5 +246,177 @@ final class NativeJsHelper {
 	 * @param key The property key to clone
 	 */
 	static native void cloneProperty(Object source, Object target, String key);
-	
+
+	/**
+	 * Queues a function to be called during the idle periods of the browser.
+	 * 
+	 * @param callback function to call, receiving the idle deadline
+	 * @param timeout amount of milliseconds after which the callback is called even if the browser is not idle
+	 * @return the handle of the request, to use to cancel it
+	 */
+	static native int requestIdleCallback(IdleCallback callback, int timeout);
+
+	/**
+	 * Cancels a function previously queued by {@link NativeJsHelper#requestIdleCallback(IdleCallback, int)}.
+	 * 
+	 * @param handle the handle of the request to cancel
+	 */
+	static native void cancelIdleCallback(int handle);
+
+	/**
+	 * Adds a style sheet, managed by CODERBA, with the CSS code of a resource or replaces its content if already added.
+	 * 
+	 * @param key key of the resource
+	 * @param css the CSS code to set into the style sheet
+	 */
+	static native void addStyleSheet(String key, String css);
+
+	/**
+	 * Removes the style sheet, managed by CODERBA, with the CSS code of a resource, if added.
+	 * 
+	 * @param key key of the resource
+	 */
+	static native void removeStyleSheet(String key);
+
+	/**
+	 * Returns the options of an editor which are different from the defaults, ignoring the passed keys.
+	 * 
+	 * @param editor CodeMirror editor instance
+	 * @param defaults the default options of CodeMirror
+	 * @param ignoredKeys array of the keys of the options to ignore
+	 * @return a new object with the options of the editor which are different from the defaults
+	 */
+	static native NativeObject diffOptions(Object editor, NativeObject defaults, ArrayString ignoredKeys);
+
+	/**
+	 * Applies the passed options to an editor, in a single operation, changing only the options which have a different value
+	 * and resetting to the defaults the options which are not in the passed object.
+	 * 
+	 * @param editor CodeMirror editor instance
+	 * @param options the options to apply
+	 * @param defaults the default options of CodeMirror
+	 * @param ignoredKeys array of the keys of the options to ignore
+	 */
+	static native void applyOptions(Object editor, NativeObject options, NativeObject defaults, ArrayString ignoredKeys);
+
+	/**
+	 * Marks the passed ranges of a document with the same options, in a single operation, adding the markers to the passed
+	 * array.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array where the created markers are added
+	 * @param ranges array of ranges to mark
+	 * @param options options of the markers
+	 */
+	static native void markRanges(Object document, Array markers, Array ranges, NativeObject options);
+
+	/**
+	 * Clears all markers of the passed array, in a single operation, emptying the array.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array of the markers to clear
+	 * @param cleared array where the cleared markers which are keys of the weak map are added
+	 * @param map weak map of the wrapped markers
+	 */
+	static native void clearMarkers(Object document, Array markers, Array cleared, WeakMap<?, ?> map);
+
+	/**
+	 * Replaces the markers of the passed array with the markers of the passed ranges, in a single operation, keeping the
+	 * markers which are already marking a passed range.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param markers array of the current markers
+	 * @param ranges array of ranges to mark
+	 * @param options options of the new markers
+	 * @param cleared array where the cleared markers which are keys of the weak map are added
+	 * @param map weak map of the wrapped markers
+	 */
+	static native void replaceMarkers(Object document, Array markers, Array ranges, NativeObject options, Array cleared, WeakMap<?, ?> map);
+
+	/**
+	 * Returns the content of the lines of a document, from start up to (not including) end.
+	 * 
+	 * @param document CodeMirror document instance
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @return array with the content of the lines
+	 */
+	static native ArrayString getLines(Object document, int start, int end);
+
+	/**
+	 * Returns the element of an array at the passed index, by direct access, without creating any array.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @param <T> type of the element
+	 * @return the element at the passed index or <code>undefined</code> if out of bounds
+	 */
+	static native <T> T getAt(Array array, int index);
+
+	/**
+	 * Returns the string of an array at the passed index, by direct access, without creating any array.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @return the string at the passed index or <code>undefined</code> if out of bounds
+	 */
+	@JsMethod(name = "getAt")
+	static native String getStringAt(Array array, int index);
+
+	/**
+	 * Returns the integer of an array at the passed index, by direct access, without creating any array.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @return the integer at the passed index
+	 */
+	@JsMethod(name = "getAt")
+	static native int getIntAt(Array array, int index);
+
+	/**
+	 * Returns the double of an array at the passed index, by direct access, without creating any array.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @return the double at the passed index
+	 */
+	@JsMethod(name = "getAt")
+	static native double getDoubleAt(Array array, int index);
+
+	/**
+	 * Sets the element of an array at the passed index, by direct access, extending the array if the index is out of bounds.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @param value value to store
+	 */
+	static native void setAt(Array array, int index, Object value);
+
+	/**
+	 * Sets the string of an array at the passed index, by direct access, extending the array if the index is out of bounds.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @param value value to store
+	 */
+	static native void setAt(Array array, int index, String value);
+
+	/**
+	 * Sets the integer of an array at the passed index, by direct access, extending the array if the index is out of bounds.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @param value value to store
+	 */
+	static native void setAt(Array array, int index, int value);
+
+	/**
+	 * Sets the double of an array at the passed index, by direct access, extending the array if the index is out of bounds.
+	 * 
+	 * @param array array instance
+	 * @param index index of the element
+	 * @param value value to store
+	 */
+	static native void setAt(Array array, int index, double value);
+
 }
\ No newline at end of file
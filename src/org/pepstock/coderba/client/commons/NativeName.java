@@ -42,6 +42,16 @@ public final class NativeName {
 	 */
 	public static final String WINDOW = "window";
 
+	/**
+	 * Constant to bind java script object as performance with name <b>{@value PERFORMANCE}</b>.
+	 */
+	public static final String PERFORMANCE = "performance";
+
+	/**
+	 * Constant to bind java script object as weak map with name <b>{@value WEAK_MAP}</b>.
+	 */
+	public static final String WEAK_MAP = "WeakMap";
+
 	/**
 	 * Constant to bind java script object as CodeMirror with name <b>{@value CODE_MIRROR}</b>, (internal of CodeMirror).
 	 */
@@ -41,25 +41,6 @@ public class NativeObject {
 		// do nothing
 	}
 
-	/**
-	 * Defines a new property directly on an object, or modifies an existing property on an object.
-	 * 
-	 * @param source the object on which to define the property.
-	 * @param key the name of the property to be defined or modified.
-	 * @param descriptor the descriptor for the property being defined or modified.
-	 */
-	static native <T extends NativeAbstractDescriptor> void defineProperty(Object source, String key, T descriptor);
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param source the object in which to look for the property.
-	 * @param key the name of the property whose description is to be retrieved.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	static native <T extends NativeAbstractDescriptor> T getOwnPropertyDescriptor(Object source, String key);
-
 	/**
 	 * Returns an array of a given object's own property names, in the same order as we get with a normal loop.
 	 * 
@@ -108,395 +89,273 @@ public class NativeObject {
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineBooleanProperty(String key, boolean value) {
-		// creates a descriptor
-		NativeBooleanDescriptor descriptor = new NativeBooleanDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineIntProperty(String key, int value) {
-		// creates a descriptor
-		NativeIntegerDescriptor descriptor = new NativeIntegerDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineDoubleProperty(String key, double value) {
-		// creates a descriptor
-		NativeDoubleDescriptor descriptor = new NativeDoubleDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineStringProperty(String key, String value) {
-		// creates a descriptor
-		NativeStringDescriptor descriptor = new NativeStringDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineCallbackProperty(String key, CallbackProxy.Proxy value) {
-		// creates a descriptor
-		NativeCallbackProxyDescriptor descriptor = new NativeCallbackProxyDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineObjectProperty(String key, NativeObject value) {
-		// creates a descriptor
-		NativeObjectDescriptor descriptor = new NativeObjectDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineRegExpProperty(String key, RegExp value) {
-		// creates a descriptor
-		NativeRegExpDescriptor descriptor = new NativeRegExpDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final void defineElementProperty(String key, Element value) {
-		// creates a descriptor
-		NativeElementDescriptor descriptor = new NativeElementDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final <T extends NativeEntity> void defineEntityProperty(String key, T value) {
-		// creates a descriptor
-		NativeEntityDescriptor<T> descriptor = new NativeEntityDescriptor<>();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final <T> void defineFunctionProperty(String key, T value) {
-		// creates a descriptor
-		NativeFunctionDescriptor<T> descriptor = new NativeFunctionDescriptor<>();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Defines a new property directly on this object, or modifies an existing property.
+	 * Sets a property directly on this object, by assignment, without any property descriptor.
 	 * 
 	 * @param key the name of the property to be defined or modified.
-	 * @param object the object associated with the property.
+	 * @param value the value associated with the property.
 	 */
 	@JsOverlay
 	final <T extends Array> void defineArrayProperty(String key, T value) {
-		// creates a descriptor
-		NativeArrayDescriptor<T> descriptor = new NativeArrayDescriptor<>();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the property by assignment
+		NativeJsHelper.setProperty(this, key, value);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeBooleanDescriptor getBooleanProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.BOOLEAN.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	final boolean getBooleanProperty(String key, boolean defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.BOOLEAN.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeIntegerDescriptor getIntProperty(String key) {
-		return getInternalNumberProperty(key);
+	final int getIntProperty(String key, int defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.NUMBER.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeDoubleDescriptor getDoubleProperty(String key) {
-		return getInternalNumberProperty(key);
+	final double getDoubleProperty(String key, double defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.NUMBER.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	private final <T extends NativeAbstractDescriptor> T getInternalNumberProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.NUMBER.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	final String getStringProperty(String key, String defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.STRING.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeStringDescriptor getStringProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.STRING.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	final NativeObject getObjectProperty(String key, NativeObject defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.OBJECT.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeObjectDescriptor getObjectProperty(String key) {
-		return getInternalObjectProperty(key);
+	final RegExp getRegExpProperty(String key, RegExp defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.OBJECT.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeRegExpDescriptor getRegExpProperty(String key) {
-		return getInternalObjectProperty(key);
+	final Element getElementProperty(String key, Element defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.OBJECT.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final NativeElementDescriptor getElementProperty(String key) {
-		return getInternalObjectProperty(key);
+	final <T extends NativeEntity> T getEntityProperty(String key, T defaultValue) {
+		// returns the value if it has got the expected type
+		return NativeJsHelper.propertyOrDefault(this, key, ObjectType.OBJECT.value(), defaultValue);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of an own property (that is, one directly present on an object and not in the object's prototype chain)
+	 * of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	@JsOverlay
-	final <T extends NativeEntity> NativeEntityDescriptor<T> getEntityProperty(String key) {
-		return getInternalObjectProperty(key);
-	}
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	@JsOverlay
-	private final <T extends NativeAbstractDescriptor> T getInternalObjectProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.OBJECT.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
-	}
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
-	 */
-	@JsOverlay
-	final <T> NativeFunctionDescriptor<T> getFunctionProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.FUNCTION.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
-	}
-
-	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
-	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	final <T extends Array> NativeArrayDescriptor<T> getArrayProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.ARRAY.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
+	final <T> T getFunctionProperty(String key, T defaultValue) {
+		// reads the value if it is a function
+		T value = NativeJsHelper.propertyOrDefault(this, key, ObjectType.FUNCTION.value(), defaultValue);
+		// checks if the function is an own property
+		// ignoring the methods of the prototype chain
+		if (value != defaultValue && hasOwnProperty(key)) {
+			return value;
 		}
 		// if here, property does not exist
-		return null;
+		return defaultValue;
 	}
 
 	/**
-	 * Sets the properties of a descriptor to <code>true</code>, as default in java script when you use
-	 * <code>obj[key] = value</code>
+	 * Returns the value of a property of this object, reading it once and checking the type of the read value.
 	 * 
-	 * @param descriptor the descriptor to be set
+	 * @param key the name of the property to read.
+	 * @param defaultValue value to return if the property does not exist or has got another type.
+	 * @return the value of the given property if it exists on the object, the default value otherwise.
 	 */
 	@JsOverlay
-	static final void resetPropertyDescriptor(NativeAbstractDescriptor descriptor) {
-		// configures the property
-		descriptor.setConfigurable(true);
-		descriptor.setEnumerable(true);
-		descriptor.setWritable(true);
+	final <T extends Array> T getArrayProperty(String key, T defaultValue) {
+		// returns the value if it is an array
+		return NativeJsHelper.arrayOrDefault(this, key, defaultValue);
 	}
 
 }
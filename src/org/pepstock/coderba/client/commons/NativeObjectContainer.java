@@ -137,10 +137,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected int getIntProperty(String key, int defaultValue) {
-		// gets descriptor
-		NativeIntegerDescriptor descriptor = nativeObject.getIntProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getIntProperty(key, defaultValue);
 	}
 
 	/*
@@ -161,10 +159,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected double getDoubleProperty(String key, double defaultValue) {
-		// gets descriptor
-		NativeDoubleDescriptor descriptor = nativeObject.getDoubleProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getDoubleProperty(key, defaultValue);
 	}
 
 	/*
@@ -185,10 +181,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected boolean getBooleanProperty(String key, boolean defaultValue) {
-		// gets descriptor
-		NativeBooleanDescriptor descriptor = nativeObject.getBooleanProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getBooleanProperty(key, defaultValue);
 	}
 
 	/*
@@ -211,10 +205,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected String getStringProperty(String key, String defaultValue) {
-		// gets descriptor
-		NativeStringDescriptor descriptor = nativeObject.getStringProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getStringProperty(key, defaultValue);
 	}
 
 	/*
@@ -236,10 +228,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected NativeObject getObjectProperty(String key) {
-		// gets descriptor
-		NativeObjectDescriptor descriptor = nativeObject.getObjectProperty(key);
 		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		return nativeObject.getObjectProperty(key, null);
 	}
 
 	/*
@@ -273,10 +263,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected <T extends Array> T getArrayProperty(String key) {
-		// gets descriptor
-		NativeArrayDescriptor<T> descriptor = nativeObject.getArrayProperty(key);
 		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		return nativeObject.getArrayProperty(key, null);
 	}
 
 	/*
@@ -299,10 +287,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected RegExp getRegExpProperty(String key, RegExp defaultValue) {
-		// gets descriptor
-		NativeRegExpDescriptor descriptor = nativeObject.getRegExpProperty(key);
 		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		return nativeObject.getRegExpProperty(key, null);
 	}
 
 	/*
@@ -325,10 +311,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected Element getElementProperty(String key, Element defaultValue) {
-		// gets descriptor
-		NativeElementDescriptor descriptor = nativeObject.getElementProperty(key);
 		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		return nativeObject.getElementProperty(key, null);
 	}
 
 	/*
@@ -351,10 +335,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected <T extends NativeEntity> T getEntityProperty(String key, T defaultValue) {
-		// gets descriptor
-		NativeEntityDescriptor<T> descriptor = nativeObject.getEntityProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getEntityProperty(key, defaultValue);
 	}
 
 	/*
@@ -377,10 +359,8 @@ public abstract class NativeObjectContainer extends AbstractNativeObjectContaine
 	 */
 	@Override
 	protected <T> T getFunctionProperty(String key, T defaultValue) {
-		// gets descriptor
-		NativeFunctionDescriptor<T> descriptor = nativeObject.getFunctionProperty(key);
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return nativeObject.getFunctionProperty(key, defaultValue);
 	}
 
 }
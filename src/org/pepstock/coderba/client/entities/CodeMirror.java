@@ -19,7 +19,10 @@ import org.pepstock.coderba.client.EditorArea;
 import org.pepstock.coderba.client.EditorAreaId;
 import org.pepstock.coderba.client.Injector;
 import org.pepstock.coderba.client.Language;
+import org.pepstock.coderba.client.commons.Id;
+import org.pepstock.coderba.client.commons.JsHelper;
 import org.pepstock.coderba.client.commons.NativeObject;
+import org.pepstock.coderba.client.enums.Options;
 
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
@@ -161,6 +164,182 @@ public final class CodeMirror {
 		return fromTextArea(id.getId(), textArea, editorArea.getOptions());
 	}
 
+	/**
+	 * Creates an editor, appending it to the element of the editor area, without using a text area.<br>
+	 * The content of the editor is provided by the value of the editor area options, passed as is to CodeMirror, without
+	 * parsing it as HTML and copying it into a text area.
+	 * 
+	 * @param id editor area id instance
+	 * @param editorArea editor area instance
+	 * @return an initialized editor with editor area configuration
+	 */
+	public Editor create(EditorAreaId id, EditorArea editorArea) {
+		// checks if id is consistent
+		if (id == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor area id is null");
+		}
+		// checks if editor area is consistent
+		if (editorArea == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor area is null");
+		}
+		// gets the configuration
+		EditorOptions configuration = editorArea.getOptions();
+		// creates the editor into the element of editor area
+		Editor editor = new Editor(new NativeEditor(editorArea.getElement(), configuration.getObject()), configuration.getLanguage());
+		// sets the unique id to editor
+		editor.setId(id.getId());
+		// switches the configuration from user to runtime
+		configuration.setDelegatedOptions(new RuntimeOptions(editor.getNativeObject(), Defaults.get()));
+		// applies the large file policy
+		editor.setLargeFilePolicy(configuration.getLargeFilePolicy());
+		// returns editor instance
+		return editor;
+	}
+
+	/**
+	 * Releases an editor, detaching it from its editor area, in order to be reused by another editor area.<br>
+	 * The handlers are removed, the wrapper element is removed from DOM and the document of the editor is detached and
+	 * returned. The options of the editor area are restored as user options, with the options applied to the editor which are
+	 * different from the defaults.
+	 * 
+	 * @param editor editor instance to release
+	 * @param editorArea editor area which the editor belongs to
+	 * @return the document which has been detached from the editor
+	 */
+	public org.pepstock.coderba.client.entities.Document release(Editor editor, EditorArea editorArea) {
+		// checks if editor is consistent
+		if (editor == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor is null");
+		}
+		// checks if editor area is consistent
+		if (editorArea == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor area is null");
+		}
+		// restores the options of editor area as user options
+		restoreOptions(editor, editorArea);
+		// removes all handlers of the editor area
+		editor.removeAllHandlers();
+		// removes wrapper from DOM
+		editor.getWrapperElement().removeFromParent();
+		// detaches the document
+		return detachDocument(editor);
+	}
+
+	/**
+	 * Detaches the document of an editor, attaching an empty one, because a document can be attached only to an editor.<br>
+	 * The detached document can be attached to another editor.
+	 * 
+	 * @param editor editor instance which the document belongs to
+	 * @return the document which has been detached from the editor
+	 */
+	public org.pepstock.coderba.client.entities.Document detachDocument(Editor editor) {
+		// checks if editor is consistent
+		if (editor == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor is null");
+		}
+		// detaches the document, attaching an empty one
+		return editor.swapDoc(new org.pepstock.coderba.client.entities.Document(new NativeDocument(""), null));
+	}
+
+	/**
+	 * Destroys an editor which will not be used anymore.<br>
+	 * The large file policy and all handlers are detached and the wrapper element is removed from DOM, in order that the
+	 * editor can be garbage collected.
+	 * 
+	 * @param editor editor instance to destroy
+	 */
+	public void destroy(Editor editor) {
+		// checks if editor is consistent
+		if (editor == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor is null");
+		}
+		// removes the large file policy, detaching its listeners
+		editor.setLargeFilePolicy(null);
+		// removes all handlers
+		editor.removeAllHandlers();
+		// removes wrapper from DOM
+		editor.getWrapperElement().removeFromParent();
+	}
+
+	/**
+	 * Restores the options of an editor area as user options, with the options applied to the editor which are different from
+	 * the defaults, in order that the editor area can be initialized again after its editor has been released or destroyed.
+	 * 
+	 * @param editor editor instance of the editor area
+	 * @param editorArea editor area which the editor belongs to
+	 */
+	public void restoreOptions(Editor editor, EditorArea editorArea) {
+		// checks if arguments are consistent
+		if (editor == null || editorArea == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor or editor area is null");
+		}
+		// removes the large file policy
+		// restoring the full profile in order not to store the degraded options
+		editor.setLargeFilePolicy(null);
+		// gets the options of the editor, different from the defaults
+		NativeObject options = JsHelper.get().diffOptions(editor.getNativeObject(), Defaults.get().getObject(), Options.VALUE, Id.CODERBA_ID);
+		// restores the options of editor area as user options
+		editorArea.getOptions().resetDelegatedOptions(options);
+	}
+
+	/**
+	 * Reuses an editor, previously released, for an editor area, appending it to the element of the editor area.<br>
+	 * Only the options which are different from the current ones are applied to the editor and the document of the editor
+	 * area is attached, if set, otherwise a new document is created by the value and the language of the options.
+	 * 
+	 * @param editor editor instance to reuse
+	 * @param id editor area id instance
+	 * @param editorArea editor area instance
+	 * @return the editor with editor area configuration
+	 */
+	public Editor reuse(Editor editor, EditorAreaId id, EditorArea editorArea) {
+		// checks if editor is consistent
+		if (editor == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor is null");
+		}
+		// checks if id is consistent
+		if (id == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor area id is null");
+		}
+		// checks if editor area is consistent
+		if (editorArea == null) {
+			// if not exception
+			throw new IllegalArgumentException("Editor area is null");
+		}
+		// gets the configuration
+		EditorOptions configuration = editorArea.getOptions();
+		// applies only the changed options
+		JsHelper.get().applyOptions(editor.getNativeObject(), configuration.getObject(), Defaults.get().getObject(), Options.VALUE, Id.CODERBA_ID);
+		// gets the document to attach
+		org.pepstock.coderba.client.entities.Document document = editorArea.getDocument();
+		// checks if the document has been set
+		if (document == null) {
+			// creates the document by the options
+			document = DocumentBuilder.create().setValue(configuration.getOwnValue()).setLanguage(configuration.getLanguage()).build();
+		}
+		// attaches the document
+		editor.swapDoc(document);
+		// sets the unique id to editor
+		editor.setId(id.getId());
+		// appends the editor to the element of editor area
+		editorArea.getElement().appendChild(editor.getWrapperElement());
+		// switches the configuration from user to runtime
+		configuration.setDelegatedOptions(new RuntimeOptions(editor.getNativeObject(), Defaults.get()));
+		// applies the large file policy
+		editor.setLargeFilePolicy(configuration.getLargeFilePolicy());
+		// returns editor instance
+		return editor;
+	}
+
 	/**
 	 * This method provides another way to initialize an editor.<br>
 	 * It takes a text area DOM node as first argument and an optional configuration object as second.<br>
@@ -190,6 +369,8 @@ public final class CodeMirror {
 			editor.setId(id);
 			// switches the configuration from user to runtime
 			configuration.setDelegatedOptions(new RuntimeOptions(editor.getNativeObject(), Defaults.get()));
+			// applies the large file policy
+			editor.setLargeFilePolicy(configuration.getLargeFilePolicy());
 			// returns editor instance
 			return editor;
 		}
@@ -15,11 +15,10 @@
 */
 package org.pepstock.coderba.client.entities;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 import org.pepstock.coderba.client.EditorArea;
 import org.pepstock.coderba.client.GlobalDefaults;
@@ -27,15 +26,21 @@ import org.pepstock.coderba.client.Injector;
 import org.pepstock.coderba.client.Language;
 import org.pepstock.coderba.client.Mode;
 import org.pepstock.coderba.client.Modes;
+import org.pepstock.coderba.client.callbacks.ChunkConsumer;
+import org.pepstock.coderba.client.callbacks.ChunkSupplier;
 import org.pepstock.coderba.client.callbacks.DocumentEachLineHandler;
 import org.pepstock.coderba.client.callbacks.DocumentExtendSelectionsHandler;
+import org.pepstock.coderba.client.callbacks.LineCursorHandler;
+import org.pepstock.coderba.client.callbacks.LineScanCallback;
 import org.pepstock.coderba.client.callbacks.LinkedDocumentsHandler;
+import org.pepstock.coderba.client.callbacks.ProgressCallback;
 import org.pepstock.coderba.client.commons.ArrayEntity;
 import org.pepstock.coderba.client.commons.ArrayListHelper;
 import org.pepstock.coderba.client.commons.ArrayString;
 import org.pepstock.coderba.client.commons.CallbackProxy;
 import org.pepstock.coderba.client.commons.Id;
 import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.commons.NativeObject;
 import org.pepstock.coderba.client.commons.UndefinedValues;
 import org.pepstock.coderba.client.enums.CursorPosition;
 import org.pepstock.coderba.client.enums.LineClassLocation;
@@ -54,6 +59,7 @@ import org.pepstock.coderba.client.events.DocumentCursorActivityEventHandler;
 import org.pepstock.coderba.client.events.EventManager;
 import org.pepstock.coderba.client.events.IsEventManager;
 import org.pepstock.coderba.client.events.RemoveHandlerEvent;
+import org.pepstock.coderba.client.utils.WeakMap;
 
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.shared.EventHandler;
@@ -71,6 +77,22 @@ import jsinterop.annotations.JsFunction;
  */
 public final class Document implements IsEventManager {
 
+	/**
+	 * Default origin of the changes applied by {@link Document#applyEdits(List)}, <b>{@value APPLY_EDITS_ORIGIN}</b>.
+	 */
+	public static final String APPLY_EDITS_ORIGIN = "*applyEdits";
+	/**
+	 * Origin of the changes applied by {@link Document#setValueWithDiff(String)}, <b>{@value SET_VALUE_WITH_DIFF_ORIGIN}</b>.
+	 */
+	public static final String SET_VALUE_WITH_DIFF_ORIGIN = "*setValueWithDiff";
+	/**
+	 * Default time budget in milliseconds of the comparison of lines of {@link Document#setValueWithDiff(String)},
+	 * <b>{@value DEFAULT_DIFF_TIMEOUT}</b>.
+	 */
+	public static final int DEFAULT_DIFF_TIMEOUT = 100;
+	// prefix of the origin to always merge the changes into the same history event
+	private static final String MERGE_ORIGIN_PREFIX = "*";
+
 	// ---------------------------
 	// -- JAVASCRIPT FUNCTIONS ---
 	// ---------------------------
@@ -218,18 +240,24 @@ public final class Document implements IsEventManager {
 	private final EventManager eventManager;
 	// language of the document
 	private final Language language;
-	// maps all created markers
-	private final Map<String, TextMarker> markers = new HashMap<>();
-	// maps all line widgets
-	private final Map<String, LineWidget> lineWidgets = new HashMap<>();
+	// unique id of the document
+	private final String id;
+	// maps all created markers by their native markers
+	private final WeakMap<NativeTextMarker, TextMarker> markers = new WeakMap<>();
+	// maps all line widgets by their native line widgets
+	private final WeakMap<NativeObject, LineWidget> lineWidgets = new WeakMap<>();
 	// maps all line handles
-	private final Map<String, LineHandle> lineHandles = new HashMap<>();
+	private final LineHandleRegistry lineHandles = new LineHandleRegistry(this);
+	// index of markers by lines
+	private MarkerIndex markerIndex = null;
 	// document each line handler callback
 	private DocumentEachLineHandler documentEachLineHandler = null;
 	// document extend selection handler callback
 	private DocumentExtendSelectionsHandler documentExtendSelectionsHandler = null;
 	// linked document handler callback
 	private LinkedDocumentsHandler linkedDocumentsHandler = null;
+	// loader of the value in chunks
+	private ValueLoader valueLoader = null;
 	// event items manager instance
 	private final EventItemManager eventItemManager;
 
@@ -252,8 +280,8 @@ public final class Document implements IsEventManager {
 		// sets event manager
 		this.eventManager = new EventManager(this);
 		this.eventItemManager = new EventItemManager();
-		// stores id
-		Id.applyTo(nativeObject);
+		// generates id, without changing the native object
+		this.id = Id.generate();
 		// -------------------------------
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
@@ -290,7 +318,7 @@ public final class Document implements IsEventManager {
 	 * @return the unique ID of document
 	 */
 	public String getId() {
-		return Id.retrieveFrom(nativeObject);
+		return id;
 	}
 
 	/**
@@ -320,6 +348,63 @@ public final class Document implements IsEventManager {
 		return getValue();
 	}
 
+	/**
+	 * Passes the content of the document to a consumer in chunks of the passed size, the last one could be shorter, without
+	 * building the whole content in a single string.<br>
+	 * The lines are read in batches and separated by the line separator of the document.
+	 * 
+	 * @param chunkSize amount of characters of every chunk
+	 * @param consumer consumer of the chunks
+	 * @return the amount of characters passed to the consumer
+	 */
+	public int getValue(int chunkSize, ChunkConsumer consumer) {
+		// checks if arguments are consistent
+		if (chunkSize <= 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Chunk size is not valid: " + chunkSize);
+		} else if (consumer == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Chunk consumer is null");
+		}
+		final String separator = getLineSeparator();
+		final int start = firstLine();
+		final int end = start + lineCount();
+		// buffer of the characters not passed yet
+		StringBuilder buffer = new StringBuilder();
+		int passed = 0;
+		// scans the lines in batches
+		for (int batchStart = start; batchStart < end; batchStart += LineScanner.DEFAULT_BATCH_SIZE) {
+			int batchEnd = Math.min(end, batchStart + LineScanner.DEFAULT_BATCH_SIZE);
+			ArrayString lines = JsHelper.get().getLines(nativeObject, batchStart, batchEnd);
+			// appends the lines to the buffer
+			for (int i = 0; i < lines.length(); i++) {
+				buffer.append(lines.get(i));
+				// checks if is not the last line
+				if (batchStart + i < end - 1) {
+					buffer.append(separator);
+				}
+			}
+			// passes the full chunks of the buffer
+			int offset = 0;
+			while (buffer.length() - offset >= chunkSize) {
+				passed += chunkSize;
+				// checks if the consumer stops
+				if (!consumer.accept(buffer.substring(offset, offset + chunkSize))) {
+					return passed;
+				}
+				offset += chunkSize;
+			}
+			// removes the passed characters once
+			buffer.delete(0, offset);
+		}
+		// passes the last chunk
+		if (buffer.length() > 0) {
+			passed += buffer.length();
+			consumer.accept(buffer.toString());
+		}
+		return passed;
+	}
+
 	/**
 	 * Set the content of the document.
 	 * 
@@ -327,9 +412,112 @@ public final class Document implements IsEventManager {
 	 */
 	public void setValue(String content) {
 		String contentToSet = content == null ? GlobalDefaults.get().getValue() : content;
+		// cancels the loading in async mode, if running
+		cancelValueLoader();
 		nativeObject.setValue(contentToSet);
 	}
 
+	/**
+	 * Set the content of the document, replacing only the changed parts of the current content, in a single operation and
+	 * with a single history event.<br>
+	 * The text markers, the line widgets, the folds and the highlighting of the unchanged parts are kept.<br>
+	 * The lines are compared with a time budget of {@link Document#DEFAULT_DIFF_TIMEOUT} milliseconds, after which all lines
+	 * between the common ones at the start and at the end are replaced.
+	 * 
+	 * @param content the content of the document
+	 */
+	public void setValueWithDiff(String content) {
+		setValueWithDiff(content, DEFAULT_DIFF_TIMEOUT);
+	}
+
+	/**
+	 * Set the content of the document, replacing only the changed parts of the current content, in a single operation and
+	 * with a single history event.<br>
+	 * The text markers, the line widgets, the folds and the highlighting of the unchanged parts are kept.<br>
+	 * The lines are compared with the passed time budget, after which all lines between the common ones at the start and at
+	 * the end are replaced.
+	 * 
+	 * @param content the content of the document
+	 * @param timeout time budget in milliseconds of the comparison of lines
+	 */
+	public void setValueWithDiff(String content, int timeout) {
+		String contentToSet = content == null ? GlobalDefaults.get().getValue() : content;
+		// cancels the loading in async mode, if running
+		// before reading the current lines
+		cancelValueLoader();
+		// gets the current and the new lines
+		List<String> oldLines = getLines(firstLine(), firstLine() + lineCount());
+		List<String> newLines = ArrayListHelper.unmodifiableList(nativeObject.splitLines(contentToSet));
+		// calculates the edits
+		List<TextEdit> edits = ValueDiff.diff(oldLines, newLines, getLineSeparator(), Math.max(0, timeout));
+		// applies the edits
+		applyEdits(edits, SET_VALUE_WITH_DIFF_ORIGIN);
+	}
+
+	/**
+	 * Set the content of the document, appending it in chunks during the idle periods of the browser, in order that the
+	 * editor is still interactive while a very large content is loading.<br>
+	 * Any previous loading of the document, not completed yet, is cancelled.
+	 * 
+	 * @param content the content of the document
+	 * @param callback callback to notify the progress of the loading, could be <code>null</code>
+	 * @return the loader of the content, which can be used to cancel the loading
+	 */
+	public ValueLoader setValueAsync(String content, ProgressCallback callback) {
+		String contentToSet = content == null ? GlobalDefaults.get().getValue() : content;
+		// loads the content splitting it in chunks
+		return loadValue(ValueLoader.split(contentToSet), callback, contentToSet.length());
+	}
+
+	/**
+	 * Set the content of the document, appending the chunks provided by the passed supplier during the idle periods of the
+	 * browser, in order that the editor is still interactive while a very large content is loading.<br>
+	 * Any previous loading of the document, not completed yet, is cancelled.
+	 * 
+	 * @param supplier supplier of the chunks of the content of the document
+	 * @param callback callback to notify the progress of the loading, could be <code>null</code>
+	 * @return the loader of the content, which can be used to cancel the loading
+	 */
+	public ValueLoader setValueAsync(ChunkSupplier supplier, ProgressCallback callback) {
+		// checks if argument is consistent
+		if (supplier == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Chunk supplier is null");
+		}
+		// loads the content, with unknown size
+		return loadValue(supplier, callback, UndefinedValues.INTEGER);
+	}
+
+	/**
+	 * Starts the loading of the content of the document, cancelling the previous one, if running.
+	 * 
+	 * @param supplier supplier of the chunks of the content of the document
+	 * @param callback callback to notify the progress of the loading, could be <code>null</code>
+	 * @param total total amount of characters of the content or {@link UndefinedValues#INTEGER} if unknown
+	 * @return the loader of the content
+	 */
+	private ValueLoader loadValue(ChunkSupplier supplier, ProgressCallback callback, int total) {
+		// cancels the previous loading, if running
+		cancelValueLoader();
+		// cleans the document
+		nativeObject.setValue("");
+		// creates and starts the loader
+		valueLoader = new ValueLoader(this, supplier, callback, total);
+		valueLoader.start();
+		return valueLoader;
+	}
+
+	/**
+	 * Cancels the loading of the content in async mode, if running, because the content is going to be replaced.
+	 */
+	private void cancelValueLoader() {
+		// checks if there is a loading
+		if (valueLoader != null) {
+			valueLoader.cancel();
+			valueLoader = null;
+		}
+	}
+
 	/**
 	 * Get the text between the given points in the editor, which should be position objects.
 	 * 
@@ -496,6 +684,85 @@ public final class Document implements IsEventManager {
 		}
 	}
 
+	/**
+	 * Applies a list of edits in a single operation, with a single history event.<br>
+	 * All edits refer to the document before applying any of them, then the positions of the edits are not shifted by the
+	 * previous edits. The edits are sorted by their starting point (edits with the same starting point are applied by the list
+	 * order) and must not overlap.<br>
+	 * The origin of the changes is <b>{@value Document#APPLY_EDITS_ORIGIN}</b>.
+	 * 
+	 * @param edits list of edits to apply
+	 */
+	public void applyEdits(List<TextEdit> edits) {
+		applyEdits(edits, APPLY_EDITS_ORIGIN);
+	}
+
+	/**
+	 * Applies a list of edits in a single operation, with a single history event.<br>
+	 * All edits refer to the document before applying any of them, then the positions of the edits are not shifted by the
+	 * previous edits. The edits are sorted by their starting point (edits with the same starting point are applied by the list
+	 * order) and must not overlap.<br>
+	 * The origin is prefixed by <code>*</code>, if missing, in order that all changes are merged in the same history event.
+	 * 
+	 * @param edits list of edits to apply
+	 * @param origin origin passed on to "change" events
+	 */
+	public void applyEdits(List<TextEdit> edits, String origin) {
+		// checks if argument is consistent
+		if (edits == null || edits.isEmpty()) {
+			return;
+		}
+		// cancels the loading in async mode, if running
+		cancelValueLoader();
+		// gets the amount of edits
+		final int size = edits.size();
+		// resolves the indexes of all edits before applying any of them
+		final int[] fromIndexes = new int[size];
+		final int[] toIndexes = new int[size];
+		// creates the list with the order of edits
+		final List<Integer> order = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			TextEdit edit = edits.get(i);
+			// checks if edit is consistent
+			if (edit == null) {
+				// if not, exception
+				throw new IllegalArgumentException("Text edit at index " + i + " is null");
+			}
+			fromIndexes[i] = edit.getFromIndex(this);
+			toIndexes[i] = edit.getToIndex(this);
+			// checks if range is consistent
+			if (toIndexes[i] < fromIndexes[i]) {
+				// if not, exception
+				throw new IllegalArgumentException("Text edit at index " + i + " ends before its start");
+			}
+			order.add(i);
+		}
+		// sorts by starting index and then by list order
+		Collections.sort(order, (a, b) -> fromIndexes[a] != fromIndexes[b] ? Integer.compare(fromIndexes[a], fromIndexes[b]) : Integer.compare(a, b));
+		// checks if any edit overlaps the next one
+		for (int i = 1; i < size; i++) {
+			if (toIndexes[order.get(i - 1)] > fromIndexes[order.get(i)]) {
+				// if overlaps, exception
+				throw new IllegalArgumentException("Text edits at index " + order.get(i - 1) + " and " + order.get(i) + " overlap");
+			}
+		}
+		// checks the origin, prefixing it in order to merge all changes
+		final String changeOrigin = origin == null ? APPLY_EDITS_ORIGIN : (origin.startsWith(MERGE_ORIGIN_PREFIX) ? origin : MERGE_ORIGIN_PREFIX + origin);
+		// closes the current history event, in order to not merge the edits with previous changes
+		nativeObject.changeGeneration(true);
+		// applies all edits in a single operation
+		operation(() -> {
+			// scans the edits from the last one
+			// in this way, the indexes of the previous edits are not changed
+			for (int i = size - 1; i >= 0; i--) {
+				int index = order.get(i);
+				nativeObject.replaceRange(edits.get(index).getText(), nativeObject.posFromIndex(fromIndexes[index]), nativeObject.posFromIndex(toIndexes[index]), changeOrigin);
+			}
+		});
+		// closes the history event of the edits
+		nativeObject.changeGeneration(true);
+	}
+
 	/**
 	 * Get the content of line by its number.
 	 * 
@@ -511,6 +778,26 @@ public final class Document implements IsEventManager {
 		return GlobalDefaults.get().getValue();
 	}
 
+	/**
+	 * Returns the content of the lines from start up to (not including) end, read from the document in a single call.<br>
+	 * The returned list is unmodifiable and backed by the java script array returned by CodeMirror, without copying the
+	 * strings. The range is limited to the lines of the document.
+	 * 
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @return an unmodifiable list with the content of the lines
+	 */
+	public List<String> getLines(int start, int end) {
+		// limits the range to the document
+		int from = Math.max(start, firstLine());
+		int to = Math.min(end, firstLine() + lineCount());
+		// checks if there is any line
+		if (from >= to) {
+			return Collections.emptyList();
+		}
+		return ArrayListHelper.unmodifiableList(JsHelper.get().getLines(nativeObject, from, to));
+	}
+
 	/**
 	 * Get the number of lines in the editor.
 	 * 
@@ -553,20 +840,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.getLineHandle(line);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// checks if there is an id
-				String lineHandleId = Id.retrieveFrom(nativeLineHandle);
-				// if line handle already in cache
-				if (lineHandles.containsKey(lineHandleId)) {
-					// returns from cache
-					return lineHandles.get(lineHandleId);
-				} else {
-					// creates new line handle
-					LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-					// stores into cache
-					lineHandles.put(lineHandle.getId(), lineHandle);
-					// returns it
-					return lineHandle;
-				}
+				// returns from registry, creating it if not exists
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// returns null
@@ -662,6 +937,75 @@ public final class Document implements IsEventManager {
 		eachLine(start, end);
 	}
 
+	/**
+	 * Scans the whole document by a line cursor, invoking the handler for each line until it returns <code>false</code>.<br>
+	 * Unlike <code>eachLine</code>, no line handle is created and every scan has got its own cursor.
+	 * 
+	 * @param handler handler invoked for each line
+	 * @return the amount of scanned lines
+	 */
+	public int scanLines(LineCursorHandler handler) {
+		return scanLines(firstLine(), firstLine() + lineCount(), handler);
+	}
+
+	/**
+	 * Scans the range from start up to (not including) end by a line cursor, invoking the handler for each line until it
+	 * returns <code>false</code>.<br>
+	 * Unlike <code>eachLine</code>, no line handle is created and every scan has got its own cursor. The range is limited to the
+	 * lines of the document.
+	 * 
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @param handler handler invoked for each line
+	 * @return the amount of scanned lines
+	 */
+	public int scanLines(int start, int end, LineCursorHandler handler) {
+		// checks if argument is consistent
+		if (handler == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Line cursor handler is null");
+		}
+		// creates the cursor for this scan
+		LineCursor cursor = new LineCursor(this, handler);
+		// scans the range limited to the document
+		cursor.scan(Math.max(start, firstLine()), Math.min(end, firstLine() + lineCount()));
+		return cursor.getScannedLines();
+	}
+
+	/**
+	 * Scans the whole document in background, during the idle periods of the browser, invoking the handler for each line until
+	 * it returns <code>false</code>.
+	 * 
+	 * @param handler handler invoked for each line
+	 * @param callback callback to notify the end of scan, could be <code>null</code>
+	 * @return the scanner instance, which can be used to cancel the scan
+	 */
+	public LineScanner scanLinesAsync(LineCursorHandler handler, LineScanCallback callback) {
+		return scanLinesAsync(firstLine(), firstLine() + lineCount(), handler, callback);
+	}
+
+	/**
+	 * Scans the range from start up to (not including) end in background, during the idle periods of the browser, invoking
+	 * the handler for each line until it returns <code>false</code>.
+	 * 
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @param handler handler invoked for each line
+	 * @param callback callback to notify the end of scan, could be <code>null</code>
+	 * @return the scanner instance, which can be used to cancel the scan
+	 */
+	public LineScanner scanLinesAsync(int start, int end, LineCursorHandler handler, LineScanCallback callback) {
+		// checks if argument is consistent
+		if (handler == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Line cursor handler is null");
+		}
+		// creates and starts the scanner
+		LineScanner scanner = new LineScanner(this, Math.max(start, firstLine()), end, handler, callback);
+		scanner.start();
+		return scanner;
+	}
+
 	/**
 	 * Set the editor content as 'clean', a flag that it will retain until it is edited, and which will be set again when such
 	 * an edit is undone again.<br>
@@ -1285,6 +1629,44 @@ public final class Document implements IsEventManager {
 		return nativeObject.getExtending();
 	}
 
+	/**
+	 * Executes the passed code as a CodeMirror operation of the editor associated with the document.<br>
+	 * CodeMirror buffers all state changes and DOM updates made in the operation and applies them at the end, firing the
+	 * batched events, like "changes", once.<br>
+	 * If the document is not associated with an editor, the code is executed as is, because there is no DOM to update.
+	 * 
+	 * @param operation code to execute as a CodeMirror operation
+	 */
+	public void operation(Runnable operation) {
+		// checks if argument is consistent
+		if (operation == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Operation is null");
+		}
+		// gets native editor
+		NativeEditor nativeEditor = nativeObject.getEditor();
+		// if consistent
+		if (nativeEditor != null) {
+			// executes as operation
+			nativeEditor.operation(operation::run);
+		} else {
+			// executes the code
+			operation.run();
+		}
+	}
+
+	/**
+	 * Starts a CodeMirror operation of the editor associated with the document, which ends when the returned operation is
+	 * closed.<br>
+	 * It is the same of {@link Document#operation(Runnable)} but it can be used in a <code>try-with-resources</code>
+	 * statement.
+	 * 
+	 * @return the started operation, to close in order to end it
+	 */
+	public Operation startOperation() {
+		return new Operation(nativeObject.getEditor());
+	}
+
 	/**
 	 * Retrieve the editor associated with a document. May return null.
 	 * 
@@ -1566,7 +1948,9 @@ public final class Document implements IsEventManager {
 			// creates a marker
 			TextMarker marker = new TextMarker(nativeObject.markText(from, to, checkOptions(options, TextMarkerType.RANGE).getObject()), this);
 			// stores markers into cache
-			markers.put(marker.getId(), marker);
+			markers.set(marker.getMarkerObject(), marker);
+			// adds to index
+			indexTextMarker(marker);
 			return marker;
 		}
 		// if here, arguments are not consistent
@@ -1585,19 +1969,37 @@ public final class Document implements IsEventManager {
 	}
 
 	/**
-	 * Returns an existing text marker instance by its id.
+	 * Returns the text marker instance of a native marker, creating and storing it if not exists.
 	 * 
-	 * @param id id of text marker
-	 * @return an existing text marker or <code>null</code> if not exists
+	 * @param nativeMarker native marker
+	 * @return the text marker instance of the native marker
 	 */
-	TextMarker getMarkerById(String id) {
-		// checks if argument is consistent
-		if (id != null) {
-			return markers.get(id);
+	TextMarker getTextMarker(NativeTextMarker nativeMarker) {
+		// gets the stored marker by the native one
+		TextMarker storedTextMarker = markers.get(nativeMarker);
+		// if it has not been created yet
+		if (storedTextMarker == null) {
+			// creates new marker
+			TextMarker newTextMarker = new TextMarker(nativeMarker, this);
+			// stores into cache
+			markers.set(nativeMarker, newTextMarker);
+			// adds to index
+			indexTextMarker(newTextMarker);
+			return newTextMarker;
 		}
-		// if here, id is not consistent
-		// then returns null
-		return null;
+		return storedTextMarker;
+	}
+
+	/**
+	 * Creates a layer of range markers, all with the passed options, which are created, cleared and replaced in a single
+	 * operation, without creating a text marker instance for each marker.
+	 * 
+	 * @param options options of the markers of the layer. If <code>null</code> or not for range markers, the default options are
+	 *            used
+	 * @return a new empty marker layer
+	 */
+	public MarkerLayer createMarkerLayer(TextMarkerOptions options) {
+		return new MarkerLayer(this, checkOptions(options, TextMarkerType.RANGE).getObject());
 	}
 
 	/**
@@ -1614,7 +2016,9 @@ public final class Document implements IsEventManager {
 			// creates a marker
 			TextMarker marker = new TextMarker(nativeObject.setBookmark(pos, checkOptions(options, TextMarkerType.BOOKMARK).getObject()), this);
 			// stores the marker into cache
-			markers.put(marker.getId(), marker);
+			markers.set(marker.getMarkerObject(), marker);
+			// adds to index
+			indexTextMarker(marker);
 			return marker;
 		}
 		// if here, arguments are not consistent
@@ -1686,18 +2090,117 @@ public final class Document implements IsEventManager {
 		return load(array);
 	}
 
+	/**
+	 * Returns the map of the text marker instances by their native markers.
+	 * 
+	 * @return the map of the text marker instances by their native markers
+	 */
+	WeakMap<NativeTextMarker, TextMarker> getTextMarkers() {
+		return markers;
+	}
+
 	/**
 	 * Called by "clear" of text marker when it's clearing.
 	 * 
-	 * @param id the marker id.
+	 * @param nativeMarker the native marker
 	 */
-	void clearTextMarker(String id) {
+	void clearTextMarker(NativeTextMarker nativeMarker) {
 		// checks if argument is consistent
-		if (id != null) {
-			markers.remove(id);
+		if (nativeMarker != null) {
+			// gets the stored marker by the native one
+			TextMarker marker = markers.get(nativeMarker);
+			// checks if the marker has got an instance
+			if (marker != null) {
+				markers.remove(nativeMarker);
+				// checks if the index is enabled
+				if (markerIndex != null) {
+					markerIndex.remove(marker.getId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a new text marker to the index of markers, if enabled.
+	 * 
+	 * @param marker text marker to add
+	 */
+	private void indexTextMarker(TextMarker marker) {
+		// checks if the index is enabled
+		if (markerIndex != null) {
+			markerIndex.add(marker);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the text markers are indexed by their lines.
+	 * 
+	 * @return <code>true</code> if the text markers are indexed by their lines
+	 */
+	public boolean isMarkerIndexEnabled() {
+		return markerIndex != null;
+	}
+
+	/**
+	 * Sets <code>true</code> if the text markers must be indexed by their lines, in order to query the markers on a range of
+	 * lines, for instance the viewport, without invoking CodeMirror.<br>
+	 * The index is kept in step with the creation and the clearing of the text markers and with the changes of the document.<br>
+	 * The markers of a {@link MarkerLayer} are not indexed, because they have not got any {@link TextMarker} instance, until
+	 * it is requested by {@link MarkerLayer#getMarker(int)}. Then the index does not return the markers of the layers which
+	 * have not been requested.
+	 * 
+	 * @param enabled <code>true</code> if the text markers must be indexed by their lines
+	 * @see MarkerIndex
+	 */
+	public void setMarkerIndexEnabled(boolean enabled) {
+		// checks if the status is changing
+		if (enabled && markerIndex == null) {
+			// creates the index with the existing markers
+			markerIndex = new MarkerIndex(this);
+			markerIndex.attach(getStoredTextMarkers());
+		} else if (!enabled && markerIndex != null) {
+			// removes the index
+			markerIndex.detach();
+			markerIndex = null;
 		}
 	}
 
+	/**
+	 * Returns the text marker instances of the markers still existing into the document.<br>
+	 * The native markers without any instance are skipped, without creating it.
+	 * 
+	 * @return the list of the text marker instances into the document
+	 */
+	private List<TextMarker> getStoredTextMarkers() {
+		// gets markers array
+		ArrayTextMarker array = nativeObject.getAllMarks();
+		// creates the result
+		List<TextMarker> result = new ArrayList<>();
+		// checks if array is consistent
+		if (array != null) {
+			// scans all native markers
+			for (int i = 0; i < array.length(); i++) {
+				// gets the stored marker by the native one
+				TextMarker marker = markers.get(array.get(i));
+				// checks if the marker has got an instance
+				if (marker != null) {
+					result.add(marker);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of text markers by their lines.
+	 * 
+	 * @return the index of text markers by their lines or <code>null</code> if not enabled
+	 * @see Document#setMarkerIndexEnabled(boolean)
+	 */
+	public MarkerIndex getMarkerIndex() {
+		return markerIndex;
+	}
+
 	/**
 	 * Sets the gutter marker for the given gutter (identified by its CSS class, see the gutters option) to the given value.
 	 * Value can be either null, to clear the marker, or a DOM element, to set it.<br>
@@ -1715,11 +2218,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.setGutterMarker(line, gutterID, value);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// creates a line handle
-				LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-				// stores into cache
-				lineHandles.put(lineHandle.getId(), lineHandle);
-				return lineHandle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// if not, returns null.
@@ -1743,11 +2243,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.setGutterMarker(line.getObject(), gutterID, value);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// creates a line handle
-				LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-				// stores into cache
-				lineHandles.put(lineHandle.getId(), lineHandle);
-				return lineHandle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// if not, returns null.
@@ -1755,19 +2252,53 @@ public final class Document implements IsEventManager {
 	}
 
 	/**
-	 * Returns a line handle by its id.
+	 * Returns an already existing line handle by its native line handle.
 	 * 
-	 * @param id the id of line handle
+	 * @param nativeLineHandle the native line handle
 	 * @return already existing line handle or <code>null</code> if not exists
 	 */
-	LineHandle getLineHandleById(String id) {
-		// checks if argument is consistent
-		if (id != null) {
-			return lineHandles.get(id);
-		}
-		// if here, id is not consistent
-		// then returns null
-		return null;
+	LineHandle findLineHandle(NativeLineHandle nativeLineHandle) {
+		return lineHandles.find(nativeLineHandle);
+	}
+
+	/**
+	 * Removes a line handle from the registry of the document, when its line has been deleted.
+	 * 
+	 * @param lineHandle line handle to remove
+	 */
+	void evictLineHandle(LineHandle lineHandle) {
+		lineHandles.evict(lineHandle);
+	}
+
+	/**
+	 * Returns the amount of line handles currently kept by the document.<br>
+	 * A line handle is kept until its line is deleted from the document. When the line handles are held weakly, the amount is
+	 * an upper bound, because it includes the line handles which could have been garbage collected with their lines.
+	 * 
+	 * @return the amount of line handles currently kept by the document
+	 */
+	public int getLineHandlesCount() {
+		return lineHandles.size();
+	}
+
+	/**
+	 * Returns <code>true</code> if the line handles are held weakly by the document.
+	 * 
+	 * @return <code>true</code> if the line handles are held weakly by the document
+	 */
+	public boolean isWeakLineHandles() {
+		return lineHandles.isWeak();
+	}
+
+	/**
+	 * Sets <code>true</code> if the line handles must be held weakly by the document, by the native line handles, in order
+	 * that they can be garbage collected with their lines.<br>
+	 * Switching from weak to strong discards the line handles held weakly, which are created again when requested.
+	 * 
+	 * @param weak <code>true</code> if the line handles must be held weakly by the document
+	 */
+	public void setWeakLineHandles(boolean weak) {
+		lineHandles.setWeak(weak);
 	}
 
 	/**
@@ -1815,11 +2346,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeHandle = nativeObject.addLineClass(line, whereToUse.value(), className);
 			// checks if consistent
 			if (nativeHandle != null) {
-				// creates a line handle
-				LineHandle handle = new LineHandle(nativeHandle, this);
-				// stores into cache
-				lineHandles.put(handle.getId(), handle);
-				return handle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeHandle);
 			}
 		}
 		// if arguments not consistent
@@ -1860,11 +2388,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.addLineClass(line.getObject(), whereToUse.value(), className);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// creates a line handle
-				LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-				// stores into cache
-				lineHandles.put(lineHandle.getId(), lineHandle);
-				return lineHandle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// if arguments not consistent
@@ -1913,11 +2438,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.removeLineClass(line, whereToUse.value(), className);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// creates a line handle
-				LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-				// stores into cache
-				lineHandles.put(lineHandle.getId(), lineHandle);
-				return lineHandle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// if arguments not consistent
@@ -1966,11 +2488,8 @@ public final class Document implements IsEventManager {
 			NativeLineHandle nativeLineHandle = nativeObject.removeLineClass(line.getObject(), whereToUse.value(), className);
 			// checks if consistent
 			if (nativeLineHandle != null) {
-				// creates a line handle
-				LineHandle lineHandle = new LineHandle(nativeLineHandle, this);
-				// stores into cache
-				lineHandles.put(lineHandle.getId(), lineHandle);
-				return lineHandle;
+				// gets the line handle from registry
+				return lineHandles.get(nativeLineHandle);
 			}
 		}
 		// if arguments not consistent
@@ -1981,12 +2500,12 @@ public final class Document implements IsEventManager {
 	/**
 	 * Called by "clear" of line widget when it's clearing.
 	 * 
-	 * @param id the line widget id.
+	 * @param nativeWidget the native line widget
 	 */
-	void clearLineWidget(String id) {
-		// checks if id is consistent
-		if (id != null) {
-			lineWidgets.remove(id);
+	void clearLineWidget(NativeLineWidget nativeWidget) {
+		// checks if argument is consistent
+		if (nativeWidget != null) {
+			lineWidgets.remove(nativeWidget);
 		}
 	}
 
@@ -2011,7 +2530,7 @@ public final class Document implements IsEventManager {
 				// creates a line widget
 				LineWidget widget = new LineWidget(nativeWidget, this);
 				// stores into cache
-				lineWidgets.put(widget.getId(), widget);
+				lineWidgets.set(nativeWidget, widget);
 				return widget;
 			}
 		}
@@ -2040,7 +2559,7 @@ public final class Document implements IsEventManager {
 				// creates a line widget
 				LineWidget widget = new LineWidget(nativeWidget, this);
 				// stores into cache
-				lineWidgets.put(widget.getId(), widget);
+				lineWidgets.set(nativeWidget, widget);
 				return widget;
 			}
 		}
@@ -2049,17 +2568,17 @@ public final class Document implements IsEventManager {
 	}
 
 	/**
-	 * Returns an already created line widget by its id.
+	 * Returns an already created line widget by its native line widget.
 	 * 
-	 * @param id line widget id.
+	 * @param nativeWidget native line widget
 	 * @return line widget instance or <code>null</code> if not exists
 	 */
-	LineWidget getLineWidget(String id) {
+	LineWidget getLineWidget(NativeObject nativeWidget) {
 		// checks if argument is consistent
-		if (id != null) {
-			return lineWidgets.get(id);
+		if (nativeWidget != null) {
+			return lineWidgets.get(nativeWidget);
 		}
-		// if here, id is not consistent
+		// if here, native line widget is not consistent
 		// then returns null
 		return null;
 	}
@@ -2216,21 +2735,8 @@ public final class Document implements IsEventManager {
 			List<TextMarker> result = new LinkedList<>();
 			// scans all native markers
 			for (int i = 0; i < array.length(); i++) {
-				// gets marker
-				NativeTextMarker nativeMarker = array.get(i);
-				// gets its ID
-				String storedId = Id.retrieveFrom(nativeMarker);
-				// if it has not got an ID
-				if (storedId == null) {
-					// creates new marker
-					TextMarker newTextMarker = new TextMarker(nativeMarker, this);
-					// gets new ID
-					storedId = newTextMarker.getId();
-					// stores into cache
-					markers.put(storedId, newTextMarker);
-				}
-				// loads result list
-				result.add(markers.get(storedId));
+				// loads result list with the marker instance
+				result.add(getTextMarker(array.get(i)));
 			}
 			// returns the list
 			return Collections.unmodifiableList(result);
@@ -2258,18 +2764,8 @@ public final class Document implements IsEventManager {
 			EditorArea area = nativeEditor.getEditorArea();
 			// checks area is consistent
 			if (area != null) {
-				// gets line handle ID
-				LineHandle lineHandle;
-				String lineHandleId = Id.retrieveFrom(nativeLineHandle);
-				// if contains into cache
-				if (lineHandles.containsKey(lineHandleId)) {
-					lineHandle = lineHandles.get(lineHandleId);
-				} else {
-					// or creates new line handle
-					lineHandle = new LineHandle(nativeLineHandle, this);
-					// stores into cache
-					lineHandles.put(lineHandle.getId(), lineHandle);
-				}
+				// gets line handle from registry
+				LineHandle lineHandle = lineHandles.get(nativeLineHandle);
 				// invokes the handler
 				documentEachLineHandler.handle(area, lineHandle);
 			}
@@ -2320,7 +2816,7 @@ public final class Document implements IsEventManager {
 			// checks area is consistent
 			if (area != null) {
 				// gets the document by document id
-				Document storedDocument = Documents.get().retrieve(Id.retrieveFrom(document));
+				Document storedDocument = Documents.get().retrieve(document);
 				// invokes the handler
 				linkedDocumentsHandler.handle(area, storedDocument, sharedHistory);
 			}
@@ -15,11 +15,11 @@
 */
 package org.pepstock.coderba.client.entities;
 
-import java.util.HashMap;
-import java.util.Map;
+import org.pepstock.coderba.client.utils.WeakMap;
 
 /**
- * Singleton which contains all created documents using the document unique id as key.
+ * Singleton which contains all created documents using the native document as key.<br>
+ * The documents are held weakly, in order that they are garbage collected together with their native documents.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -29,9 +29,9 @@ final class Documents {
 	// singleton instance
 	private static final Documents INSTANCE = new Documents();
 	// maps which contains all documents
-	// K = document id
+	// K = native document
 	// V = document instance
-	private final Map<String, Document> documentsCache = new HashMap<>();
+	private final WeakMap<NativeDocument, Document> documentsCache = new WeakMap<>();
 
 	/**
 	 * To avoid any instantiation
@@ -55,41 +55,41 @@ final class Documents {
 	 * @param document document instance to be added into cache
 	 */
 	void add(Document document) {
-		if (!documentsCache.containsKey(document.getId())) {
-			documentsCache.put(document.getId(), document);
+		if (!documentsCache.has(document.getObject())) {
+			documentsCache.set(document.getObject(), document);
 		}
 	}
 
 	/**
-	 * Returns <code>true</code> if the document id is present into cache.
+	 * Returns <code>true</code> if the native document is present into cache.
 	 * 
-	 * @param id document id.
-	 * @return <code>true</code> if the document id is present into cache
+	 * @param nativeDocument native document
+	 * @return <code>true</code> if the native document is present into cache
 	 */
-	boolean has(String id) {
-		// checks if id is consistent
-		if (id != null) {
-			// returns if id is consistent
-			return documentsCache.containsKey(id);
+	boolean has(NativeDocument nativeDocument) {
+		// checks if native document is consistent
+		if (nativeDocument != null) {
+			// returns if native document is stored
+			return documentsCache.has(nativeDocument);
 		}
-		// if here, id is not consistent
+		// if here, native document is not consistent
 		// then returns always false
 		return false;
 	}
 
 	/**
-	 * Returns the document instance by its id from cache.
+	 * Returns the document instance by its native document from cache.
 	 * 
-	 * @param id document id
-	 * @return the document instance from cache
+	 * @param nativeDocument native document
+	 * @return the document instance from cache or <code>null</code> if not exists
 	 */
-	Document retrieve(String id) {
-		// checks if id is consistent
-		if (id != null) {
+	Document retrieve(NativeDocument nativeDocument) {
+		// checks if native document is consistent
+		if (nativeDocument != null) {
 			// returns the stored document
-			return documentsCache.get(id);
+			return documentsCache.get(nativeDocument);
 		}
-		// if here, id is not consistent
+		// if here, native document is not consistent
 		// then returns always null
 		return null;
 	}
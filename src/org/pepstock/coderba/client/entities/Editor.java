@@ -20,6 +20,7 @@ import java.util.List;
 import org.pepstock.coderba.client.EditorArea;
 import org.pepstock.coderba.client.KeyMap;
 import org.pepstock.coderba.client.Language;
+import org.pepstock.coderba.client.LargeFilePolicy;
 import org.pepstock.coderba.client.Mode;
 import org.pepstock.coderba.client.callbacks.DialogHandler;
 import org.pepstock.coderba.client.commons.ArrayEntity;
@@ -84,6 +85,7 @@ import org.pepstock.coderba.client.events.EditorKeypressEvent;
 import org.pepstock.coderba.client.events.EditorKeypressEventHandler;
 import org.pepstock.coderba.client.events.EditorKeyupEvent;
 import org.pepstock.coderba.client.events.EditorKeyupEventHandler;
+import org.pepstock.coderba.client.events.EditorLargeFileEvent;
 import org.pepstock.coderba.client.events.EditorMousedownEvent;
 import org.pepstock.coderba.client.events.EditorMousedownEventHandler;
 import org.pepstock.coderba.client.events.EditorNativeEvent;
@@ -136,6 +138,21 @@ public final class Editor implements IsEventManager {
 	// -- JAVASCRIPT FUNCTIONS ---
 	// ---------------------------
 
+	/**
+	 * Java script FUNCTION that is executed as a CodeMirror operation, buffering all state changes and DOM updates until it
+	 * ends.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	@JsFunction
+	interface EditorOperationFunction {
+
+		/**
+		 * Is called as a CodeMirror operation.
+		 */
+		void call();
+	}
+
 	/**
 	 * Java script FUNCTION that is called every time the content of the editor is changed.
 	 * 
@@ -600,6 +617,8 @@ public final class Editor implements IsEventManager {
 	private final EventItemManager eventItemManager;
 	// dialog instance for addon
 	private Dialog dialog = null;
+	// applier of the large file policy
+	private LargeFileMode largeFileMode = null;
 
 	/**
 	 * Creates an editor instance wrapping a native CodeMirror object.
@@ -707,6 +726,59 @@ public final class Editor implements IsEventManager {
 		Id.applyTo(nativeObject.getOptions(), id);
 	}
 
+	/**
+	 * Removes all handlers added to the editor, when the editor is released to be reused by another editor area.
+	 */
+	void removeAllHandlers() {
+		eventManager.removeAllHandlers();
+	}
+
+	/**
+	 * Sets the policy to manage large documents, replacing the current one and restoring the full profile, if degraded.
+	 * 
+	 * @param policy the policy to manage large documents or <code>null</code> to remove the current one
+	 */
+	void setLargeFilePolicy(LargeFilePolicy policy) {
+		// checks if there is a policy already applied
+		if (largeFileMode != null) {
+			largeFileMode.detach();
+			largeFileMode = null;
+		}
+		// checks if argument is consistent
+		if (policy != null) {
+			largeFileMode = new LargeFileMode(this, policy);
+			largeFileMode.attach();
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the editor has been switched into the degraded profile, because its document exceeds the
+	 * thresholds of the large file policy.
+	 * 
+	 * @return <code>true</code> if the editor has been switched into the degraded profile
+	 * @see LargeFilePolicy
+	 */
+	public boolean isLargeFileMode() {
+		return largeFileMode != null && largeFileMode.isDegraded();
+	}
+
+	/**
+	 * Fires the event when the editor switches into or out of the degraded profile of the large documents.
+	 * 
+	 * @param degraded <code>true</code> if the editor has been switched into the degraded profile
+	 * @param lineCount amount of lines of the document
+	 * @param size amount of characters of the document
+	 */
+	void fireLargeFileEvent(boolean degraded, int lineCount, int size) {
+		// gets editor area
+		EditorArea area = nativeObject.getEditorArea();
+		// checks if area is consistent
+		if (area != null) {
+			// fires the event
+			eventManager.fireEvent(new EditorLargeFileEvent(area, degraded, lineCount, size));
+		}
+	}
+
 	/**
 	 * Returns the CODERBA id from editor options.
 	 * 
@@ -941,10 +1013,20 @@ public final class Editor implements IsEventManager {
 		Document currentDoc = getDocument();
 		// checks if argument is consistent
 		if (doc != null) {
+			// checks if the large file policy is applied
+			if (largeFileMode != null) {
+				// restores the profile of the current document
+				largeFileMode.beforeSwap();
+			}
 			// swaps document
 			nativeObject.swapDoc(doc.getObject());
 			// and stores into this editor
 			this.document = doc;
+			// checks if the large file policy is applied
+			if (largeFileMode != null) {
+				// checks the new document
+				largeFileMode.check();
+			}
 		}
 		// returns the current doc
 		return currentDoc;
@@ -1240,6 +1322,34 @@ public final class Editor implements IsEventManager {
 		return new Coordinate(nativeObject.getViewport());
 	}
 
+	/**
+	 * Executes the passed code as a CodeMirror operation.<br>
+	 * CodeMirror buffers all state changes and DOM updates made in the operation and applies them at the end, firing the
+	 * batched events, like "changes", once. This is much faster when many changes, like marking text or adding line classes,
+	 * are made to the editor.
+	 * 
+	 * @param operation code to execute as a CodeMirror operation
+	 */
+	public void operation(Runnable operation) {
+		// checks if argument is consistent
+		if (operation == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Operation is null");
+		}
+		nativeObject.operation(operation::run);
+	}
+
+	/**
+	 * Starts a CodeMirror operation, which ends when the returned operation is closed.<br>
+	 * It is the same of {@link Editor#operation(Runnable)} but it can be used in a <code>try-with-resources</code> statement,
+	 * in order to end the operation also when an exception is thrown.
+	 * 
+	 * @return the started operation, to close in order to end it
+	 */
+	public Operation startOperation() {
+		return new Operation(nativeObject);
+	}
+
 	/**
 	 * If your code does something to change the size of the editor element (window resizes are already listened for), or
 	 * unhides it, you should probably follow up by calling this method to ensure CodeMirror is still looking as intended.
@@ -1795,7 +1905,7 @@ public final class Editor implements IsEventManager {
 		// checks if area is consistent
 		if (area != null) {
 			Document doc = area.getEditor().getDocument();
-			LineHandle lineHandle = doc.getLineHandleById(Id.retrieveFrom(line));
+			LineHandle lineHandle = doc.findLineHandle(line);
 			if (lineHandle != null) {
 				// fires the event
 				eventManager.fireEvent(new EditorRenderLineEvent(area, lineHandle, element));
@@ -1845,9 +1955,8 @@ public final class Editor implements IsEventManager {
 		// gets editor area
 		EditorArea area = editor.getEditorArea();
 		// checks if area is consistent
-		String oldDocId = Id.retrieveFrom(oldDoc);
-		if (area != null && Documents.get().has(oldDocId)) {
-			Document oldDocument = Documents.get().retrieve(oldDocId);
+		if (area != null && Documents.get().has(oldDoc)) {
+			Document oldDocument = Documents.get().retrieve(oldDoc);
 			// fires the event
 			eventManager.fireEvent(new EditorSwapDocEvent(area, oldDocument));
 		}
@@ -18,8 +18,10 @@ package org.pepstock.coderba.client.entities;
 import java.util.List;
 
 import org.pepstock.coderba.client.EditorArea;
+import org.pepstock.coderba.client.GlobalDefaults;
 import org.pepstock.coderba.client.KeyMap;
 import org.pepstock.coderba.client.Language;
+import org.pepstock.coderba.client.LargeFilePolicy;
 import org.pepstock.coderba.client.Theme;
 import org.pepstock.coderba.client.callbacks.ConfigureMouseHandler;
 import org.pepstock.coderba.client.callbacks.LineNumberFormatterHandler;
@@ -143,6 +145,8 @@ public class EditorOptions implements IsOptions {
 	private ConfigureMouseHandler configureMouse = null;
 	// delegated object to set and get values
 	private IsExtendedOptions delegated = null;
+	// policy to manage large documents
+	private LargeFilePolicy largeFilePolicy = null;
 
 	/**
 	 * Creates a configuration object wrapping a delegated options manager.<br>
@@ -152,7 +156,7 @@ public class EditorOptions implements IsOptions {
 	 * @see UserOptions
 	 */
 	public EditorOptions() {
-		this.delegated = new UserOptions(Defaults.get());
+		this.delegated = new UserOptions();
 		// -------------------------------
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
@@ -170,6 +174,16 @@ public class EditorOptions implements IsOptions {
 		return delegated.isEmpty();
 	}
 
+	/**
+	 * Returns the starting value of the editor only if it has been set, without reading the default values and then without
+	 * injecting CodeMirror.
+	 * 
+	 * @return the starting value of the editor or <code>null</code> if it has not been set
+	 */
+	public final String getOwnValue() {
+		return delegated.getOwnValue();
+	}
+
 	/**
 	 * Sets a runtime options as options manager.<br>
 	 * This method is called after editor creation.
@@ -187,6 +201,17 @@ public class EditorOptions implements IsOptions {
 		}
 	}
 
+	/**
+	 * Restores the user options as options manager, with the options applied to the editor, which has been released.<br>
+	 * This method is called when the editor is released in order to be reused by another editor area.
+	 * 
+	 * @param nativeObject native object with the options of the editor, which are different from the defaults
+	 */
+	final void resetDelegatedOptions(NativeObject nativeObject) {
+		// creates the user options copying the fixed attributes like languages and themes
+		this.delegated = new UserOptions(nativeObject, this.delegated);
+	}
+
 	/**
 	 * Sets a callback that, given a special character identified by the specialChars option, produces a DOM node that is used
 	 * to represent the character.
@@ -279,6 +304,25 @@ public class EditorOptions implements IsOptions {
 		return configureMouse;
 	}
 
+	/**
+	 * Sets the policy to apply to the editor to manage large documents, overriding the one of the global defaults.<br>
+	 * It is applied when the editor is initialized.
+	 * 
+	 * @param largeFilePolicy the policy to apply to the editor to manage large documents
+	 */
+	public void setLargeFilePolicy(LargeFilePolicy largeFilePolicy) {
+		this.largeFilePolicy = largeFilePolicy;
+	}
+
+	/**
+	 * Returns the policy to apply to the editor to manage large documents, if set, otherwise the one of the global defaults.
+	 * 
+	 * @return the policy to apply to the editor to manage large documents or <code>null</code> if not set
+	 */
+	public LargeFilePolicy getLargeFilePolicy() {
+		return largeFilePolicy != null ? largeFilePolicy : GlobalDefaults.get().getLargeFilePolicy();
+	}
+
 	// --------------------------------
 	// --- ALL DELEGATED METHODS
 	// --------------------------------
@@ -32,6 +32,14 @@ public interface IsExtendedOptions extends IsOptions {
 	 */
 	boolean isEmpty();
 
+	/**
+	 * Returns the starting value of the editor only if it has been set into these options, without reading the default
+	 * values.
+	 * 
+	 * @return the starting value of the editor or <code>null</code> if it has not been set
+	 */
+	String getOwnValue();
+
 	/**
 	 * Sets a function used to format line numbers.<br>
 	 * The function is passed the line number, and should return a string that will be shown in the gutter.
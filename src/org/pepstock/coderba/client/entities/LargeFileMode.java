@@ -0,0 +1,225 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pepstock.coderba.client.LargeFilePolicy;
+import org.pepstock.coderba.client.commons.ArrayEntity;
+import org.pepstock.coderba.client.commons.CallbackProxy;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.enums.Options;
+import org.pepstock.coderba.client.events.ChangeItem;
+import org.pepstock.coderba.client.events.EditorChangesEvent;
+
+/**
+ * Applies a {@link LargeFilePolicy} to an editor, switching it into the degraded profile when its document exceeds the
+ * thresholds of the policy and restoring the full profile when the document shrinks.<br>
+ * The size of the document is calculated when the document is attached and then updated by the changes, without reading the
+ * whole content at every change.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class LargeFileMode {
+
+	// callback proxy to invoke the changes function
+	private final CallbackProxy<Editor.EditorChangesFunction> changesFunctionProxy = JsHelper.get().newCallbackProxy();
+	// editor instance
+	private final Editor editor;
+	// policy to apply
+	private final LargeFilePolicy policy;
+	// options of the full profile, stored when degraded
+	private final Map<String, Object> savedOptions = new HashMap<>();
+	// amount of characters of the document
+	private int size = 0;
+	// flag if the editor is degraded
+	private boolean degraded = false;
+	// flag if the last notified profile is the degraded one
+	private boolean notified = false;
+
+	/**
+	 * Creates the object by the editor and the policy to apply.
+	 * 
+	 * @param editor editor instance
+	 * @param policy policy to apply
+	 */
+	LargeFileMode(Editor editor, LargeFilePolicy policy) {
+		this.editor = editor;
+		this.policy = policy;
+		// sets the callback
+		changesFunctionProxy.setCallback(this::onChanges);
+	}
+
+	/**
+	 * Returns <code>true</code> if the editor is degraded.
+	 * 
+	 * @return <code>true</code> if the editor is degraded
+	 */
+	boolean isDegraded() {
+		return degraded;
+	}
+
+	/**
+	 * Starts to listen the changes of the editor and checks the current document.
+	 */
+	void attach() {
+		editor.getNativeObject().on(EditorChangesEvent.NAME, changesFunctionProxy.getProxy());
+		// checks the document
+		check();
+	}
+
+	/**
+	 * Stops to listen the changes of the editor, restoring the full profile if degraded.
+	 */
+	void detach() {
+		editor.getNativeObject().off(EditorChangesEvent.NAME, changesFunctionProxy.getProxy());
+		// checks if degraded
+		if (degraded) {
+			restore();
+		}
+		notified = false;
+	}
+
+	/**
+	 * Restores the full profile, if degraded, before a new document is attached to the editor, because the mode of the
+	 * editor is replaced by the one of the new document.<br>
+	 * The switch is not notified, because the new document is checked as soon as it is attached.
+	 */
+	void beforeSwap() {
+		// checks if degraded
+		if (degraded) {
+			restore();
+		}
+	}
+
+	/**
+	 * Calculates the size of the current document and applies the policy.<br>
+	 * Invoked when a document is attached to the editor.
+	 */
+	void check() {
+		// gets the document
+		NativeDocument document = editor.getNativeObject().getDoc();
+		// calculates the size, as index of the end of document
+		size = document.indexFromPos(Position.create(document.lastLine()));
+		// applies the policy
+		apply(document.lineCount());
+	}
+
+	/**
+	 * Updates the size of the document by the changes of an operation and applies the policy.
+	 * 
+	 * @param nativeEditor native editor instance
+	 * @param items array of change items
+	 */
+	private void onChanges(NativeEditor nativeEditor, ArrayEntity<ChangeItem> items) {
+		// scans all changes
+		for (int i = 0; i < items.length(); i++) {
+			ChangeItem item = items.get(i);
+			// adds the inserted text and subtracts the removed one
+			size += length(item.getText()) - length(item.getRemoved());
+		}
+		// applies the policy
+		apply(nativeEditor.getDoc().lineCount());
+	}
+
+	/**
+	 * Returns the amount of characters of the lines of a change, counting the line separators as 1 character, as CodeMirror
+	 * does.
+	 * 
+	 * @param lines lines of a change
+	 * @return the amount of characters of the lines
+	 */
+	private int length(List<String> lines) {
+		// line separators
+		int result = Math.max(0, lines.size() - 1);
+		// scans all lines
+		for (String line : lines) {
+			result += line.length();
+		}
+		return result;
+	}
+
+	/**
+	 * Switches the editor into or out of the degraded profile, by the amount of lines and the size of the document.
+	 * 
+	 * @param lineCount amount of lines of the document
+	 */
+	private void apply(int lineCount) {
+		// checks if the profile must be switched
+		if (!degraded && policy.isLarge(lineCount, size)) {
+			degrade();
+		} else if (degraded && policy.isRestorable(lineCount, size)) {
+			restore();
+		}
+		// checks if the profile is changed since last notification
+		if (degraded != notified) {
+			notified = degraded;
+			// notifies the switch
+			editor.fireLargeFileEvent(degraded, lineCount, size);
+		}
+	}
+
+	/**
+	 * Switches the editor into the degraded profile, storing the options of the full profile.
+	 */
+	private void degrade() {
+		degraded = true;
+		NativeEditor nativeEditor = editor.getNativeObject();
+		// applies all options in a single operation
+		editor.operation(() -> {
+			// stores and sets the language and the highlighting length
+			replace(nativeEditor, Options.MODE.value(), policy.getLanguage().getName());
+			// the length is passed as double because a boxed integer is not a JavaScript number
+			replace(nativeEditor, Options.MAX_HIGHLIGHT_LENGTH.value(), Double.valueOf(policy.getMaxHighlightLength()));
+			// stores and disables the options
+			for (String option : policy.getDisabledOptions()) {
+				replace(nativeEditor, option, Boolean.FALSE);
+			}
+		});
+	}
+
+	/**
+	 * Stores the current value of an option and sets the new one.
+	 * 
+	 * @param nativeEditor native editor instance
+	 * @param key key of the option
+	 * @param value value of the degraded profile
+	 */
+	private void replace(NativeEditor nativeEditor, String key, Object value) {
+		savedOptions.put(key, nativeEditor.getOptionValueAsObject(key));
+		nativeEditor.setOptionValueAsObject(key, value);
+	}
+
+	/**
+	 * Restores the options of the full profile.
+	 */
+	private void restore() {
+		degraded = false;
+		NativeEditor nativeEditor = editor.getNativeObject();
+		// applies all options in a single operation
+		editor.operation(() -> {
+			// scans all stored options
+			for (Map.Entry<String, Object> entry : savedOptions.entrySet()) {
+				nativeEditor.setOptionValueAsObject(entry.getKey(), entry.getValue());
+			}
+		});
+		savedOptions.clear();
+	}
+
+}
@@ -0,0 +1,181 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import org.pepstock.coderba.client.callbacks.LineCursorHandler;
+import org.pepstock.coderba.client.commons.CallbackProxy;
+import org.pepstock.coderba.client.commons.JsHelper;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Cursor to scan the lines of a document, exposing the line number, the text and the height of the current line, without
+ * creating a line handle for each line.<br>
+ * Every scan has got its own cursor, then the scans can be nested and executed by different handlers at the same time. The
+ * cursor is reused for all lines of a scan and it is valid only during the invocation of the line handler.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#scanLines(int, int, LineCursorHandler)
+ */
+public final class LineCursor {
+
+	/**
+	 * Java script FUNCTION that is called by CodeMirror for each line of the scanned range.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	@JsFunction
+	interface LineCursorFunction {
+
+		/**
+		 * Called for each line of the scanned range.
+		 * 
+		 * @param handle native line handle of the current line
+		 * @return <code>true</code> to stop the scan
+		 */
+		boolean call(NativeLineHandle handle);
+	}
+
+	// callback proxy to invoke the cursor function
+	private final CallbackProxy<LineCursorFunction> lineCursorFunctionProxy = JsHelper.get().newCallbackProxy();
+	// document to scan
+	private final Document document;
+	// handler to invoke for each line
+	private final LineCursorHandler handler;
+	// native line handle of the current line
+	private NativeLineHandle current = null;
+	// line number of the current line
+	private int line = 0;
+	// amount of scanned lines
+	private int scanned = 0;
+	// flag if the scan has been stopped by the handler
+	private boolean stopped = false;
+
+	/**
+	 * Creates the cursor for a scan.
+	 * 
+	 * @param document document to scan
+	 * @param handler handler to invoke for each line
+	 */
+	LineCursor(Document document, LineCursorHandler handler) {
+		this.document = document;
+		this.handler = handler;
+		// sets the callback
+		lineCursorFunctionProxy.setCallback(this::onLine);
+	}
+
+	/**
+	 * Returns the document which is scanned.
+	 * 
+	 * @return the document which is scanned
+	 */
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * Returns the line number of the current line.
+	 * 
+	 * @return the line number of the current line
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	/**
+	 * Returns the content of the current line.
+	 * 
+	 * @return the content of the current line or <code>null</code> if the cursor is not on a line
+	 */
+	public String getText() {
+		return current != null ? current.getText() : null;
+	}
+
+	/**
+	 * Returns the height of the current line.
+	 * 
+	 * @return the height of the current line or <code>0</code> if the cursor is not on a line
+	 */
+	public double getHeight() {
+		return current != null ? current.getHeight() : 0D;
+	}
+
+	/**
+	 * Returns the line handle of the current line, creating and storing it into the document if not exists.<br>
+	 * Use it only for the lines which must be handled later, because the line handles are kept by the document.
+	 * 
+	 * @return the line handle of the current line or <code>null</code> if the cursor is not on a line
+	 */
+	public LineHandle getLineHandle() {
+		return current != null ? document.getLineHandle(line) : null;
+	}
+
+	/**
+	 * Returns the amount of lines scanned by the cursor.
+	 * 
+	 * @return the amount of lines scanned by the cursor
+	 */
+	public int getScannedLines() {
+		return scanned;
+	}
+
+	/**
+	 * Returns <code>true</code> if the scan has been stopped by the line handler.
+	 * 
+	 * @return <code>true</code> if the scan has been stopped by the line handler
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * Scans the range from start up to (not including) end, invoking the handler for each line.
+	 * 
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @return <code>true</code> if the handler has stopped the scan
+	 */
+	boolean scan(int start, int end) {
+		// checks if there is any line to scan
+		if (!stopped && start < end) {
+			// sets the line before the first one
+			// because it is incremented for each line
+			line = start - 1;
+			document.getObject().eachLine(start, end, lineCursorFunctionProxy.getProxy());
+			// resets the current line
+			// to avoid to keep the native line
+			current = null;
+		}
+		return stopped;
+	}
+
+	/**
+	 * Invoked by CodeMirror for each line of the scanned range.
+	 * 
+	 * @param handle native line handle of the current line
+	 * @return <code>true</code> to stop the scan
+	 */
+	private boolean onLine(NativeLineHandle handle) {
+		// moves the cursor on the line
+		current = handle;
+		line++;
+		scanned++;
+		// invokes the handler
+		stopped = !handler.handle(this);
+		return stopped;
+	}
+
+}
@@ -86,8 +86,12 @@ public final class LineHandle implements IsEventManager {
 	private final CallbackProxy<LineHandleChangeFunction> lineHandleChangeFunctionProxy = JsHelper.get().newCallbackProxy();
 	// callback proxy to invoke the LineHandleDelete function
 	private final CallbackProxy<LineHandleDeleteFunction> lineHandleDeleteFunctionProxy = JsHelper.get().newCallbackProxy();
+	// callback proxy to evict the line handle from the document, when the line is deleted
+	private final CallbackProxy<LineHandleDeleteFunction> lineHandleEvictFunctionProxy = JsHelper.get().newCallbackProxy();
 	// native line handle object (generated by CodeMirror)
 	private final NativeLineHandle nativeObject;
+	// unique id of the line handle
+	private final String id;
 	// event manager instance
 	private final EventManager eventManager;
 	// the current document related to this line handle
@@ -104,8 +108,8 @@ public final class LineHandle implements IsEventManager {
 	LineHandle(NativeLineHandle nativeObject, Document document) {
 		this.nativeObject = nativeObject;
 		this.document = document;
-		// stores the id based on a counter
-		Id.applyTo(nativeObject);
+		// generates the id based on a counter, without changing the native object
+		this.id = Id.generate();
 		// sets event manager
 		this.eventManager = new EventManager(this);
 		this.eventItemManager = new EventItemManager();
@@ -114,6 +118,10 @@ public final class LineHandle implements IsEventManager {
 		// -------------------------------
 		lineHandleChangeFunctionProxy.setCallback(this::onChange);
 		lineHandleDeleteFunctionProxy.setCallback(this::onDelete);
+		lineHandleEvictFunctionProxy.setCallback(this::onEvict);
+		// listens always the deletion of the line
+		// in order to remove the line handle from the document
+		nativeObject.on(LineHandleDeleteEvent.NAME, lineHandleEvictFunctionProxy.getProxy());
 
 		eventItemManager.addEventItem(new EventItem<LineHandleChangeEventHandler, NativeLineHandle>(LineHandleChangeEvent.TYPE, nativeObject, LineHandleChangeEvent.NAME, eventManager, lineHandleChangeFunctionProxy.getProxy()));
 		eventItemManager.addEventItem(new EventItem<LineHandleDeleteEventHandler, NativeLineHandle>(LineHandleDeleteEvent.TYPE, nativeObject, LineHandleDeleteEvent.NAME, eventManager, lineHandleDeleteFunctionProxy.getProxy()));
@@ -126,7 +134,7 @@ public final class LineHandle implements IsEventManager {
 	 * @return the line handle unique ID
 	 */
 	public String getId() {
-		return Id.retrieveFrom(nativeObject);
+		return id;
 	}
 
 	/**
@@ -189,10 +197,10 @@ public final class LineHandle implements IsEventManager {
 		EditorArea area = document.getEditorArea();
 		// if area is consistent
 		if (area != null) {
-			// gets the line handle instance by the document cache and by its id
-			LineHandle lineHandle = document.getLineHandleById(Id.retrieveFrom(nativeLineHandle));
+			// gets the line handle instance by the document registry
+			LineHandle lineHandle = document.findLineHandle(nativeLineHandle);
 			// fires event
-			eventManager.fireEvent(new LineHandleChangeEvent(lineHandle, item));
+			eventManager.fireEvent(new LineHandleChangeEvent(lineHandle != null ? lineHandle : this, item));
 		}
 	}
 
@@ -209,6 +217,13 @@ public final class LineHandle implements IsEventManager {
 		}
 	}
 
+	/**
+	 * Will be fired when the line object is deleted, in order to remove the line handle from the document.
+	 */
+	private void onEvict() {
+		document.evictLineHandle(this);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,154 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.coderba.client.utils.WeakMap;
+
+/**
+ * Registry of the line handles of a document, which ensures that there is only one line handle instance for each native
+ * line handle, found by the native line handle itself.<br>
+ * A line handle is evicted as soon as its line is deleted from the document. The line handles can be held weakly, only by the
+ * native line handles, in order that they are removed when the lines are garbage collected.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class LineHandleRegistry {
+
+	// document which the line handles belong to
+	private final Document document;
+	// maps the line handles by the native line handles
+	private WeakMap<NativeLineHandle, LineHandle> nativeLineHandles = new WeakMap<>();
+	// holds the line handles by their id, when held strongly
+	private Map<String, LineHandle> lineHandles = new HashMap<>();
+	// amount of line handles stored into registry and not evicted yet, including the ones which could be garbage collected
+	private int size = 0;
+
+	/**
+	 * Creates the registry for the passed document.
+	 * 
+	 * @param document document which the line handles belong to
+	 */
+	LineHandleRegistry(Document document) {
+		this.document = document;
+	}
+
+	/**
+	 * Returns <code>true</code> if the line handles are held weakly.
+	 * 
+	 * @return <code>true</code> if the line handles are held weakly
+	 */
+	boolean isWeak() {
+		return lineHandles == null;
+	}
+
+	/**
+	 * Sets <code>true</code> if the line handles must be held weakly.<br>
+	 * The line handles held strongly are released and kept only by the native line handles, while the ones held weakly are
+	 * discarded, because a weak map can not be scanned.
+	 * 
+	 * @param weak <code>true</code> if the line handles must be held weakly
+	 */
+	void setWeak(boolean weak) {
+		// checks if the mode is changed
+		if (weak && lineHandles != null) {
+			// releases the line handles held strongly
+			lineHandles = null;
+		} else if (!weak && lineHandles == null) {
+			// discards the line handles held weakly
+			nativeLineHandles = new WeakMap<>();
+			lineHandles = new HashMap<>();
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns the amount of line handles into registry.<br>
+	 * When the line handles are held strongly, the amount is exact. When they are held weakly, the amount is an upper bound,
+	 * because the line handles which are garbage collected with their lines, without being deleted from the document, are not
+	 * notified and are still counted.
+	 * 
+	 * @return the amount of line handles into registry
+	 */
+	int size() {
+		return isWeak() ? size : lineHandles.size();
+	}
+
+	/**
+	 * Returns the line handle for the native line handle, if already into registry.
+	 * 
+	 * @param nativeLineHandle native line handle
+	 * @return the line handle for the native line handle or <code>null</code> if not into registry
+	 */
+	LineHandle find(NativeLineHandle nativeLineHandle) {
+		// checks if argument is consistent
+		if (nativeLineHandle == null) {
+			return null;
+		}
+		// searches the line handle into registry
+		return nativeLineHandles.get(nativeLineHandle);
+	}
+
+	/**
+	 * Returns the line handle for the native line handle, creating and storing it if not exists.
+	 * 
+	 * @param nativeLineHandle native line handle
+	 * @return the line handle for the native line handle or <code>null</code> if the native line handle is <code>null</code>
+	 */
+	LineHandle get(NativeLineHandle nativeLineHandle) {
+		// checks if argument is consistent
+		if (nativeLineHandle == null) {
+			return null;
+		}
+		// searches the line handle into registry
+		LineHandle lineHandle = find(nativeLineHandle);
+		// checks if found
+		if (lineHandle == null) {
+			// creates new line handle
+			lineHandle = new LineHandle(nativeLineHandle, document);
+			// stores into registry
+			nativeLineHandles.set(nativeLineHandle, lineHandle);
+			// checks if held strongly
+			if (!isWeak()) {
+				lineHandles.put(lineHandle.getId(), lineHandle);
+			}
+			size++;
+		}
+		return lineHandle;
+	}
+
+	/**
+	 * Removes a line handle from registry, invoked when its line is deleted.
+	 * 
+	 * @param lineHandle line handle to remove
+	 */
+	void evict(LineHandle lineHandle) {
+		// removes from the registry
+		boolean removed = nativeLineHandles.remove(lineHandle.getObject());
+		// checks if held strongly
+		if (!isWeak()) {
+			lineHandles.remove(lineHandle.getId());
+		}
+		// checks if removed
+		if (removed) {
+			size--;
+		}
+	}
+
+}
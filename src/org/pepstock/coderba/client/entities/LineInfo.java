@@ -22,7 +22,6 @@ import java.util.List;
 import org.pepstock.coderba.client.commons.ArrayListHelper;
 import org.pepstock.coderba.client.commons.ArrayObject;
 import org.pepstock.coderba.client.commons.ArrayString;
-import org.pepstock.coderba.client.commons.Id;
 
 /**
  * Entity which maps a line into a document, providing a set of information about it. {line, handle, text, gutterMarkers,
@@ -55,8 +54,8 @@ public final class LineInfo {
 		NativeLineHandle handle = nativeObject.getHandle();
 		// if line handle is consistent consistent
 		if (handle != null) {
-			// gets the line handle by document cache
-			this.lineHandle = this.document.getLineHandleById(Id.retrieveFrom(handle));
+			// gets the line handle by document registry
+			this.lineHandle = this.document.findLineHandle(handle);
 		} else {
 			// otherwise gets line handle from document by line number
 			this.lineHandle = this.document.getLineHandle(getLineNumber());
@@ -67,10 +66,8 @@ public final class LineInfo {
 		if (array != null && !array.isEmpty()) {
 			// scans the array
 			for (int i = 0; i < array.length(); i++) {
-				// gets the id of line widget
-				String id = Id.retrieveFrom(array.get(i));
 				// gets the line widget object by the document cache
-				LineWidget widget = document.getLineWidget(id);
+				LineWidget widget = document.getLineWidget(array.get(i));
 				// if widget is consistent
 				if (widget != null) {
 					// adds to the list
@@ -0,0 +1,196 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import org.pepstock.coderba.client.callbacks.LineCursorHandler;
+import org.pepstock.coderba.client.callbacks.LineScanCallback;
+import org.pepstock.coderba.client.commons.IdleDeadline;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.commons.UndefinedValues;
+
+import com.google.gwt.core.client.Duration;
+
+/**
+ * Scans the lines of a document during the idle periods of the browser, in slices with a time budget, in order to analyze a
+ * large document in background without blocking the editor.<br>
+ * Every slice scans batches of lines by a {@link LineCursor} until its time budget is elapsed. The range is limited to the
+ * lines of the document at every slice, but the changes applied to the document during the scan are not tracked: the lines
+ * already scanned are not scanned again.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#scanLinesAsync(int, int, LineCursorHandler, LineScanCallback)
+ */
+public final class LineScanner {
+
+	/**
+	 * Default time budget of a slice in milliseconds, <b>{@value DEFAULT_SLICE_BUDGET}</b>.
+	 */
+	public static final int DEFAULT_SLICE_BUDGET = ValueLoader.DEFAULT_SLICE_BUDGET;
+
+	/**
+	 * Default amount of milliseconds after which a slice is executed even if the browser is not idle,
+	 * <b>{@value DEFAULT_TIMEOUT}</b>.
+	 */
+	public static final int DEFAULT_TIMEOUT = ValueLoader.DEFAULT_TIMEOUT;
+
+	/**
+	 * Default amount of lines scanned between two checks of the time budget, <b>{@value DEFAULT_BATCH_SIZE}</b>.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	// document to scan
+	private final Document document;
+	// cursor of the scan
+	private final LineCursor cursor;
+	// callback to notify the end of scan
+	private final LineScanCallback callback;
+	// ending line, not included
+	private final int end;
+	// next line to scan
+	private int next;
+	// handle of the idle callback request
+	private int handle = UndefinedValues.INTEGER;
+	// flag to know if the scan is completed
+	private boolean completed = false;
+	// flag to know if the scan has been cancelled
+	private boolean cancelled = false;
+
+	/**
+	 * Creates the scanner.
+	 * 
+	 * @param document document to scan
+	 * @param start starting line
+	 * @param end ending line, not included
+	 * @param handler handler to invoke for each line
+	 * @param callback callback to notify the end of scan, could be <code>null</code>
+	 */
+	LineScanner(Document document, int start, int end, LineCursorHandler handler, LineScanCallback callback) {
+		this.document = document;
+		this.cursor = new LineCursor(document, handler);
+		this.callback = callback;
+		this.next = start;
+		this.end = end;
+	}
+
+	/**
+	 * Returns the amount of scanned lines.
+	 * 
+	 * @return the amount of scanned lines
+	 */
+	public int getScannedLines() {
+		return cursor.getScannedLines();
+	}
+
+	/**
+	 * Returns <code>true</code> if the scan has been stopped by the line handler.
+	 * 
+	 * @return <code>true</code> if the scan has been stopped by the line handler
+	 */
+	public boolean isStopped() {
+		return cursor.isStopped();
+	}
+
+	/**
+	 * Returns <code>true</code> if all lines of the range have been scanned or the scan has been stopped by the line handler.
+	 * 
+	 * @return <code>true</code> if the scan is completed
+	 */
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Returns <code>true</code> if the scan has been cancelled.
+	 * 
+	 * @return <code>true</code> if the scan has been cancelled
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns <code>true</code> if the scan is in progress.
+	 * 
+	 * @return <code>true</code> if the scan is in progress
+	 */
+	public boolean isRunning() {
+		return !completed && !cancelled;
+	}
+
+	/**
+	 * Cancels the scan. The callback is not notified.
+	 */
+	public void cancel() {
+		// checks if running
+		if (isRunning()) {
+			cancelled = true;
+			// cancels the request
+			JsHelper.get().cancelIdleCallback(handle);
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+		}
+	}
+
+	/**
+	 * Starts the scan.
+	 */
+	void start() {
+		// schedules the first slice
+		schedule();
+	}
+
+	/**
+	 * Requests the next slice.
+	 */
+	private void schedule() {
+		handle = JsHelper.get().requestIdleCallback(this::onIdle, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Scans batches of lines until the time budget of the slice is elapsed.
+	 * 
+	 * @param deadline idle deadline instance
+	 */
+	private void onIdle(IdleDeadline deadline) {
+		// stores the start time of the slice
+		final double start = Duration.currentTimeMillis();
+		// scans the first batch anyway
+		do {
+			// limits the range to the current lines of document
+			int last = Math.min(end, document.firstLine() + document.lineCount());
+			int batchEnd = Math.min(last, next + DEFAULT_BATCH_SIZE);
+			// scans the batch
+			boolean stopped = cursor.scan(next, batchEnd);
+			next = batchEnd;
+			// checks if the scan is ended
+			completed = stopped || next >= last;
+		} while (!completed && (Duration.currentTimeMillis() - start) < DEFAULT_SLICE_BUDGET);
+		// checks if completed
+		if (completed) {
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+			// checks if callback is consistent
+			if (callback != null) {
+				// notifies the end of scan
+				callback.onScanCompleted(document, cursor.getScannedLines(), cursor.isStopped());
+			}
+		} else {
+			// schedules the next slice
+			schedule();
+		}
+	}
+
+}
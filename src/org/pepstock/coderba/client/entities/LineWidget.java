@@ -75,6 +75,8 @@ public final class LineWidget extends LineWidgetOptions implements IsEventManage
 	private final CallbackProxy<LineWidgetRedrawFunction> lineWidgetRedrawFunctionProxy = JsHelper.get().newCallbackProxy();
 	// native line widget object (generated by CodeMirror)
 	private final NativeLineWidget nativeObject;
+	// unique id of the line widget
+	private final String id;
 	// the current document related to this line widget
 	private final Document document;
 	// line handle object related to this line widget
@@ -127,8 +129,8 @@ public final class LineWidget extends LineWidgetOptions implements IsEventManage
 		super(nativeObject);
 		this.nativeObject = nativeObject;
 		this.document = document;
-		// stores the id based on a counter
-		Id.applyTo(nativeObject);
+		// generates the id based on a counter, without changing the native object
+		this.id = Id.generate();
 		// sets event manager
 		this.eventManager = new EventManager(this);
 		this.eventItemManager = new EventItemManager();
@@ -136,8 +138,8 @@ public final class LineWidget extends LineWidgetOptions implements IsEventManage
 		NativeLineHandle nativeHandle = nativeObject.getLine();
 		// checks if line handle is consistent
 		if (nativeHandle != null) {
-			// gets the line handle by document cache
-			this.handle = document.getLineHandleById(Id.retrieveFrom(nativeHandle));
+			// gets the line handle by document registry
+			this.handle = document.findLineHandle(nativeHandle);
 		} else {
 			// otherwise sets to null
 			// but it should not happen
@@ -156,7 +158,7 @@ public final class LineWidget extends LineWidgetOptions implements IsEventManage
 	 * @return the line widget unique ID
 	 */
 	public String getId() {
-		return Id.retrieveFrom(nativeObject);
+		return id;
 	}
 
 	/**
@@ -199,7 +201,7 @@ public final class LineWidget extends LineWidgetOptions implements IsEventManage
 	 * Removes the widget.
 	 */
 	public void clear() {
-		document.clearLineWidget(getId());
+		document.clearLineWidget(nativeObject);
 		nativeObject.clear();
 	}
 
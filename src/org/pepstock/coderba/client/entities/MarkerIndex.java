@@ -0,0 +1,682 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pepstock.coderba.client.callbacks.TextMarkerHandler;
+import org.pepstock.coderba.client.commons.CallbackProxy;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.events.ChangeItem;
+import org.pepstock.coderba.client.events.DocumentChangeEvent;
+
+/**
+ * Java index of the text markers of a document, by their lines, in order to find the markers overlapping a range of lines
+ * without invoking CodeMirror and without creating any list.<br>
+ * The index is an interval tree, implemented as a treap ordered by the starting positions of the markers and augmented with
+ * the maximum ending line of each subtree. It is kept in step with the creation and the clearing of the text markers and with
+ * the changes of the document: the markers after a change are shifted in a single step, while the markers on the changed
+ * lines are read again from CodeMirror at the next query.<br>
+ * Only the markers which have got a {@link TextMarker} instance are indexed, then the markers of a {@link MarkerLayer} are
+ * indexed only when requested by {@link MarkerLayer#getMarker(int)}. A marker cleared by CodeMirror itself, for instance by
+ * <code>clearOnEnter</code>, is removed when its lines are changed.<br>
+ * CodeMirror notifies the changes of the document at the end of the operation, or later if the document is not attached to
+ * an editor. When a query finds, by the change generation of the document, changes not notified yet, all markers are read
+ * again from CodeMirror and the following notifications are not applied as shifts but make the index read the markers again
+ * at the next query. The changes which are merged into the same history event, like the ones applied in the same operation,
+ * do not change the generation, therefore a query invoked inside an operation, after a change of that operation, is not
+ * supported and could return the lines before the change.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#setMarkerIndexEnabled(boolean)
+ */
+public final class MarkerIndex {
+
+	// minimum amount of removed nodes before rebuilding the tree
+	private static final int MIN_REMOVED_TO_COMPACT = 64;
+
+	/**
+	 * Node of the tree, mapping a text marker.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Node {
+
+		// text marker instance
+		private final TextMarker marker;
+		// CSS class name of the marker
+		private final String className;
+		// sequence of insertion, to order the markers with the same starting position
+		private final int sequence;
+		// random priority of the node
+		private final int priority;
+		// starting line
+		private int fromLine;
+		// starting column
+		private final int fromColumn;
+		// ending line
+		private int toLine;
+		// maximum ending line of the subtree
+		private int maxToLine;
+		// amount of lines to add to the children
+		private int shift = 0;
+		// flag if the node has been removed
+		private boolean removed = false;
+		// left child
+		private Node left = null;
+		// right child
+		private Node right = null;
+
+		/**
+		 * Creates a node for a text marker.
+		 * 
+		 * @param marker text marker instance
+		 * @param from starting position of marker
+		 * @param to ending position of marker
+		 * @param sequence sequence of insertion
+		 * @param priority random priority of the node
+		 */
+		private Node(TextMarker marker, Position from, Position to, int sequence, int priority) {
+			this.marker = marker;
+			this.className = marker.getClassName();
+			this.sequence = sequence;
+			this.priority = priority;
+			this.fromLine = from.getLine();
+			this.fromColumn = from.getColumn();
+			this.toLine = to.getLine();
+			this.maxToLine = toLine;
+		}
+	}
+
+	// callback proxy to invoke the change function
+	private final CallbackProxy<Document.DocumentChangeFunction> changeFunctionProxy = JsHelper.get().newCallbackProxy();
+	// document which the index belongs to
+	private final Document document;
+	// maps the nodes into tree by the id of markers
+	private final Map<String, Node> nodes = new HashMap<>();
+	// markers to read again from CodeMirror before the next query
+	private final Map<String, TextMarker> pending = new LinkedHashMap<>();
+	// root of the tree
+	private Node root = null;
+	// amount of removed nodes still into the tree
+	private int removed = 0;
+	// sequence of insertion
+	private int sequence = 0;
+	// seed to generate the priorities
+	private int seed = 0x2545F491;
+	// flag if a query is visiting the tree
+	private boolean visiting = false;
+	// change generation of the document when the index has been updated last time
+	private int generation = 0;
+	// flag if the markers have been read again while some changes were not notified yet
+	private boolean reloaded = false;
+	// flag if all markers must be read again before the next query
+	private boolean reloadRequired = false;
+
+	/**
+	 * Creates the index of a document.
+	 * 
+	 * @param document document which the index belongs to
+	 */
+	MarkerIndex(Document document) {
+		this.document = document;
+		// sets the callback
+		changeFunctionProxy.setCallback(this::onChange);
+	}
+
+	/**
+	 * Starts to listen the changes of the document, indexing the passed markers.
+	 * 
+	 * @param markers markers already existing into the document
+	 */
+	void attach(Collection<TextMarker> markers) {
+		document.getObject().on(DocumentChangeEvent.NAME, changeFunctionProxy.getProxy());
+		// stores the current generation
+		// the changes not notified yet are not notified to this index
+		generation = document.changeGeneration(false);
+		// adds all markers
+		for (TextMarker marker : markers) {
+			add(marker);
+		}
+	}
+
+	/**
+	 * Stops to listen the changes of the document.
+	 */
+	void detach() {
+		document.getObject().off(DocumentChangeEvent.NAME, changeFunctionProxy.getProxy());
+	}
+
+	/**
+	 * Adds a text marker to the index.
+	 * 
+	 * @param marker text marker to add
+	 */
+	void add(TextMarker marker) {
+		// the marker is read from CodeMirror before the next query
+		pending.put(marker.getId(), marker);
+	}
+
+	/**
+	 * Removes a text marker from the index.
+	 * 
+	 * @param id id of text marker to remove
+	 */
+	void remove(String id) {
+		// removes from the markers to read
+		pending.remove(id);
+		// removes the node
+		Node node = nodes.remove(id);
+		// checks if the node is into tree
+		if (node != null) {
+			// sets the node as removed
+			// it will be removed from tree when compacted
+			node.removed = true;
+			removed++;
+		}
+	}
+
+	/**
+	 * Returns the amount of indexed markers.
+	 * 
+	 * @return the amount of indexed markers
+	 */
+	public int size() {
+		flush();
+		return nodes.size();
+	}
+
+	/**
+	 * Calls the handler for each marker which overlaps the passed range of lines.<br>
+	 * The handler must not create or clear markers.
+	 * 
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param handler handler to call for each marker
+	 */
+	public void forEachMarker(int fromLine, int toLine, TextMarkerHandler handler) {
+		forEachMarker(fromLine, toLine, null, handler);
+	}
+
+	/**
+	 * Calls the handler for each marker, with the passed CSS class name, which overlaps the passed range of lines, for instance
+	 * the viewport of the editor.<br>
+	 * The handler must not create or clear markers.
+	 * 
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param className CSS class name of the markers or <code>null</code> to call the handler for all markers
+	 * @param handler handler to call for each marker
+	 */
+	public void forEachMarker(int fromLine, int toLine, String className, TextMarkerHandler handler) {
+		// checks if argument is consistent
+		if (handler == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Handler is null");
+		}
+		query(fromLine, toLine, className, handler);
+	}
+
+	/**
+	 * Calls the handler for each marker which overlaps the passed line.<br>
+	 * The handler must not create or clear markers.
+	 * 
+	 * @param line line of document
+	 * @param handler handler to call for each marker
+	 */
+	public void forEachMarkerAt(int line, TextMarkerHandler handler) {
+		forEachMarker(line, line, null, handler);
+	}
+
+	/**
+	 * Returns the amount of markers which overlap the passed range of lines.
+	 * 
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @return the amount of markers which overlap the passed range of lines
+	 */
+	public int countMarkers(int fromLine, int toLine) {
+		return query(fromLine, toLine, null, null);
+	}
+
+	/**
+	 * Returns the amount of markers, with the passed CSS class name, which overlap the passed range of lines.
+	 * 
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param className CSS class name of the markers or <code>null</code> to count all markers
+	 * @return the amount of markers which overlap the passed range of lines
+	 */
+	public int countMarkers(int fromLine, int toLine, String className) {
+		return query(fromLine, toLine, className, null);
+	}
+
+	/**
+	 * Scans the markers which overlap the passed range of lines.
+	 * 
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param className CSS class name of the markers or <code>null</code> for all markers
+	 * @param handler handler to call for each marker or <code>null</code> to count only
+	 * @return the amount of markers which overlap the passed range of lines
+	 */
+	private int query(int fromLine, int toLine, String className, TextMarkerHandler handler) {
+		// checks if is a nested query
+		if (visiting) {
+			// if yes, exception
+			throw new IllegalStateException("Unable to query the marker index by a marker handler");
+		}
+		// reads the changed markers
+		flush();
+		visiting = true;
+		try {
+			return visit(root, Math.min(fromLine, toLine), Math.max(fromLine, toLine), className, handler);
+		} finally {
+			visiting = false;
+		}
+	}
+
+	/**
+	 * Visits the subtree, calling the handler for each marker which overlaps the passed range of lines.
+	 * 
+	 * @param node root of the subtree
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param className CSS class name of the markers or <code>null</code> for all markers
+	 * @param handler handler to call for each marker or <code>null</code> to count only
+	 * @return the amount of markers of the subtree which overlap the passed range of lines
+	 */
+	private int visit(Node node, int fromLine, int toLine, String className, TextMarkerHandler handler) {
+		// checks if the subtree can contain a marker overlapping the range
+		if (node == null || node.maxToLine < fromLine) {
+			return 0;
+		}
+		pushShift(node);
+		// visits the left subtree
+		int count = visit(node.left, fromLine, toLine, className, handler);
+		// checks if the node starts before the end of range
+		// otherwise the right subtree starts after too
+		if (node.fromLine <= toLine) {
+			// checks if the node overlaps the range
+			if (!node.removed && node.toLine >= fromLine && (className == null || className.equals(node.className))) {
+				count++;
+				// checks if handler is consistent
+				if (handler != null) {
+					handler.handle(node.marker);
+				}
+			}
+			// visits the right subtree
+			count += visit(node.right, fromLine, toLine, className, handler);
+		}
+		return count;
+	}
+
+	/**
+	 * Updates the index when the document has been changed.<br>
+	 * The markers on the changed lines are read again before the next query, while the markers after the changed lines are
+	 * shifted by the amount of added or removed lines.<br>
+	 * If the markers have been read again after the change, because a query has been invoked before this notification, all
+	 * markers are read again before the next query, instead of shifting them twice.
+	 * 
+	 * @param nativeDocument native document instance
+	 * @param item change item
+	 */
+	private void onChange(NativeDocument nativeDocument, ChangeItem item) {
+		// stores the generation of the notified change
+		generation = document.changeGeneration(false);
+		// checks if the markers have been read again while the changes were not notified
+		if (reloaded) {
+			// the positions could already include this change
+			// then all markers are read again at the next query
+			reloadRequired = true;
+			return;
+		}
+		int fromLine = item.getFrom().getLine();
+		int toLine = item.getTo().getLine();
+		// moves the markers on the changed lines to the ones to read
+		List<Node> changed = new ArrayList<>();
+		collect(root, fromLine, toLine, changed);
+		for (Node node : changed) {
+			remove(node.marker.getId());
+			pending.put(node.marker.getId(), node.marker);
+		}
+		// calculates the amount of added or removed lines
+		int delta = item.getText().size() - item.getRemoved().size();
+		// checks if the following markers must be shifted
+		if (delta != 0 && root != null) {
+			// splits the markers starting after the changed lines
+			Node[] parts = splitByLine(root, toLine);
+			// shifts the following markers
+			applyShift(parts[1], delta);
+			root = merge(parts[0], parts[1]);
+		}
+		compact();
+	}
+
+	/**
+	 * Collects the nodes of the subtree which overlap the passed range of lines.
+	 * 
+	 * @param node root of the subtree
+	 * @param fromLine starting line of the range
+	 * @param toLine ending line of the range
+	 * @param result list where the nodes are added
+	 */
+	private void collect(Node node, int fromLine, int toLine, List<Node> result) {
+		// checks if the subtree can contain a marker overlapping the range
+		if (node == null || node.maxToLine < fromLine) {
+			return;
+		}
+		pushShift(node);
+		collect(node.left, fromLine, toLine, result);
+		// checks if the node starts before the end of range
+		if (node.fromLine <= toLine) {
+			// checks if the node overlaps the range
+			if (!node.removed && node.toLine >= fromLine) {
+				result.add(node);
+			}
+			collect(node.right, fromLine, toLine, result);
+		}
+	}
+
+	/**
+	 * Reads from CodeMirror the positions of the markers added or changed since the last query and inserts them into tree.<br>
+	 * All markers are read again if the document has got changes not notified yet or if a change has been notified after
+	 * reading them in that case.
+	 */
+	private void flush() {
+		// gets the current generation
+		int currentGeneration = document.changeGeneration(false);
+		// checks if there are changes not notified yet
+		if (currentGeneration != generation) {
+			// reads all markers again, ignoring the shifts of the following notifications
+			reload();
+			reloaded = true;
+			generation = currentGeneration;
+		} else if (reloadRequired) {
+			// all changes have been notified
+			// then the markers are read again and the index is updated by the notifications again
+			reload();
+			reloaded = false;
+		}
+		// checks if there is any marker to read
+		if (pending.isEmpty()) {
+			return;
+		}
+		// scans all markers
+		for (TextMarker marker : pending.values()) {
+			// gets the native marker
+			NativeTextMarker nativeMarker = marker.getMarkerObject();
+			Position from;
+			Position to;
+			// checks if bookmark
+			if (marker.isBookmark()) {
+				// the bookmark has got only a position
+				from = nativeMarker.findPosition();
+				to = from;
+			} else {
+				// gets the current range
+				Range range = nativeMarker.find();
+				from = range != null ? range.getFrom() : null;
+				to = range != null ? range.getTo() : null;
+			}
+			// checks if the marker is still into document
+			if (from != null && to != null) {
+				// creates the node
+				Node node = new Node(marker, from, to, sequence++, nextPriority());
+				nodes.put(marker.getId(), node);
+				// inserts the node into tree
+				Node[] parts = split(root, node);
+				root = merge(merge(parts[0], node), parts[1]);
+			}
+		}
+		pending.clear();
+		compact();
+	}
+
+	/**
+	 * Empties the tree, setting all indexed markers to be read again from CodeMirror.
+	 */
+	private void reload() {
+		// collects the indexed markers by their positions
+		// to keep the order of the markers with the same starting position
+		List<Node> list = new ArrayList<>(nodes.size());
+		collectAll(root, list);
+		// the markers already to read are added after the indexed ones
+		List<TextMarker> added = new ArrayList<>(pending.values());
+		pending.clear();
+		// moves all markers to the ones to read
+		for (Node node : list) {
+			pending.put(node.marker.getId(), node.marker);
+		}
+		for (TextMarker marker : added) {
+			pending.put(marker.getId(), marker);
+		}
+		nodes.clear();
+		root = null;
+		removed = 0;
+		reloadRequired = false;
+	}
+
+	/**
+	 * Rebuilds the tree without the removed nodes, when they are more than the indexed ones.
+	 */
+	private void compact() {
+		// checks if the tree must be rebuilt
+		if (removed >= MIN_REMOVED_TO_COMPACT && removed > nodes.size()) {
+			// collects the nodes in order
+			List<Node> list = new ArrayList<>(nodes.size());
+			collectAll(root, list);
+			// rebuilds the tree
+			root = null;
+			for (Node node : list) {
+				node.left = null;
+				node.right = null;
+				node.maxToLine = node.toLine;
+				root = merge(root, node);
+			}
+			removed = 0;
+		}
+	}
+
+	/**
+	 * Collects in order the nodes of the subtree which have not been removed.
+	 * 
+	 * @param node root of the subtree
+	 * @param result list where the nodes are added
+	 */
+	private void collectAll(Node node, List<Node> result) {
+		// checks if node is consistent
+		if (node != null) {
+			pushShift(node);
+			collectAll(node.left, result);
+			// checks if the node has been removed
+			if (!node.removed) {
+				result.add(node);
+			}
+			collectAll(node.right, result);
+		}
+	}
+
+	/**
+	 * Returns a new pseudo-random priority for a node.
+	 * 
+	 * @return a new pseudo-random priority for a node
+	 */
+	private int nextPriority() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+
+	/**
+	 * Compares the starting positions of two nodes.
+	 * 
+	 * @param node first node to compare
+	 * @param other second node to compare
+	 * @return a negative integer, zero, or a positive integer as the first node starts before, at the same position or after the
+	 *         second one
+	 */
+	private static int compare(Node node, Node other) {
+		// compares lines
+		if (node.fromLine != other.fromLine) {
+			return node.fromLine < other.fromLine ? -1 : 1;
+		}
+		// compares columns
+		if (node.fromColumn != other.fromColumn) {
+			return node.fromColumn < other.fromColumn ? -1 : 1;
+		}
+		// compares the insertion order
+		return Integer.compare(node.sequence, other.sequence);
+	}
+
+	/**
+	 * Applies a shift of lines to a subtree.
+	 * 
+	 * @param node root of the subtree
+	 * @param delta amount of lines to add
+	 */
+	private static void applyShift(Node node, int delta) {
+		// checks if node is consistent
+		if (node != null) {
+			node.fromLine += delta;
+			node.toLine += delta;
+			node.maxToLine += delta;
+			node.shift += delta;
+		}
+	}
+
+	/**
+	 * Applies the pending shift of a node to its children.
+	 * 
+	 * @param node node instance
+	 */
+	private static void pushShift(Node node) {
+		// checks if there is a shift to apply
+		if (node.shift != 0) {
+			applyShift(node.left, node.shift);
+			applyShift(node.right, node.shift);
+			node.shift = 0;
+		}
+	}
+
+	/**
+	 * Updates the maximum ending line of the subtree of a node.
+	 * 
+	 * @param node node instance
+	 */
+	private static void update(Node node) {
+		int max = node.toLine;
+		// checks the children
+		if (node.left != null) {
+			max = Math.max(max, node.left.maxToLine);
+		}
+		if (node.right != null) {
+			max = Math.max(max, node.right.maxToLine);
+		}
+		node.maxToLine = max;
+	}
+
+	/**
+	 * Splits a subtree in the nodes which start before the passed node and the others.
+	 * 
+	 * @param node root of the subtree
+	 * @param key node to use as key
+	 * @return an array with the roots of the 2 subtrees
+	 */
+	private static Node[] split(Node node, Node key) {
+		// checks if node is consistent
+		if (node == null) {
+			return new Node[2];
+		}
+		pushShift(node);
+		Node[] result;
+		// checks where the node goes
+		if (compare(node, key) < 0) {
+			result = split(node.right, key);
+			node.right = result[0];
+			result[0] = node;
+		} else {
+			result = split(node.left, key);
+			node.left = result[1];
+			result[1] = node;
+		}
+		update(node);
+		return result;
+	}
+
+	/**
+	 * Splits a subtree in the nodes which start before or at the passed line and the nodes which start after.
+	 * 
+	 * @param node root of the subtree
+	 * @param line line to use to split
+	 * @return an array with the roots of the 2 subtrees
+	 */
+	private static Node[] splitByLine(Node node, int line) {
+		// checks if node is consistent
+		if (node == null) {
+			return new Node[2];
+		}
+		pushShift(node);
+		Node[] result;
+		// checks where the node goes
+		if (node.fromLine <= line) {
+			result = splitByLine(node.right, line);
+			node.right = result[0];
+			result[0] = node;
+		} else {
+			result = splitByLine(node.left, line);
+			node.left = result[1];
+			result[1] = node;
+		}
+		update(node);
+		return result;
+	}
+
+	/**
+	 * Merges 2 subtrees, where all nodes of the first one start before the nodes of the second one.
+	 * 
+	 * @param left root of the first subtree
+	 * @param right root of the second subtree
+	 * @return the root of the merged tree
+	 */
+	private static Node merge(Node left, Node right) {
+		// checks if the subtrees are consistent
+		if (left == null) {
+			return right;
+		} else if (right == null) {
+			return left;
+		}
+		// checks which root has got the highest priority
+		if (left.priority > right.priority) {
+			pushShift(left);
+			left.right = merge(left.right, right);
+			update(left);
+			return left;
+		}
+		pushShift(right);
+		right.left = merge(left, right.left);
+		update(right);
+		return right;
+	}
+
+}
@@ -0,0 +1,196 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.pepstock.coderba.client.commons.ArrayEntity;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.commons.NativeObject;
+
+/**
+ * Group of text markers of a document, created with the same options, like the results of a search or the findings of a
+ * linter.<br>
+ * The markers of a layer are created, cleared and replaced in a single operation, without creating a {@link TextMarker}
+ * instance for each marker, which is created only when requested by {@link MarkerLayer#getMarker(int)}.<br>
+ * A marker cleared by CodeMirror, for instance when its text is deleted, is removed from the layer at the next replacement.<br>
+ * The markers of the layer are not added to the {@link MarkerIndex} of the document until their {@link TextMarker} instances
+ * are requested.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#createMarkerLayer(TextMarkerOptions)
+ */
+public final class MarkerLayer {
+
+	// document which the layer belongs to
+	private final Document document;
+	// options of the markers
+	private final NativeObject options;
+	// native markers of the layer
+	private final ArrayTextMarker markers = new ArrayTextMarker();
+
+	/**
+	 * Creates the layer for a document, with the options of its markers.
+	 * 
+	 * @param document document which the layer belongs to
+	 * @param options options of the markers
+	 */
+	MarkerLayer(Document document, NativeObject options) {
+		this.document = document;
+		this.options = options;
+	}
+
+	/**
+	 * Returns the document which the layer belongs to.
+	 * 
+	 * @return the document which the layer belongs to
+	 */
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * Returns the amount of markers of the layer.
+	 * 
+	 * @return the amount of markers of the layer
+	 */
+	public int size() {
+		return markers.length();
+	}
+
+	/**
+	 * Returns <code>true</code> if the layer has not got any marker.
+	 * 
+	 * @return <code>true</code> if the layer has not got any marker
+	 */
+	public boolean isEmpty() {
+		return markers.length() == 0;
+	}
+
+	/**
+	 * Marks the passed range, adding the marker to the layer.
+	 * 
+	 * @param range range to mark
+	 */
+	public void add(Range range) {
+		// checks if argument is consistent
+		if (range != null) {
+			add(Collections.singletonList(range));
+		}
+	}
+
+	/**
+	 * Marks the passed ranges in a single operation, adding the markers to the layer.
+	 * 
+	 * @param ranges ranges to mark
+	 */
+	public void add(List<Range> ranges) {
+		// checks if argument is consistent
+		if (ranges != null && !ranges.isEmpty()) {
+			JsHelper.get().markRanges(document.getObject(), markers, ArrayEntity.fromOrEmpty(ranges), options);
+		}
+	}
+
+	/**
+	 * Clears all markers of the layer in a single operation.
+	 */
+	public void clear() {
+		// checks if there is any marker
+		if (!isEmpty()) {
+			// creates the array of cleared markers
+			ArrayTextMarker cleared = new ArrayTextMarker();
+			JsHelper.get().clearMarkers(document.getObject(), markers, cleared, document.getTextMarkers());
+			evict(cleared);
+		}
+	}
+
+	/**
+	 * Replaces the markers of the layer with the markers of the passed ranges, in a single operation.<br>
+	 * The markers which are already marking one of the passed ranges are kept, the others are cleared and the ranges which
+	 * are not marked yet are marked, in order to update only the changed markers.
+	 * 
+	 * @param ranges new ranges of the layer
+	 */
+	public void replace(List<Range> ranges) {
+		// checks if argument is consistent
+		if (ranges == null || ranges.isEmpty()) {
+			// clears the layer
+			clear();
+		} else {
+			// creates the array of cleared markers
+			ArrayTextMarker cleared = new ArrayTextMarker();
+			JsHelper.get().replaceMarkers(document.getObject(), markers, ArrayEntity.fromOrEmpty(ranges), options, cleared, document.getTextMarkers());
+			evict(cleared);
+		}
+	}
+
+	/**
+	 * Returns the current ranges of the markers of the layer, skipping the markers which are no longer in the document.
+	 * 
+	 * @return the unmodifiable list of the current ranges of the markers
+	 */
+	public List<Range> getRanges() {
+		// creates the result
+		List<Range> result = new ArrayList<>(markers.length());
+		// scans all markers
+		for (int i = 0; i < markers.length(); i++) {
+			// gets the current range
+			Range range = markers.get(i).find();
+			// checks if still in the document
+			if (range != null) {
+				result.add(range);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns the text marker instance of the marker at the passed index, creating it if not exists, in order to listen its
+	 * events or to change it.
+	 * 
+	 * @param index index of the marker into the layer
+	 * @return the text marker instance or <code>null</code> if the index is out of bounds
+	 */
+	public TextMarker getMarker(int index) {
+		// checks if index is consistent
+		if (index >= 0 && index < markers.length()) {
+			return document.getTextMarker(markers.get(index));
+		}
+		// if here, index is out of bounds
+		return null;
+	}
+
+	/**
+	 * Removes from the document the text marker instances of the cleared markers.<br>
+	 * The cleared markers are only the ones which have got a text marker instance, then nothing is scanned if the layer has
+	 * never been accessed by {@link MarkerLayer#getMarker(int)}.
+	 * 
+	 * @param cleared the cleared native markers which have got a text marker instance
+	 */
+	private void evict(ArrayTextMarker cleared) {
+		// checks if any text marker instance has been cleared
+		if (cleared.length() == 0) {
+			return;
+		}
+		// scans all cleared markers
+		for (int i = 0; i < cleared.length(); i++) {
+			document.clearTextMarker(cleared.get(i));
+		}
+	}
+
+}
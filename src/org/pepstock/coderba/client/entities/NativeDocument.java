@@ -900,6 +900,14 @@ final class NativeDocument extends NativeEventEmitter {
 	 */
 	native String lineSeparator();
 
+	/**
+	 * Splits a string in lines, using the line separator of the document or, when it is null, any kind of line break.
+	 * 
+	 * @param text string to split
+	 * @return array with the lines of the string
+	 */
+	native ArrayString splitLines(String text);
+
 	/**
 	 * Calculates and returns a position object for a zero-based index who's value is relative to the start of the editor's
 	 * text.<br>
@@ -58,6 +58,17 @@ final class NativeEditor extends NativeEventEmitter {
 		// do nothing
 	}
 
+	/**
+	 * Creates an editor and appends it to the passed element, without using a text area.<br>
+	 * The content of the editor is provided by the <code>value</code> option, as string or document.
+	 * 
+	 * @param place a DOM node, where the editor is appended
+	 * @param options user configuration object instance
+	 */
+	NativeEditor(Element place, NativeObject options) {
+		// do nothing
+	}
+
 	/**
 	 * WHAT IS MISSING
 	 * 
@@ -210,6 +221,25 @@ final class NativeEditor extends NativeEventEmitter {
 	@JsMethod(name = "setOption")
 	native void setOptionValue(String key, NativeObject value);
 
+	// --- ANY VALUE
+	/**
+	 * Returns a value, of any type, into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @return value of the property or <code>null</code> if not there
+	 */
+	@JsMethod(name = "getOption")
+	native Object getOptionValueAsObject(String key);
+
+	/**
+	 * Sets a value, of any type, into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @param value value to be set
+	 */
+	@JsMethod(name = "setOption")
+	native void setOptionValueAsObject(String key, Object value);
+
 	// --- CALLBACKS
 	/**
 	 * Sets a value (callback proxy function) into embedded JavaScript object at specific property.
@@ -429,6 +459,27 @@ final class NativeEditor extends NativeEventEmitter {
 	 */
 	native void removeOverlay(String mode);
 
+	/**
+	 * CodeMirror internally buffers changes and only updates its DOM structure after it has finished performing some
+	 * operation.<br>
+	 * If you need to perform a lot of operations on a CodeMirror instance, you can call this method with a function argument.
+	 * It will call the function, buffering up all changes, and only doing the expensive update after the function returns.
+	 * 
+	 * @param function function to execute as operation
+	 */
+	native void operation(Editor.EditorOperationFunction function);
+
+	/**
+	 * Starts an operation, buffering up all changes until {@link NativeEditor#endOperation()} is called.<br>
+	 * Prefer {@link NativeEditor#operation(Editor.EditorOperationFunction)} when possible.
+	 */
+	native void startOperation();
+
+	/**
+	 * Ends an operation started by {@link NativeEditor#startOperation()}, doing the update of the DOM structure.
+	 */
+	native void endOperation();
+
 	/**
 	 * Retrieve the currently active document from an editor.
 	 * 
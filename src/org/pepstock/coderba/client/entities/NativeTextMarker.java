@@ -17,6 +17,7 @@ package org.pepstock.coderba.client.entities;
 
 import org.pepstock.coderba.client.commons.NativeName;
 
+import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 
@@ -50,6 +51,14 @@ final class NativeTextMarker extends NativeEventEmitter {
 	 */
 	native Range find();
 
+	/**
+	 * Returns the current position of a bookmark, or undefined if the bookmark is no longer in the document.
+	 * 
+	 * @return the current position of a bookmark, or undefined if the bookmark is no longer in the document
+	 */
+	@JsMethod(name = "find")
+	native Position findPosition();
+
 	/**
 	 * Called when you've done something that might change the size of the marker and want to cheaply update the display.
 	 */
@@ -0,0 +1,82 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+/**
+ * A CodeMirror operation, started by {@link Editor#startOperation()} or {@link Document#startOperation()}, which buffers all
+ * state changes and DOM updates of the editor until it is closed.<br>
+ * It is designed to be used in a <code>try-with-resources</code> statement, in order to end the operation also when an
+ * exception is thrown:
+ * 
+ * <pre>
+ * try (Operation operation = editor.startOperation()) {
+ * 	// changes to the editor
+ * }
+ * </pre>
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class Operation implements AutoCloseable {
+
+	// native editor instance, could be null if the document is not associated with an editor
+	private final NativeEditor nativeEditor;
+	// flag to know if the operation is ended
+	private boolean closed = false;
+
+	/**
+	 * Creates and starts the operation.
+	 * 
+	 * @param nativeEditor native editor instance, could be <code>null</code> if the document is not associated with an
+	 *            editor
+	 */
+	Operation(NativeEditor nativeEditor) {
+		this.nativeEditor = nativeEditor;
+		// checks if there is an editor
+		if (nativeEditor != null) {
+			// starts the operation
+			nativeEditor.startOperation();
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the operation is ended.
+	 * 
+	 * @return <code>true</code> if the operation is ended
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		// checks if already ended
+		if (!closed) {
+			closed = true;
+			// checks if there is an editor
+			if (nativeEditor != null) {
+				// ends the operation
+				nativeEditor.endOperation();
+			}
+		}
+	}
+
+}
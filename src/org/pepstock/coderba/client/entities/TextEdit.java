@@ -0,0 +1,183 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import org.pepstock.coderba.client.commons.UndefinedValues;
+
+/**
+ * A text edit, which replaces the part of a document between a starting and an ending point with a text.<br>
+ * The points can be passed as positions or as zero-based indexes relative to the start of the document text, the same used by
+ * {@link Document#getIndexFromPosition(Position)}. An insertion is an edit where the starting and ending points are the
+ * same, a deletion is an edit with an empty text.<br>
+ * All points refer to the document before applying any edit of the list passed to
+ * {@link Document#applyEdits(java.util.List)}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class TextEdit {
+
+	// starting position, null if index is used
+	private final Position from;
+	// ending position, null if index is used
+	private final Position to;
+	// starting index
+	private final int fromIndex;
+	// ending index
+	private final int toIndex;
+	// text to add
+	private final String text;
+
+	/**
+	 * Creates the edit.
+	 * 
+	 * @param from starting position, <code>null</code> if index is used
+	 * @param to ending position, <code>null</code> if index is used
+	 * @param fromIndex starting index
+	 * @param toIndex ending index
+	 * @param text text to add
+	 */
+	private TextEdit(Position from, Position to, int fromIndex, int toIndex, String text) {
+		this.from = from;
+		this.to = to;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		// if null, the edit is a deletion
+		this.text = text == null ? "" : text;
+	}
+
+	/**
+	 * Creates an edit which replaces the part of a document between the passed positions with a text.
+	 * 
+	 * @param from starting position
+	 * @param to ending position
+	 * @param text text to add, if <code>null</code> the edit is a deletion
+	 * @return an edit instance
+	 */
+	public static TextEdit create(Position from, Position to, String text) {
+		// checks if arguments are consistent
+		if (from == null || to == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Starting or ending position is null");
+		}
+		return new TextEdit(from, to, UndefinedValues.INTEGER, UndefinedValues.INTEGER, text);
+	}
+
+	/**
+	 * Creates an edit which inserts a text at the passed position.
+	 * 
+	 * @param at position where the text is inserted
+	 * @param text text to add
+	 * @return an edit instance
+	 */
+	public static TextEdit create(Position at, String text) {
+		return create(at, at, text);
+	}
+
+	/**
+	 * Creates an edit which replaces the part of a document between the passed indexes with a text.
+	 * 
+	 * @param fromIndex starting index, relative to the start of the document text
+	 * @param toIndex ending index, relative to the start of the document text
+	 * @param text text to add, if <code>null</code> the edit is a deletion
+	 * @return an edit instance
+	 */
+	public static TextEdit create(int fromIndex, int toIndex, String text) {
+		// checks if arguments are consistent
+		if (fromIndex < 0 || toIndex < fromIndex) {
+			// if not, exception
+			throw new IllegalArgumentException("Invalid range of indexes [" + fromIndex + ", " + toIndex + "]");
+		}
+		return new TextEdit(null, null, fromIndex, toIndex, text);
+	}
+
+	/**
+	 * Creates an edit which inserts a text at the passed index.
+	 * 
+	 * @param index index where the text is inserted, relative to the start of the document text
+	 * @param text text to add
+	 * @return an edit instance
+	 */
+	public static TextEdit create(int index, String text) {
+		return create(index, index, text);
+	}
+
+	/**
+	 * Returns the starting position or <code>null</code> if the edit has been created by indexes.
+	 * 
+	 * @return the starting position or <code>null</code> if the edit has been created by indexes
+	 */
+	public Position getFrom() {
+		return from;
+	}
+
+	/**
+	 * Returns the ending position or <code>null</code> if the edit has been created by indexes.
+	 * 
+	 * @return the ending position or <code>null</code> if the edit has been created by indexes
+	 */
+	public Position getTo() {
+		return to;
+	}
+
+	/**
+	 * Returns the starting index or {@link UndefinedValues#INTEGER} if the edit has been created by positions.
+	 * 
+	 * @return the starting index or {@link UndefinedValues#INTEGER} if the edit has been created by positions
+	 */
+	public int getFromIndex() {
+		return fromIndex;
+	}
+
+	/**
+	 * Returns the ending index or {@link UndefinedValues#INTEGER} if the edit has been created by positions.
+	 * 
+	 * @return the ending index or {@link UndefinedValues#INTEGER} if the edit has been created by positions
+	 */
+	public int getToIndex() {
+		return toIndex;
+	}
+
+	/**
+	 * Returns the text to add.
+	 * 
+	 * @return the text to add, empty if the edit is a deletion
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the starting index of the edit into the passed document.
+	 * 
+	 * @param document document where the edit is applied
+	 * @return the starting index of the edit into the passed document
+	 */
+	int getFromIndex(Document document) {
+		return from != null ? document.getIndexFromPosition(from) : fromIndex;
+	}
+
+	/**
+	 * Returns the ending index of the edit into the passed document.
+	 * 
+	 * @param document document where the edit is applied
+	 * @return the ending index of the edit into the passed document
+	 */
+	int getToIndex(Document document) {
+		return to != null ? document.getIndexFromPosition(to) : toIndex;
+	}
+
+}
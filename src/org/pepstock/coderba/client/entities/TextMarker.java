@@ -132,6 +132,8 @@ public final class TextMarker extends TextMarkerOptions implements IsEventManage
 	private final CallbackProxy<TextMarkerUnhideFunction> textMarkerUnhideFunctionProxy = JsHelper.get().newCallbackProxy();
 	// native marker object (generated by CodeMirror)
 	private final NativeTextMarker nativeObject;
+	// unique id of the marker
+	private final String id;
 	// the current document managed by editor related to this marker
 	private final Document document;
 	// event manager instance
@@ -182,8 +184,8 @@ public final class TextMarker extends TextMarkerOptions implements IsEventManage
 		// sets event manager
 		this.eventManager = new EventManager(this);
 		this.eventItemManager = new EventItemManager();
-		// stores the id of the marker
-		Id.applyTo(nativeObject);
+		// generates the id of the marker, without changing the native object
+		this.id = Id.generate();
 		// -------------------------------
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
@@ -205,7 +207,7 @@ public final class TextMarker extends TextMarkerOptions implements IsEventManage
 	 * @return the text marker unique ID
 	 */
 	public String getId() {
-		return Id.retrieveFrom(nativeObject);
+		return id;
 	}
 
 	/**
@@ -226,11 +228,20 @@ public final class TextMarker extends TextMarkerOptions implements IsEventManage
 		return getValue(Property.EXPLICITLY_CLEARED, false);
 	}
 
+	/**
+	 * Returns the native object instance.
+	 * 
+	 * @return the native object instance
+	 */
+	NativeTextMarker getMarkerObject() {
+		return nativeObject;
+	}
+
 	/**
 	 * Remove the mark.
 	 */
 	public void clear() {
-		document.clearTextMarker(getId());
+		document.clearTextMarker(nativeObject);
 		nativeObject.clear();
 	}
 
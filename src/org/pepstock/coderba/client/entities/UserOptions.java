@@ -15,7 +15,6 @@
 */
 package org.pepstock.coderba.client.entities;
 
-import org.pepstock.coderba.client.IsDefaultOptions;
 import org.pepstock.coderba.client.commons.AbstractExtendedOptions;
 import org.pepstock.coderba.client.commons.NativeObject;
 
@@ -28,12 +27,26 @@ import org.pepstock.coderba.client.commons.NativeObject;
 final class UserOptions extends AbstractExtendedOptions<UserOptionsContainer> {
 
 	/**
-	 * Creates a new options manager for user, with an empty native object and default values.
+	 * Creates a new options manager for user, with an empty native object.<br>
+	 * The default values are resolved at first access and the language, key map and theme are injected when the editor is
+	 * created.
+	 */
+	UserOptions() {
+		super(new UserOptionsContainer());
+	}
+
+	/**
+	 * Creates a new options manager for user, wrapping the passed native object and copying the language, key map, theme and
+	 * extra keys from the passed options.<br>
+	 * It is used to restore the user options when an editor is released.
 	 * 
-	 * @param defaultsValue default values
+	 * @param nativeObject native object with the options to wrap
+	 * @param options options from copy the language, key map, theme and extra keys
 	 */
-	UserOptions(IsDefaultOptions defaultsValue) {
-		super(new UserOptionsContainer(), defaultsValue);
+	UserOptions(NativeObject nativeObject, IsExtendedOptions options) {
+		super(new UserOptionsContainer(nativeObject));
+		// copies the fixed attributes like languages and themes
+		copyItems(options);
 	}
 
 	/**
@@ -0,0 +1,443 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.Duration;
+
+/**
+ * Computes the edits to transform the content of a document into a new value, comparing the lines and then the characters of
+ * the changed lines.<br>
+ * The lines are compared by the linear space Myers algorithm, after removing the common lines at the start and at the end,
+ * then the memory is linear in the amount of lines. If the comparison exceeds its time budget, the ranges of lines not
+ * compared yet are wholly replaced.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#setValueWithDiff(String, int)
+ */
+final class ValueDiff {
+
+	// amount of edit steps between two checks of the time budget
+	private static final int STEPS_BETWEEN_CHECKS = 16;
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ValueDiff() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the edits, by indexes, to transform the old lines into the new ones.
+	 * 
+	 * @param oldLines current lines of document
+	 * @param newLines lines of the new value
+	 * @param separator line separator of the document
+	 * @param timeout time budget in milliseconds of the comparison of lines
+	 * @return the list of edits to apply
+	 */
+	static List<TextEdit> diff(List<String> oldLines, List<String> newLines, String separator, int timeout) {
+		final int oldSize = oldLines.size();
+		final int newSize = newLines.size();
+		// counts the common lines at the start
+		int prefix = 0;
+		while (prefix < oldSize && prefix < newSize && oldLines.get(prefix).equals(newLines.get(prefix))) {
+			prefix++;
+		}
+		// counts the common lines at the end
+		int suffix = 0;
+		while (suffix < oldSize - prefix && suffix < newSize - prefix && oldLines.get(oldSize - 1 - suffix).equals(newLines.get(newSize - 1 - suffix))) {
+			suffix++;
+		}
+		// flags of the lines removed and added
+		boolean[] removed = new boolean[oldSize];
+		boolean[] added = new boolean[newSize];
+		// compares the lines between the common ones
+		compare(oldLines, newLines, prefix, oldSize - suffix, prefix, newSize - suffix, removed, added, Duration.currentTimeMillis() + timeout);
+		// calculates the indexes of the old lines
+		int[] starts = new int[oldSize + 1];
+		for (int i = 0; i < oldSize; i++) {
+			starts[i + 1] = starts[i] + oldLines.get(i).length() + separator.length();
+		}
+		// collects the changed hunks
+		List<TextEdit> edits = new ArrayList<>();
+		int oldIndex = 0;
+		int newIndex = 0;
+		while (oldIndex < oldSize || newIndex < newSize) {
+			// checks if the lines are equal
+			if (oldIndex < oldSize && newIndex < newSize && !removed[oldIndex] && !added[newIndex]) {
+				oldIndex++;
+				newIndex++;
+			} else {
+				// stores the start of hunk
+				int oldStart = oldIndex;
+				int newStart = newIndex;
+				// reads the removed and added lines of the hunk
+				while ((oldIndex < oldSize && removed[oldIndex]) || (newIndex < newSize && added[newIndex])) {
+					if (oldIndex < oldSize && removed[oldIndex]) {
+						oldIndex++;
+					}
+					if (newIndex < newSize && added[newIndex]) {
+						newIndex++;
+					}
+				}
+				edits.add(hunk(oldLines, newLines, oldStart, oldIndex, newStart, newIndex, starts, separator));
+			}
+		}
+		return edits;
+	}
+
+	/**
+	 * Creates the edit which replaces a hunk of old lines with the new ones, reduced to the changed characters.
+	 * 
+	 * @param oldLines current lines of document
+	 * @param newLines lines of the new value
+	 * @param oldStart first old line of the hunk
+	 * @param oldEnd old line after the hunk
+	 * @param newStart first new line of the hunk
+	 * @param newEnd new line after the hunk
+	 * @param starts indexes of the old lines
+	 * @param separator line separator of the document
+	 * @return the edit of the hunk
+	 */
+	private static TextEdit hunk(List<String> oldLines, List<String> newLines, int oldStart, int oldEnd, int newStart, int newEnd, int[] starts, String separator) {
+		StringBuilder oldText = new StringBuilder();
+		StringBuilder newText = new StringBuilder();
+		int from;
+		int to;
+		// checks if the hunk is followed by a common line
+		if (oldEnd < oldLines.size()) {
+			// every line of the hunk ends with a separator
+			from = starts[oldStart];
+			to = starts[oldEnd];
+			for (int i = oldStart; i < oldEnd; i++) {
+				oldText.append(oldLines.get(i)).append(separator);
+			}
+			for (int i = newStart; i < newEnd; i++) {
+				newText.append(newLines.get(i)).append(separator);
+			}
+		} else if (oldStart > 0) {
+			// the hunk is at the end of document
+			// then every line of the hunk starts with a separator
+			from = starts[oldStart] - separator.length();
+			to = starts[oldEnd] - separator.length();
+			for (int i = oldStart; i < oldEnd; i++) {
+				oldText.append(separator).append(oldLines.get(i));
+			}
+			for (int i = newStart; i < newEnd; i++) {
+				newText.append(separator).append(newLines.get(i));
+			}
+		} else {
+			// the hunk is the whole document
+			from = 0;
+			to = starts[oldEnd] - separator.length();
+			for (int i = oldStart; i < oldEnd; i++) {
+				oldText.append(i > oldStart ? separator : "").append(oldLines.get(i));
+			}
+			for (int i = newStart; i < newEnd; i++) {
+				newText.append(i > newStart ? separator : "").append(newLines.get(i));
+			}
+		}
+		// checks if the characters can be compared
+		// a separator of 2 characters must not be split
+		if (separator.length() == 1) {
+			// counts the common characters at the start
+			int prefix = 0;
+			int max = Math.min(oldText.length(), newText.length());
+			while (prefix < max && oldText.charAt(prefix) == newText.charAt(prefix)) {
+				prefix++;
+			}
+			// counts the common characters at the end
+			int suffix = 0;
+			while (suffix < max - prefix && oldText.charAt(oldText.length() - 1 - suffix) == newText.charAt(newText.length() - 1 - suffix)) {
+				suffix++;
+			}
+			return TextEdit.create(from + prefix, to - suffix, newText.substring(prefix, newText.length() - suffix));
+		}
+		return TextEdit.create(from, to, newText.toString());
+	}
+
+	/**
+	 * Compares a range of old lines with a range of new lines by the linear space Myers algorithm, flagging the removed and
+	 * added lines.<br>
+	 * The ranges which are not compared before the deadline are flagged as wholly replaced.
+	 * 
+	 * @param oldLines current lines of document
+	 * @param newLines lines of the new value
+	 * @param oldStart first old line to compare
+	 * @param oldEnd old line after the range
+	 * @param newStart first new line to compare
+	 * @param newEnd new line after the range
+	 * @param removed flags of the removed lines
+	 * @param added flags of the added lines
+	 * @param deadline time when the comparison must be stopped
+	 */
+	private static void compare(List<String> oldLines, List<String> newLines, int oldStart, int oldEnd, int newStart, int newEnd, boolean[] removed, boolean[] added, double deadline) {
+		final int n = oldEnd - oldStart;
+		final int m = newEnd - newStart;
+		// maps the lines to integers, to compare them quickly
+		Map<String, Integer> codes = new HashMap<>();
+		int[] a = new int[n];
+		int[] b = new int[m];
+		for (int i = 0; i < n; i++) {
+			a[i] = code(codes, oldLines.get(oldStart + i));
+		}
+		for (int i = 0; i < m; i++) {
+			b[i] = code(codes, newLines.get(newStart + i));
+		}
+		new Comparison(a, b, oldStart, newStart, removed, added, deadline).compare(0, n, 0, m);
+	}
+
+	/**
+	 * Comparison of the lines by the linear space Myers algorithm, which searches the middle snake of the shortest edit path
+	 * and then compares the ranges before and after it, recursively.<br>
+	 * The memory is linear in the amount of the compared lines, because only the furthest positions reached on the diagonals by
+	 * the forward and the reverse paths are stored, reused by all ranges.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class Comparison {
+
+		// codes of the old lines
+		private final int[] a;
+		// codes of the new lines
+		private final int[] b;
+		// first old line compared
+		private final int oldStart;
+		// first new line compared
+		private final int newStart;
+		// flags of the removed lines
+		private final boolean[] removed;
+		// flags of the added lines
+		private final boolean[] added;
+		// time when the comparison must be stopped
+		private final double deadline;
+		// furthest positions reached on each diagonal by the forward path
+		private final int[] forward;
+		// furthest positions reached on each diagonal by the reverse path
+		private final int[] reverse;
+		// amount of edit steps executed, to check the time budget
+		private int steps = 0;
+		// flag if the time budget is elapsed
+		private boolean expired = false;
+		// old line where the last middle snake has been found
+		private int splitA = 0;
+		// new line where the last middle snake has been found
+		private int splitB = 0;
+
+		/**
+		 * Creates the comparison of the codes of the lines.
+		 * 
+		 * @param a codes of the old lines
+		 * @param b codes of the new lines
+		 * @param oldStart first old line compared
+		 * @param newStart first new line compared
+		 * @param removed flags of the removed lines
+		 * @param added flags of the added lines
+		 * @param deadline time when the comparison must be stopped
+		 */
+		private Comparison(int[] a, int[] b, int oldStart, int newStart, boolean[] removed, boolean[] added, double deadline) {
+			this.a = a;
+			this.b = b;
+			this.oldStart = oldStart;
+			this.newStart = newStart;
+			this.removed = removed;
+			this.added = added;
+			this.deadline = deadline;
+			// the diagonals of the whole comparison are enough for all ranges
+			int size = 2 * ((a.length + b.length + 1) / 2) + 2;
+			this.forward = new int[size];
+			this.reverse = new int[size];
+		}
+
+		/**
+		 * Compares a range of old lines with a range of new lines, flagging the removed and added lines.
+		 * 
+		 * @param aStart first old line to compare
+		 * @param aEnd old line after the range
+		 * @param bStart first new line to compare
+		 * @param bEnd new line after the range
+		 */
+		private void compare(int aStart, int aEnd, int bStart, int bEnd) {
+			int aFrom = aStart;
+			int aTo = aEnd;
+			int bFrom = bStart;
+			int bTo = bEnd;
+			// skips the common lines at the start
+			while (aFrom < aTo && bFrom < bTo && a[aFrom] == b[bFrom]) {
+				aFrom++;
+				bFrom++;
+			}
+			// skips the common lines at the end
+			while (aFrom < aTo && bFrom < bTo && a[aTo - 1] == b[bTo - 1]) {
+				aTo--;
+				bTo--;
+			}
+			// checks if there are lines only on one side
+			// or if the time budget is elapsed
+			if (aFrom == aTo || bFrom == bTo || expired || !bisect(aFrom, aTo, bFrom, bTo)) {
+				replace(aFrom, aTo, bFrom, bTo);
+			} else {
+				// stores the middle snake because overridden by the recursion
+				int aSplit = splitA;
+				int bSplit = splitB;
+				// compares the ranges before and after the middle snake
+				compare(aFrom, aSplit, bFrom, bSplit);
+				compare(aSplit, aTo, bSplit, bTo);
+			}
+		}
+
+		/**
+		 * Searches the middle snake of the shortest edit path between a range of old lines and a range of new lines, walking
+		 * the forward and the reverse paths at the same time until they overlap.
+		 * 
+		 * @param aFrom first old line to compare
+		 * @param aTo old line after the range
+		 * @param bFrom first new line to compare
+		 * @param bTo new line after the range
+		 * @return <code>true</code> if the middle snake has been found, stored into split fields, or <code>false</code> if the
+		 *         time budget is elapsed
+		 */
+		private boolean bisect(int aFrom, int aTo, int bFrom, int bTo) {
+			final int n = aTo - aFrom;
+			final int m = bTo - bFrom;
+			final int maxSteps = (n + m + 1) / 2;
+			final int offset = maxSteps;
+			final int length = 2 * maxSteps + 2;
+			// resets the diagonals
+			Arrays.fill(forward, 0, length, -1);
+			Arrays.fill(reverse, 0, length, -1);
+			forward[offset + 1] = 0;
+			reverse[offset + 1] = 0;
+			final int delta = n - m;
+			// if the difference is odd, the forward path checks the overlapping
+			final boolean front = delta % 2 != 0;
+			// diagonals to skip because out of the ranges
+			int forwardStart = 0;
+			int forwardEnd = 0;
+			int reverseStart = 0;
+			int reverseEnd = 0;
+			for (int d = 0; d < maxSteps; d++) {
+				// checks the time budget
+				steps++;
+				if (steps % STEPS_BETWEEN_CHECKS == 0 && Duration.currentTimeMillis() > deadline) {
+					expired = true;
+					return false;
+				}
+				// walks the forward path
+				for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+					int index = offset + k;
+					int x = (k == -d || (k != d && forward[index - 1] < forward[index + 1])) ? forward[index + 1] : forward[index - 1] + 1;
+					int y = x - k;
+					// follows the common lines
+					while (x < n && y < m && a[aFrom + x] == b[bFrom + y]) {
+						x++;
+						y++;
+					}
+					forward[index] = x;
+					if (x > n) {
+						// out of the old lines
+						forwardEnd += 2;
+					} else if (y > m) {
+						// out of the new lines
+						forwardStart += 2;
+					} else if (front) {
+						// checks if overlaps the reverse path
+						int reverseIndex = offset + delta - k;
+						if (reverseIndex >= 0 && reverseIndex < length && reverse[reverseIndex] != -1 && x >= n - reverse[reverseIndex]) {
+							splitA = aFrom + x;
+							splitB = bFrom + y;
+							return true;
+						}
+					}
+				}
+				// walks the reverse path
+				for (int k = -d + reverseStart; k <= d - reverseEnd; k += 2) {
+					int index = offset + k;
+					int x = (k == -d || (k != d && reverse[index - 1] < reverse[index + 1])) ? reverse[index + 1] : reverse[index - 1] + 1;
+					int y = x - k;
+					// follows the common lines from the end
+					while (x < n && y < m && a[aTo - x - 1] == b[bTo - y - 1]) {
+						x++;
+						y++;
+					}
+					reverse[index] = x;
+					if (x > n) {
+						// out of the old lines
+						reverseEnd += 2;
+					} else if (y > m) {
+						// out of the new lines
+						reverseStart += 2;
+					} else if (!front) {
+						// checks if overlaps the forward path
+						int forwardIndex = offset + delta - k;
+						if (forwardIndex >= 0 && forwardIndex < length && forward[forwardIndex] != -1) {
+							int forwardX = forward[forwardIndex];
+							if (forwardX >= n - x) {
+								splitA = aFrom + forwardX;
+								splitB = bFrom + offset + forwardX - forwardIndex;
+								return true;
+							}
+						}
+					}
+				}
+			}
+			// if here, the paths do not overlap
+			return false;
+		}
+
+		/**
+		 * Flags a range of old lines as removed and a range of new lines as added.
+		 * 
+		 * @param aFrom first old line to remove
+		 * @param aTo old line after the range
+		 * @param bFrom first new line to add
+		 * @param bTo new line after the range
+		 */
+		private void replace(int aFrom, int aTo, int bFrom, int bTo) {
+			for (int i = aFrom; i < aTo; i++) {
+				removed[oldStart + i] = true;
+			}
+			for (int i = bFrom; i < bTo; i++) {
+				added[newStart + i] = true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the integer which represents a line.
+	 * 
+	 * @param codes map of the codes of the lines
+	 * @param line line to map
+	 * @return the integer which represents the line
+	 */
+	private static int code(Map<String, Integer> codes, String line) {
+		Integer code = codes.get(line);
+		// checks if the line is already mapped
+		if (code == null) {
+			code = codes.size();
+			codes.put(line, code);
+		}
+		return code;
+	}
+
+}
@@ -0,0 +1,251 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.entities;
+
+import org.pepstock.coderba.client.callbacks.ChunkSupplier;
+import org.pepstock.coderba.client.callbacks.ProgressCallback;
+import org.pepstock.coderba.client.commons.IdleDeadline;
+import org.pepstock.coderba.client.commons.JsHelper;
+import org.pepstock.coderba.client.commons.UndefinedValues;
+
+import com.google.gwt.core.client.Duration;
+
+/**
+ * Loads the value of a document in chunks, appending them during the idle periods of the browser, in slices with a time
+ * budget, in order that the editor is still interactive and scrollable while a very large value is loading.<br>
+ * Every slice appends chunks in a single operation, until its time budget is elapsed. The loading can be cancelled, keeping
+ * the chunks already appended.<br>
+ * The chunks are merged into a single history event, which is closed when the loading ends or is cancelled, keeping the
+ * previous history of the document. Any other change of the whole content of the document cancels the loading.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see Document#setValueAsync(String, ProgressCallback)
+ * @see Document#setValueAsync(ChunkSupplier, ProgressCallback)
+ */
+public final class ValueLoader {
+
+	/**
+	 * Default time budget of a slice in milliseconds, <b>{@value DEFAULT_SLICE_BUDGET}</b>.
+	 */
+	public static final int DEFAULT_SLICE_BUDGET = 8;
+
+	/**
+	 * Default amount of milliseconds after which a slice is executed even if the browser is not idle,
+	 * <b>{@value DEFAULT_TIMEOUT}</b>.
+	 */
+	public static final int DEFAULT_TIMEOUT = 50;
+
+	/**
+	 * Default size of a chunk, when the value is passed as string, <b>{@value DEFAULT_CHUNK_SIZE}</b> characters.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	// origin of the changes, merged into the same history event
+	private static final String ORIGIN = "*setValueAsync";
+	// document to load
+	private final Document document;
+	// supplier of the chunks
+	private final ChunkSupplier supplier;
+	// callback to notify the progress
+	private final ProgressCallback callback;
+	// total amount of characters of the value
+	private final int total;
+	// amount of characters appended
+	private int loaded = 0;
+	// handle of the idle callback request
+	private int handle = UndefinedValues.INTEGER;
+	// flag to know if the loading is completed
+	private boolean completed = false;
+	// flag to know if the loading has been cancelled
+	private boolean cancelled = false;
+
+	/**
+	 * Creates the loader.
+	 * 
+	 * @param document document to load
+	 * @param supplier supplier of the chunks
+	 * @param callback callback to notify the progress, could be <code>null</code>
+	 * @param total total amount of characters of the value or {@link UndefinedValues#INTEGER} if unknown
+	 */
+	ValueLoader(Document document, ChunkSupplier supplier, ProgressCallback callback, int total) {
+		this.document = document;
+		this.supplier = supplier;
+		this.callback = callback;
+		this.total = total;
+	}
+
+	/**
+	 * Creates a supplier which splits a string in chunks of {@link ValueLoader#DEFAULT_CHUNK_SIZE} characters, ending the
+	 * chunks at the line separators, when possible.
+	 * 
+	 * @param value string to split
+	 * @return a supplier of the chunks of the string
+	 */
+	static ChunkSupplier split(final String value) {
+		return new ChunkSupplier() {
+
+			// index of the next chunk
+			private int index = 0;
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see org.pepstock.coderba.client.callbacks.ChunkSupplier#next()
+			 */
+			@Override
+			public String next() {
+				// checks if there is any chunk
+				if (index >= value.length()) {
+					return null;
+				}
+				// calculates the end of the chunk
+				int end = Math.min(value.length(), index + DEFAULT_CHUNK_SIZE);
+				// checks if is not the last chunk
+				if (end < value.length()) {
+					// ends the chunk after a line feed
+					// to avoid to split a carriage return and a line feed
+					int lineEnd = value.lastIndexOf('\n', end - 1);
+					if (lineEnd >= index) {
+						end = lineEnd + 1;
+					}
+				}
+				// gets the chunk
+				String chunk = value.substring(index, end);
+				index = end;
+				return chunk;
+			}
+		};
+	}
+
+	/**
+	 * Returns the amount of characters appended to the document.
+	 * 
+	 * @return the amount of characters appended to the document
+	 */
+	public int getLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Returns the total amount of characters of the value.
+	 * 
+	 * @return the total amount of characters of the value or {@link UndefinedValues#INTEGER} if unknown
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Returns <code>true</code> if the whole value has been appended to the document.
+	 * 
+	 * @return <code>true</code> if the whole value has been appended to the document
+	 */
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Returns <code>true</code> if the loading has been cancelled.
+	 * 
+	 * @return <code>true</code> if the loading has been cancelled
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns <code>true</code> if the loading is in progress.
+	 * 
+	 * @return <code>true</code> if the loading is in progress
+	 */
+	public boolean isRunning() {
+		return !completed && !cancelled;
+	}
+
+	/**
+	 * Cancels the loading, keeping the chunks already appended to the document.
+	 */
+	public void cancel() {
+		// checks if running
+		if (isRunning()) {
+			cancelled = true;
+			// cancels the request
+			JsHelper.get().cancelIdleCallback(handle);
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+			// closes the history event of the chunks already appended
+			document.changeGeneration(true);
+		}
+	}
+
+	/**
+	 * Starts the loading. The document has been already cleaned.
+	 */
+	void start() {
+		// schedules the first slice
+		schedule();
+	}
+
+	/**
+	 * Requests the next slice.
+	 */
+	private void schedule() {
+		handle = JsHelper.get().requestIdleCallback(this::onIdle, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Appends chunks to the document until the time budget of the slice is elapsed.
+	 * 
+	 * @param deadline idle deadline instance
+	 */
+	private void onIdle(IdleDeadline deadline) {
+		// stores the start time of the slice
+		final double start = Duration.currentTimeMillis();
+		// appends the chunks in a single operation
+		document.operation(() -> {
+			// appends the first chunk anyway
+			do {
+				// gets the next chunk
+				String chunk = supplier.next();
+				// checks if there is any chunk
+				if (chunk == null) {
+					completed = true;
+				} else {
+					// appends the chunk at the end of the document
+					Position end = Position.create(document.lastLine());
+					document.replaceRange(chunk, end, end, ORIGIN);
+					loaded += chunk.length();
+				}
+			} while (!completed && (Duration.currentTimeMillis() - start) < DEFAULT_SLICE_BUDGET);
+		});
+		// checks if completed
+		if (completed) {
+			// resets the handle
+			handle = UndefinedValues.INTEGER;
+			// closes the history event of the chunks
+			document.changeGeneration(true);
+		} else {
+			// schedules the next slice
+			schedule();
+		}
+		// checks if callback is consistent
+		if (callback != null) {
+			// notifies the progress
+			callback.onProgress(document, loaded, total, completed);
+		}
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.events;
+
+import org.pepstock.coderba.client.EditorArea;
+import org.pepstock.coderba.client.LargeFilePolicy;
+
+/**
+ * This is signalled when the editor switches into or out of the degraded profile of the large documents, by the
+ * {@link LargeFilePolicy} of the editor, for instance to show a banner to the user.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class EditorLargeFileEvent extends AbstractEditorEvent<EditorLargeFileEventHandler> {
+
+	/**
+	 * Event type
+	 */
+	public static final Type<EditorLargeFileEventHandler> TYPE = new Type<>();
+	/**
+	 * Event name
+	 */
+	public static final String NAME = "largeFile";
+	// flag if the editor is degraded
+	private final boolean degraded;
+	// amount of lines of the document
+	private final int lineCount;
+	// amount of characters of the document
+	private final int size;
+
+	/**
+	 * Creates an editor {@value NAME} event.
+	 * 
+	 * @param editorArea editor area instance
+	 * @param degraded <code>true</code> if the editor has been switched into the degraded profile
+	 * @param lineCount amount of lines of the document
+	 * @param size amount of characters of the document
+	 */
+	public EditorLargeFileEvent(EditorArea editorArea, boolean degraded, int lineCount, int size) {
+		super(TYPE, editorArea);
+		this.degraded = degraded;
+		this.lineCount = lineCount;
+		this.size = size;
+	}
+
+	/**
+	 * Returns <code>true</code> if the editor has been switched into the degraded profile, <code>false</code> if the full
+	 * profile has been restored.
+	 * 
+	 * @return <code>true</code> if the editor has been switched into the degraded profile
+	 */
+	public boolean isDegraded() {
+		return degraded;
+	}
+
+	/**
+	 * Returns the amount of lines of the document.
+	 * 
+	 * @return the amount of lines of the document
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Returns the amount of characters of the document.
+	 * 
+	 * @return the amount of characters of the document
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gwt.event.shared.GwtEvent#getAssociatedType()
+	 */
+	@Override
+	public Type<EditorLargeFileEventHandler> getAssociatedType() {
+		return TYPE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gwt.event.shared.GwtEvent#dispatch(com.google.gwt.event.shared.EventHandler)
+	 */
+	@Override
+	protected void dispatch(EditorLargeFileEventHandler handler) {
+		handler.onLargeFile(this);
+	}
+
+}
@@ -41,5 +41,7 @@ public final class ModeDart extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.dart()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeClike.MODE);
 	}
 }
@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.modes;
 
 import org.pepstock.coderba.client.Mode;
+import org.pepstock.coderba.client.addons.AddOnSimple;
 import org.pepstock.coderba.client.resources.ModeResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,5 +42,7 @@ public final class ModeDockerfile extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.dockerfile()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnSimple.INSTANCE);
 	}
 }
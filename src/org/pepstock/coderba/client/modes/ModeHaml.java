@@ -41,5 +41,8 @@ public final class ModeHaml extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.haml()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeHtmlmixed.MODE);
+		getDependencies().add(ModeRuby.MODE);
 	}
 }
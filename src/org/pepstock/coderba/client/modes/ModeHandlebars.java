@@ -16,6 +16,8 @@
 package org.pepstock.coderba.client.modes;
 
 import org.pepstock.coderba.client.Mode;
+import org.pepstock.coderba.client.addons.AddOnMultiplex;
+import org.pepstock.coderba.client.addons.AddOnSimple;
 import org.pepstock.coderba.client.resources.ModeResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,5 +43,8 @@ public final class ModeHandlebars extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.handlebars()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnSimple.INSTANCE);
+		getDependencies().add(AddOnMultiplex.INSTANCE);
 	}
 }
@@ -41,5 +41,7 @@ public final class ModeHaskellLiterate extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.haskellLiterate()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeHaskell.MODE);
 	}
 }
@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.modes;
 
 import org.pepstock.coderba.client.Mode;
+import org.pepstock.coderba.client.addons.AddOnMultiplex;
 import org.pepstock.coderba.client.resources.ModeResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,5 +42,8 @@ public final class ModeHtmlembedded extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.htmlembedded()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeHtmlmixed.MODE);
+		getDependencies().add(AddOnMultiplex.INSTANCE);
 	}
 }
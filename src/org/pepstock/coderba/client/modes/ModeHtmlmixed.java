@@ -41,5 +41,9 @@ public final class ModeHtmlmixed extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.htmlmixed()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeXml.MODE);
+		getDependencies().add(ModeJavascript.MODE);
+		getDependencies().add(ModeCss.MODE);
 	}
 }
@@ -41,5 +41,8 @@ public final class ModeJsx extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.jsx()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeXml.MODE);
+		getDependencies().add(ModeJavascript.MODE);
 	}
 }
@@ -41,5 +41,7 @@ public final class ModeMarkdown extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.markdown()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeXml.MODE);
 	}
 }
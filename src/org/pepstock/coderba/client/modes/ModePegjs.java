@@ -41,5 +41,7 @@ public final class ModePegjs extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.pegjs()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeJavascript.MODE);
 	}
 }
@@ -41,5 +41,9 @@ public final class ModePug extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.pug()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeJavascript.MODE);
+		getDependencies().add(ModeCss.MODE);
+		getDependencies().add(ModeHtmlmixed.MODE);
 	}
 }
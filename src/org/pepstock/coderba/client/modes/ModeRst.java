@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.modes;
 
 import org.pepstock.coderba.client.Mode;
+import org.pepstock.coderba.client.addons.AddOnOverlay;
 import org.pepstock.coderba.client.resources.ModeResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,5 +42,9 @@ public final class ModeRst extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.rst()));
+		// adds the items which this one depends on
+		getDependencies().add(ModePython.MODE);
+		getDependencies().add(ModeStex.MODE);
+		getDependencies().add(AddOnOverlay.INSTANCE);
 	}
 }
@@ -41,5 +41,7 @@ public final class ModeSass extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.sass()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeCss.MODE);
 	}
 }
@@ -41,5 +41,8 @@ public final class ModeSlim extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.slim()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeHtmlmixed.MODE);
+		getDependencies().add(ModeRuby.MODE);
 	}
 }
@@ -41,5 +41,7 @@ public final class ModeSoy extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.soy()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeHtmlmixed.MODE);
 	}
 }
@@ -16,6 +16,7 @@
 package org.pepstock.coderba.client.modes;
 
 import org.pepstock.coderba.client.Mode;
+import org.pepstock.coderba.client.addons.AddOnOverlay;
 import org.pepstock.coderba.client.resources.ModeResources;
 import org.pepstock.coderba.client.resources.ScriptResource;
 
@@ -41,5 +42,15 @@ public final class ModeVue extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.vue()));
+		// adds the items which this one depends on
+		getDependencies().add(AddOnOverlay.INSTANCE);
+		getDependencies().add(ModeXml.MODE);
+		getDependencies().add(ModeJavascript.MODE);
+		getDependencies().add(ModeCoffeescript.MODE);
+		getDependencies().add(ModeCss.MODE);
+		getDependencies().add(ModeSass.MODE);
+		getDependencies().add(ModeStylus.MODE);
+		getDependencies().add(ModePug.MODE);
+		getDependencies().add(ModeHandlebars.MODE);
 	}
 }
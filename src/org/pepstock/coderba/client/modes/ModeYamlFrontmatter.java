@@ -41,5 +41,7 @@ public final class ModeYamlFrontmatter extends Mode {
 		// passes the name of mode
 		super(NAME);
 		getResources().add(new ScriptResource(ModeResources.INSTANCE.yamlFrontmatter()));
+		// adds the items which this one depends on
+		getDependencies().add(ModeYaml.MODE);
 	}
 }
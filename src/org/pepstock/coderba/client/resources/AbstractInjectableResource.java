@@ -52,4 +52,14 @@ public abstract class AbstractInjectableResource implements InjectableResource {
 		return resource;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.InjectableResource#isEmbedded()
+	 */
+	@Override
+	public final boolean isEmbedded() {
+		return !(resource instanceof DeferredTextResource);
+	}
+
 }
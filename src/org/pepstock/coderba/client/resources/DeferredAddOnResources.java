@@ -0,0 +1,724 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Replaces {@link AddOnResources} by deferred binding, when the <code>coderba.injection</code> property of the GWT module is set
+ * to <code>deferred</code>.<br>
+ * The resources have got only the name and their code is not compiled into the application, then the addons must be
+ * injected in async mode, by the URLs of {@link ExternalAddOnResources} or {@link MinifiedAddOnResources}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class DeferredAddOnResources implements AddOnResources {
+
+	/**
+	 * Resource of addons, without code, in order to have a key different from the resources of the other bundles with the same
+	 * name.
+	 */
+	private static final class Resource extends DeferredTextResource {
+
+		/**
+		 * Creates the resource by its name.
+		 * 
+		 * @param name name of the resource
+		 */
+		private Resource(String name) {
+			super(name);
+		}
+	}
+
+	// ----------------------------
+	// --- JavaScript Resources ---
+	// ----------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#comment()
+	 */
+	@Override
+	public TextResource comment() {
+		return new Resource("comment");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#continuecomment()
+	 */
+	@Override
+	public TextResource continuecomment() {
+		return new Resource("continuecomment");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#dialog()
+	 */
+	@Override
+	public TextResource dialog() {
+		return new Resource("dialog");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#autorefresh()
+	 */
+	@Override
+	public TextResource autorefresh() {
+		return new Resource("autorefresh");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#fullscreen()
+	 */
+	@Override
+	public TextResource fullscreen() {
+		return new Resource("fullscreen");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#panel()
+	 */
+	@Override
+	public TextResource panel() {
+		return new Resource("panel");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#placeholder()
+	 */
+	@Override
+	public TextResource placeholder() {
+		return new Resource("placeholder");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#rulers()
+	 */
+	@Override
+	public TextResource rulers() {
+		return new Resource("rulers");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#closebrackets()
+	 */
+	@Override
+	public TextResource closebrackets() {
+		return new Resource("closebrackets");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#closetag()
+	 */
+	@Override
+	public TextResource closetag() {
+		return new Resource("closetag");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#continuelist()
+	 */
+	@Override
+	public TextResource continuelist() {
+		return new Resource("continuelist");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#matchbrackets()
+	 */
+	@Override
+	public TextResource matchbrackets() {
+		return new Resource("matchbrackets");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#matchtags()
+	 */
+	@Override
+	public TextResource matchtags() {
+		return new Resource("matchtags");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#trailingspace()
+	 */
+	@Override
+	public TextResource trailingspace() {
+		return new Resource("trailingspace");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#braceFold()
+	 */
+	@Override
+	public TextResource braceFold() {
+		return new Resource("braceFold");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#commentFold()
+	 */
+	@Override
+	public TextResource commentFold() {
+		return new Resource("commentFold");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#foldcode()
+	 */
+	@Override
+	public TextResource foldcode() {
+		return new Resource("foldcode");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#foldgutter()
+	 */
+	@Override
+	public TextResource foldgutter() {
+		return new Resource("foldgutter");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#indentFold()
+	 */
+	@Override
+	public TextResource indentFold() {
+		return new Resource("indentFold");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#markdownFold()
+	 */
+	@Override
+	public TextResource markdownFold() {
+		return new Resource("markdownFold");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#xmlFold()
+	 */
+	@Override
+	public TextResource xmlFold() {
+		return new Resource("xmlFold");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#anywordHint()
+	 */
+	@Override
+	public TextResource anywordHint() {
+		return new Resource("anywordHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#cssHint()
+	 */
+	@Override
+	public TextResource cssHint() {
+		return new Resource("cssHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#htmlHint()
+	 */
+	@Override
+	public TextResource htmlHint() {
+		return new Resource("htmlHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#javascriptHint()
+	 */
+	@Override
+	public TextResource javascriptHint() {
+		return new Resource("javascriptHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#showHint()
+	 */
+	@Override
+	public TextResource showHint() {
+		return new Resource("showHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#sqlHint()
+	 */
+	@Override
+	public TextResource sqlHint() {
+		return new Resource("sqlHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#xmlHint()
+	 */
+	@Override
+	public TextResource xmlHint() {
+		return new Resource("xmlHint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#coffeescriptLint()
+	 */
+	@Override
+	public TextResource coffeescriptLint() {
+		return new Resource("coffeescriptLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#cssLint()
+	 */
+	@Override
+	public TextResource cssLint() {
+		return new Resource("cssLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#htmlLint()
+	 */
+	@Override
+	public TextResource htmlLint() {
+		return new Resource("htmlLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#javascriptLint()
+	 */
+	@Override
+	public TextResource javascriptLint() {
+		return new Resource("javascriptLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#jsonLint()
+	 */
+	@Override
+	public TextResource jsonLint() {
+		return new Resource("jsonLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#lint()
+	 */
+	@Override
+	public TextResource lint() {
+		return new Resource("lint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#yamlLint()
+	 */
+	@Override
+	public TextResource yamlLint() {
+		return new Resource("yamlLint");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#merge()
+	 */
+	@Override
+	public TextResource merge() {
+		return new Resource("merge");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#loadmode()
+	 */
+	@Override
+	public TextResource loadmode() {
+		return new Resource("loadmode");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#multiplex()
+	 */
+	@Override
+	public TextResource multiplex() {
+		return new Resource("multiplex");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#overlay()
+	 */
+	@Override
+	public TextResource overlay() {
+		return new Resource("overlay");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#simple()
+	 */
+	@Override
+	public TextResource simple() {
+		return new Resource("simple");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#colorize()
+	 */
+	@Override
+	public TextResource colorize() {
+		return new Resource("colorize");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#runmodeStandalone()
+	 */
+	@Override
+	public TextResource runmodeStandalone() {
+		return new Resource("runmodeStandalone");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#runmode()
+	 */
+	@Override
+	public TextResource runmode() {
+		return new Resource("runmode");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#runmodenode()
+	 */
+	@Override
+	public TextResource runmodenode() {
+		return new Resource("runmodenode");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#annotatescrollbar()
+	 */
+	@Override
+	public TextResource annotatescrollbar() {
+		return new Resource("annotatescrollbar");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#scrollpastend()
+	 */
+	@Override
+	public TextResource scrollpastend() {
+		return new Resource("scrollpastend");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#simplescrollbars()
+	 */
+	@Override
+	public TextResource simplescrollbars() {
+		return new Resource("simplescrollbars");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#jumpToLine()
+	 */
+	@Override
+	public TextResource jumpToLine() {
+		return new Resource("jumpToLine");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#matchHighlighter()
+	 */
+	@Override
+	public TextResource matchHighlighter() {
+		return new Resource("matchHighlighter");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#matchesonscrollbar()
+	 */
+	@Override
+	public TextResource matchesonscrollbar() {
+		return new Resource("matchesonscrollbar");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#search()
+	 */
+	@Override
+	public TextResource search() {
+		return new Resource("search");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#searchcursor()
+	 */
+	@Override
+	public TextResource searchcursor() {
+		return new Resource("searchcursor");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#activeLine()
+	 */
+	@Override
+	public TextResource activeLine() {
+		return new Resource("activeLine");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#markSelection()
+	 */
+	@Override
+	public TextResource markSelection() {
+		return new Resource("markSelection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#selectionPointer()
+	 */
+	@Override
+	public TextResource selectionPointer() {
+		return new Resource("selectionPointer");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#tern()
+	 */
+	@Override
+	public TextResource tern() {
+		return new Resource("tern");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#worker()
+	 */
+	@Override
+	public TextResource worker() {
+		return new Resource("worker");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#hardwrap()
+	 */
+	@Override
+	public TextResource hardwrap() {
+		return new Resource("hardwrap");
+	}
+
+	// ----------------------------
+	// --- CSS Resources ---
+	// ----------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#dialogCss()
+	 */
+	@Override
+	public TextResource dialogCss() {
+		return new Resource("dialogCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#fullscreenCss()
+	 */
+	@Override
+	public TextResource fullscreenCss() {
+		return new Resource("fullscreenCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#foldgutterCss()
+	 */
+	@Override
+	public TextResource foldgutterCss() {
+		return new Resource("foldgutterCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#showHintCss()
+	 */
+	@Override
+	public TextResource showHintCss() {
+		return new Resource("showHintCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#lintCss()
+	 */
+	@Override
+	public TextResource lintCss() {
+		return new Resource("lintCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#mergeCss()
+	 */
+	@Override
+	public TextResource mergeCss() {
+		return new Resource("mergeCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#simplescrollbarsCss()
+	 */
+	@Override
+	public TextResource simplescrollbarsCss() {
+		return new Resource("simplescrollbarsCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#matchesonscrollbarCss()
+	 */
+	@Override
+	public TextResource matchesonscrollbarCss() {
+		return new Resource("matchesonscrollbarCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.AddOnResources#ternCss()
+	 */
+	@Override
+	public TextResource ternCss() {
+		return new Resource("ternCss");
+	}
+
+}
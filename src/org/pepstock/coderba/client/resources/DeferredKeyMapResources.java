@@ -0,0 +1,76 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Replaces {@link KeyMapResources} by deferred binding, when the <code>coderba.injection</code> property of the GWT module is set
+ * to <code>deferred</code>.<br>
+ * The resources have got only the name and their java script code is not compiled into the application, then the keymaps must be
+ * injected in async mode, by the URLs of {@link ExternalKeyMapResources} or {@link MinifiedKeyMapResources}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class DeferredKeyMapResources implements KeyMapResources {
+
+	/**
+	 * Resource of keymaps, without code, in order to have a key different from the resources of the other bundles with the same
+	 * name.
+	 */
+	private static final class Resource extends DeferredTextResource {
+
+		/**
+		 * Creates the resource by its name.
+		 * 
+		 * @param name name of the resource
+		 */
+		private Resource(String name) {
+			super(name);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.KeyMapResources#emacs()
+	 */
+	@Override
+	public TextResource emacs() {
+		return new Resource("emacs");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.KeyMapResources#sublime()
+	 */
+	@Override
+	public TextResource sublime() {
+		return new Resource("sublime");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.KeyMapResources#vim()
+	 */
+	@Override
+	public TextResource vim() {
+		return new Resource("vim");
+	}
+
+}
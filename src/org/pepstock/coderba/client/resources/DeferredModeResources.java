@@ -0,0 +1,1274 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Replaces {@link ModeResources} by deferred binding, when the <code>coderba.injection</code> property of the GWT module is set
+ * to <code>deferred</code>.<br>
+ * The resources have got only the name and their java script code is not compiled into the application, then the modes must be
+ * injected in async mode, by the URLs of {@link ExternalModeResources} or {@link MinifiedModeResources}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class DeferredModeResources implements ModeResources {
+
+	/**
+	 * Resource of modes, without code, in order to have a key different from the resources of the other bundles with the same
+	 * name.
+	 */
+	private static final class Resource extends DeferredTextResource {
+
+		/**
+		 * Creates the resource by its name.
+		 * 
+		 * @param name name of the resource
+		 */
+		private Resource(String name) {
+			super(name);
+		}
+	}
+
+	// ----------------------------
+	// --- JavaScript Resources ---
+	// ----------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#apl()
+	 */
+	@Override
+	public TextResource apl() {
+		return new Resource("apl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#asciiarmor()
+	 */
+	@Override
+	public TextResource asciiarmor() {
+		return new Resource("asciiarmor");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#asn1()
+	 */
+	@Override
+	public TextResource asn1() {
+		return new Resource("asn1");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#asterisk()
+	 */
+	@Override
+	public TextResource asterisk() {
+		return new Resource("asterisk");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#brainfuck()
+	 */
+	@Override
+	public TextResource brainfuck() {
+		return new Resource("brainfuck");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#clike()
+	 */
+	@Override
+	public TextResource clike() {
+		return new Resource("clike");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#clojure()
+	 */
+	@Override
+	public TextResource clojure() {
+		return new Resource("clojure");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#cmake()
+	 */
+	@Override
+	public TextResource cmake() {
+		return new Resource("cmake");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#cobol()
+	 */
+	@Override
+	public TextResource cobol() {
+		return new Resource("cobol");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#coffeescript()
+	 */
+	@Override
+	public TextResource coffeescript() {
+		return new Resource("coffeescript");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#commonlisp()
+	 */
+	@Override
+	public TextResource commonlisp() {
+		return new Resource("commonlisp");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#crystal()
+	 */
+	@Override
+	public TextResource crystal() {
+		return new Resource("crystal");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#css()
+	 */
+	@Override
+	public TextResource css() {
+		return new Resource("css");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#cypher()
+	 */
+	@Override
+	public TextResource cypher() {
+		return new Resource("cypher");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#d()
+	 */
+	@Override
+	public TextResource d() {
+		return new Resource("d");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#dart()
+	 */
+	@Override
+	public TextResource dart() {
+		return new Resource("dart");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#diff()
+	 */
+	@Override
+	public TextResource diff() {
+		return new Resource("diff");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#django()
+	 */
+	@Override
+	public TextResource django() {
+		return new Resource("django");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#dockerfile()
+	 */
+	@Override
+	public TextResource dockerfile() {
+		return new Resource("dockerfile");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#dtd()
+	 */
+	@Override
+	public TextResource dtd() {
+		return new Resource("dtd");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#dylan()
+	 */
+	@Override
+	public TextResource dylan() {
+		return new Resource("dylan");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ebnf()
+	 */
+	@Override
+	public TextResource ebnf() {
+		return new Resource("ebnf");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ecl()
+	 */
+	@Override
+	public TextResource ecl() {
+		return new Resource("ecl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#eiffel()
+	 */
+	@Override
+	public TextResource eiffel() {
+		return new Resource("eiffel");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#elm()
+	 */
+	@Override
+	public TextResource elm() {
+		return new Resource("elm");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#erlang()
+	 */
+	@Override
+	public TextResource erlang() {
+		return new Resource("erlang");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#factor()
+	 */
+	@Override
+	public TextResource factor() {
+		return new Resource("factor");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#fcl()
+	 */
+	@Override
+	public TextResource fcl() {
+		return new Resource("fcl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#forth()
+	 */
+	@Override
+	public TextResource forth() {
+		return new Resource("forth");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#fortran()
+	 */
+	@Override
+	public TextResource fortran() {
+		return new Resource("fortran");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#gas()
+	 */
+	@Override
+	public TextResource gas() {
+		return new Resource("gas");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#gfm()
+	 */
+	@Override
+	public TextResource gfm() {
+		return new Resource("gfm");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#gherkin()
+	 */
+	@Override
+	public TextResource gherkin() {
+		return new Resource("gherkin");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#go()
+	 */
+	@Override
+	public TextResource go() {
+		return new Resource("go");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#groovy()
+	 */
+	@Override
+	public TextResource groovy() {
+		return new Resource("groovy");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#haml()
+	 */
+	@Override
+	public TextResource haml() {
+		return new Resource("haml");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#handlebars()
+	 */
+	@Override
+	public TextResource handlebars() {
+		return new Resource("handlebars");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#haskell()
+	 */
+	@Override
+	public TextResource haskell() {
+		return new Resource("haskell");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#haskellLiterate()
+	 */
+	@Override
+	public TextResource haskellLiterate() {
+		return new Resource("haskellLiterate");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#haxe()
+	 */
+	@Override
+	public TextResource haxe() {
+		return new Resource("haxe");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#htmlembedded()
+	 */
+	@Override
+	public TextResource htmlembedded() {
+		return new Resource("htmlembedded");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#htmlmixed()
+	 */
+	@Override
+	public TextResource htmlmixed() {
+		return new Resource("htmlmixed");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#http()
+	 */
+	@Override
+	public TextResource http() {
+		return new Resource("http");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#idl()
+	 */
+	@Override
+	public TextResource idl() {
+		return new Resource("idl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#javascript()
+	 */
+	@Override
+	public TextResource javascript() {
+		return new Resource("javascript");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#jinja2()
+	 */
+	@Override
+	public TextResource jinja2() {
+		return new Resource("jinja2");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#jsx()
+	 */
+	@Override
+	public TextResource jsx() {
+		return new Resource("jsx");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#julia()
+	 */
+	@Override
+	public TextResource julia() {
+		return new Resource("julia");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#livescript()
+	 */
+	@Override
+	public TextResource livescript() {
+		return new Resource("livescript");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#lua()
+	 */
+	@Override
+	public TextResource lua() {
+		return new Resource("lua");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#markdown()
+	 */
+	@Override
+	public TextResource markdown() {
+		return new Resource("markdown");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mathematica()
+	 */
+	@Override
+	public TextResource mathematica() {
+		return new Resource("mathematica");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mbox()
+	 */
+	@Override
+	public TextResource mbox() {
+		return new Resource("mbox");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mirc()
+	 */
+	@Override
+	public TextResource mirc() {
+		return new Resource("mirc");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mllike()
+	 */
+	@Override
+	public TextResource mllike() {
+		return new Resource("mllike");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#modelica()
+	 */
+	@Override
+	public TextResource modelica() {
+		return new Resource("modelica");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mscgen()
+	 */
+	@Override
+	public TextResource mscgen() {
+		return new Resource("mscgen");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#mumps()
+	 */
+	@Override
+	public TextResource mumps() {
+		return new Resource("mumps");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#nginx()
+	 */
+	@Override
+	public TextResource nginx() {
+		return new Resource("nginx");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#nsis()
+	 */
+	@Override
+	public TextResource nsis() {
+		return new Resource("nsis");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ntriples()
+	 */
+	@Override
+	public TextResource ntriples() {
+		return new Resource("ntriples");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#octave()
+	 */
+	@Override
+	public TextResource octave() {
+		return new Resource("octave");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#oz()
+	 */
+	@Override
+	public TextResource oz() {
+		return new Resource("oz");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#pascal()
+	 */
+	@Override
+	public TextResource pascal() {
+		return new Resource("pascal");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#pegjs()
+	 */
+	@Override
+	public TextResource pegjs() {
+		return new Resource("pegjs");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#perl()
+	 */
+	@Override
+	public TextResource perl() {
+		return new Resource("perl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#php()
+	 */
+	@Override
+	public TextResource php() {
+		return new Resource("php");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#pig()
+	 */
+	@Override
+	public TextResource pig() {
+		return new Resource("pig");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#powershell()
+	 */
+	@Override
+	public TextResource powershell() {
+		return new Resource("powershell");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#properties()
+	 */
+	@Override
+	public TextResource properties() {
+		return new Resource("properties");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#protobuf()
+	 */
+	@Override
+	public TextResource protobuf() {
+		return new Resource("protobuf");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#pug()
+	 */
+	@Override
+	public TextResource pug() {
+		return new Resource("pug");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#puppet()
+	 */
+	@Override
+	public TextResource puppet() {
+		return new Resource("puppet");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#python()
+	 */
+	@Override
+	public TextResource python() {
+		return new Resource("python");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#q()
+	 */
+	@Override
+	public TextResource q() {
+		return new Resource("q");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#r()
+	 */
+	@Override
+	public TextResource r() {
+		return new Resource("r");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#rpm()
+	 */
+	@Override
+	public TextResource rpm() {
+		return new Resource("rpm");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#rst()
+	 */
+	@Override
+	public TextResource rst() {
+		return new Resource("rst");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ruby()
+	 */
+	@Override
+	public TextResource ruby() {
+		return new Resource("ruby");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#rust()
+	 */
+	@Override
+	public TextResource rust() {
+		return new Resource("rust");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#sas()
+	 */
+	@Override
+	public TextResource sas() {
+		return new Resource("sas");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#sass()
+	 */
+	@Override
+	public TextResource sass() {
+		return new Resource("sass");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#scheme()
+	 */
+	@Override
+	public TextResource scheme() {
+		return new Resource("scheme");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#shell()
+	 */
+	@Override
+	public TextResource shell() {
+		return new Resource("shell");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#sieve()
+	 */
+	@Override
+	public TextResource sieve() {
+		return new Resource("sieve");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#slim()
+	 */
+	@Override
+	public TextResource slim() {
+		return new Resource("slim");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#smalltalk()
+	 */
+	@Override
+	public TextResource smalltalk() {
+		return new Resource("smalltalk");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#smarty()
+	 */
+	@Override
+	public TextResource smarty() {
+		return new Resource("smarty");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#solr()
+	 */
+	@Override
+	public TextResource solr() {
+		return new Resource("solr");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#soy()
+	 */
+	@Override
+	public TextResource soy() {
+		return new Resource("soy");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#sparql()
+	 */
+	@Override
+	public TextResource sparql() {
+		return new Resource("sparql");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#spreadsheet()
+	 */
+	@Override
+	public TextResource spreadsheet() {
+		return new Resource("spreadsheet");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#sql()
+	 */
+	@Override
+	public TextResource sql() {
+		return new Resource("sql");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#stex()
+	 */
+	@Override
+	public TextResource stex() {
+		return new Resource("stex");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#stylus()
+	 */
+	@Override
+	public TextResource stylus() {
+		return new Resource("stylus");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#swift()
+	 */
+	@Override
+	public TextResource swift() {
+		return new Resource("swift");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tcl()
+	 */
+	@Override
+	public TextResource tcl() {
+		return new Resource("tcl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#textile()
+	 */
+	@Override
+	public TextResource textile() {
+		return new Resource("textile");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tiddlywiki()
+	 */
+	@Override
+	public TextResource tiddlywiki() {
+		return new Resource("tiddlywiki");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tiki()
+	 */
+	@Override
+	public TextResource tiki() {
+		return new Resource("tiki");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#toml()
+	 */
+	@Override
+	public TextResource toml() {
+		return new Resource("toml");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tornado()
+	 */
+	@Override
+	public TextResource tornado() {
+		return new Resource("tornado");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#troff()
+	 */
+	@Override
+	public TextResource troff() {
+		return new Resource("troff");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ttcn()
+	 */
+	@Override
+	public TextResource ttcn() {
+		return new Resource("ttcn");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#ttcnCfg()
+	 */
+	@Override
+	public TextResource ttcnCfg() {
+		return new Resource("ttcnCfg");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#turtle()
+	 */
+	@Override
+	public TextResource turtle() {
+		return new Resource("turtle");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#twig()
+	 */
+	@Override
+	public TextResource twig() {
+		return new Resource("twig");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#vb()
+	 */
+	@Override
+	public TextResource vb() {
+		return new Resource("vb");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#vbscript()
+	 */
+	@Override
+	public TextResource vbscript() {
+		return new Resource("vbscript");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#velocity()
+	 */
+	@Override
+	public TextResource velocity() {
+		return new Resource("velocity");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#verilog()
+	 */
+	@Override
+	public TextResource verilog() {
+		return new Resource("verilog");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#vhdl()
+	 */
+	@Override
+	public TextResource vhdl() {
+		return new Resource("vhdl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#vue()
+	 */
+	@Override
+	public TextResource vue() {
+		return new Resource("vue");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#webidl()
+	 */
+	@Override
+	public TextResource webidl() {
+		return new Resource("webidl");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#xml()
+	 */
+	@Override
+	public TextResource xml() {
+		return new Resource("xml");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#xquery()
+	 */
+	@Override
+	public TextResource xquery() {
+		return new Resource("xquery");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#yacas()
+	 */
+	@Override
+	public TextResource yacas() {
+		return new Resource("yacas");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#yaml()
+	 */
+	@Override
+	public TextResource yaml() {
+		return new Resource("yaml");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#yamlFrontmatter()
+	 */
+	@Override
+	public TextResource yamlFrontmatter() {
+		return new Resource("yamlFrontmatter");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#z80()
+	 */
+	@Override
+	public TextResource z80() {
+		return new Resource("z80");
+	}
+
+	// ----------------------------
+	// --- CSS Resources ---
+	// ----------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tiddlywikiCss()
+	 */
+	@Override
+	public TextResource tiddlywikiCss() {
+		return new Resource("tiddlywikiCss");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ModeResources#tikiCss()
+	 */
+	@Override
+	public TextResource tikiCss() {
+		return new Resource("tikiCss");
+	}
+
+}
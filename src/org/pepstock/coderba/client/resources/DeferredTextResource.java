@@ -0,0 +1,63 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Text resource without code, returned by the resources which replace the embedded ones when the
+ * <code>coderba.injection</code> property of the GWT module is set to <code>deferred</code>.<br>
+ * It has got only the name, used to look up the resource as external file, and it can not be injected in sync mode.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+abstract class DeferredTextResource implements TextResource {
+
+	// name of the resource
+	private final String name;
+
+	/**
+	 * Creates the resource by its name.
+	 * 
+	 * @param name name of the resource
+	 */
+	DeferredTextResource(String name) {
+		this.name = name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gwt.resources.client.ResourcePrototype#getName()
+	 */
+	@Override
+	public final String getName() {
+		return name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gwt.resources.client.TextResource#getText()
+	 */
+	@Override
+	public final String getText() {
+		// the code is not compiled into the application
+		throw new ResourceLoadException("Resource '" + name + "' is not embedded and must be injected in async mode");
+	}
+
+}
@@ -0,0 +1,616 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Replaces {@link ThemeResources} by deferred binding, when the <code>coderba.injection</code> property of the GWT module is set
+ * to <code>deferred</code>.<br>
+ * The resources have got only the name and their CSS code is not compiled into the application, then the themes must be
+ * injected in async mode, by the URLs of {@link ExternalThemeResources}.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class DeferredThemeResources implements ThemeResources {
+
+	/**
+	 * Resource of themes, without code, in order to have a key different from the resources of the other bundles with the same
+	 * name.
+	 */
+	private static final class Resource extends DeferredTextResource {
+
+		/**
+		 * Creates the resource by its name.
+		 * 
+		 * @param name name of the resource
+		 */
+		private Resource(String name) {
+			super(name);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#m3024Day()
+	 */
+	@Override
+	public TextResource m3024Day() {
+		return new Resource("m3024Day");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#m3024Night()
+	 */
+	@Override
+	public TextResource m3024Night() {
+		return new Resource("m3024Night");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#abcdef()
+	 */
+	@Override
+	public TextResource abcdef() {
+		return new Resource("abcdef");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#ambianceMobile()
+	 */
+	@Override
+	public TextResource ambianceMobile() {
+		return new Resource("ambianceMobile");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#ambiance()
+	 */
+	@Override
+	public TextResource ambiance() {
+		return new Resource("ambiance");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#base16Dark()
+	 */
+	@Override
+	public TextResource base16Dark() {
+		return new Resource("base16Dark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#base16Light()
+	 */
+	@Override
+	public TextResource base16Light() {
+		return new Resource("base16Light");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#bespin()
+	 */
+	@Override
+	public TextResource bespin() {
+		return new Resource("bespin");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#blackboard()
+	 */
+	@Override
+	public TextResource blackboard() {
+		return new Resource("blackboard");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#cobalt()
+	 */
+	@Override
+	public TextResource cobalt() {
+		return new Resource("cobalt");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#colorforth()
+	 */
+	@Override
+	public TextResource colorforth() {
+		return new Resource("colorforth");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#darcula()
+	 */
+	@Override
+	public TextResource darcula() {
+		return new Resource("darcula");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#dracula()
+	 */
+	@Override
+	public TextResource dracula() {
+		return new Resource("dracula");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#duotoneDark()
+	 */
+	@Override
+	public TextResource duotoneDark() {
+		return new Resource("duotoneDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#duotoneLight()
+	 */
+	@Override
+	public TextResource duotoneLight() {
+		return new Resource("duotoneLight");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#eclipse()
+	 */
+	@Override
+	public TextResource eclipse() {
+		return new Resource("eclipse");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#elegant()
+	 */
+	@Override
+	public TextResource elegant() {
+		return new Resource("elegant");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#erlangDark()
+	 */
+	@Override
+	public TextResource erlangDark() {
+		return new Resource("erlangDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#gruvboxDark()
+	 */
+	@Override
+	public TextResource gruvboxDark() {
+		return new Resource("gruvboxDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#hopscotch()
+	 */
+	@Override
+	public TextResource hopscotch() {
+		return new Resource("hopscotch");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#icecoder()
+	 */
+	@Override
+	public TextResource icecoder() {
+		return new Resource("icecoder");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#idea()
+	 */
+	@Override
+	public TextResource idea() {
+		return new Resource("idea");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#isotope()
+	 */
+	@Override
+	public TextResource isotope() {
+		return new Resource("isotope");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#lesserDark()
+	 */
+	@Override
+	public TextResource lesserDark() {
+		return new Resource("lesserDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#liquibyte()
+	 */
+	@Override
+	public TextResource liquibyte() {
+		return new Resource("liquibyte");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#lucario()
+	 */
+	@Override
+	public TextResource lucario() {
+		return new Resource("lucario");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#material()
+	 */
+	@Override
+	public TextResource material() {
+		return new Resource("material");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#mbo()
+	 */
+	@Override
+	public TextResource mbo() {
+		return new Resource("mbo");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#mdnLike()
+	 */
+	@Override
+	public TextResource mdnLike() {
+		return new Resource("mdnLike");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#midnight()
+	 */
+	@Override
+	public TextResource midnight() {
+		return new Resource("midnight");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#monokai()
+	 */
+	@Override
+	public TextResource monokai() {
+		return new Resource("monokai");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#neat()
+	 */
+	@Override
+	public TextResource neat() {
+		return new Resource("neat");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#neo()
+	 */
+	@Override
+	public TextResource neo() {
+		return new Resource("neo");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#night()
+	 */
+	@Override
+	public TextResource night() {
+		return new Resource("night");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#nord()
+	 */
+	@Override
+	public TextResource nord() {
+		return new Resource("nord");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#oceanicNext()
+	 */
+	@Override
+	public TextResource oceanicNext() {
+		return new Resource("oceanicNext");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#pandaSyntax()
+	 */
+	@Override
+	public TextResource pandaSyntax() {
+		return new Resource("pandaSyntax");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#paraisoDark()
+	 */
+	@Override
+	public TextResource paraisoDark() {
+		return new Resource("paraisoDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#paraisoLight()
+	 */
+	@Override
+	public TextResource paraisoLight() {
+		return new Resource("paraisoLight");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#pastelOnDark()
+	 */
+	@Override
+	public TextResource pastelOnDark() {
+		return new Resource("pastelOnDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#railscasts()
+	 */
+	@Override
+	public TextResource railscasts() {
+		return new Resource("railscasts");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#rubyblue()
+	 */
+	@Override
+	public TextResource rubyblue() {
+		return new Resource("rubyblue");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#seti()
+	 */
+	@Override
+	public TextResource seti() {
+		return new Resource("seti");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#shadowfox()
+	 */
+	@Override
+	public TextResource shadowfox() {
+		return new Resource("shadowfox");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#solarized()
+	 */
+	@Override
+	public TextResource solarized() {
+		return new Resource("solarized");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#ssms()
+	 */
+	@Override
+	public TextResource ssms() {
+		return new Resource("ssms");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#theMatrix()
+	 */
+	@Override
+	public TextResource theMatrix() {
+		return new Resource("theMatrix");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#tomorrowNightBright()
+	 */
+	@Override
+	public TextResource tomorrowNightBright() {
+		return new Resource("tomorrowNightBright");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#tomorrowNightEighties()
+	 */
+	@Override
+	public TextResource tomorrowNightEighties() {
+		return new Resource("tomorrowNightEighties");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#ttcn()
+	 */
+	@Override
+	public TextResource ttcn() {
+		return new Resource("ttcn");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#twilight()
+	 */
+	@Override
+	public TextResource twilight() {
+		return new Resource("twilight");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#vibrantInk()
+	 */
+	@Override
+	public TextResource vibrantInk() {
+		return new Resource("vibrantInk");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#xqDark()
+	 */
+	@Override
+	public TextResource xqDark() {
+		return new Resource("xqDark");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#xqLight()
+	 */
+	@Override
+	public TextResource xqLight() {
+		return new Resource("xqLight");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#yeti()
+	 */
+	@Override
+	public TextResource yeti() {
+		return new Resource("yeti");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#yonce()
+	 */
+	@Override
+	public TextResource yonce() {
+		return new Resource("yonce");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.ThemeResources#zenburn()
+	 */
+	@Override
+	public TextResource zenburn() {
+		return new Resource("zenburn");
+	}
+
+}
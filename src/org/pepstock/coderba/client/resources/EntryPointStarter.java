@@ -16,7 +16,13 @@
 package org.pepstock.coderba.client.resources;
 
 import org.pepstock.coderba.client.Injector;
+import org.pepstock.coderba.client.callbacks.ResourceErrorHandler;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.ScriptElement;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.ExternalTextResource;
 import com.google.gwt.resources.client.ResourceCallback;
 import com.google.gwt.resources.client.ResourceException;
 import com.google.gwt.resources.client.TextResource;
@@ -61,21 +67,65 @@ public final class EntryPointStarter {
 
 	/**
 	 * Start an entry point as a runnable. This runnable instance must contains all calls to chart.<br>
-	 * This helps when the GWT application is leveraging on code splitting.
+	 * This helps when the GWT application is leveraging on code splitting.<br>
+	 * If CodeMirror can not be loaded, the error is reported to the uncaught exception handler of GWT.
 	 * 
 	 * @param runnable the entry point instance as runnable
 	 */
 	public static void run(final Runnable runnable) {
-		// checks if the entry point is consistent
-		if (runnable == null) {
-			// if not, exception
-			throw new IllegalArgumentException("Entry point runnable is null");
-		}
+		run(runnable, GWT::reportUncaughtException);
+	}
+
+	/**
+	 * Start an entry point as a runnable. This runnable instance must contains all calls to chart.<br>
+	 * This helps when the GWT application is leveraging on code splitting.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 * @param errorHandler handler invoked when CodeMirror can not be loaded
+	 */
+	public static void run(final Runnable runnable, final ResourceErrorHandler errorHandler) {
+		run(runnable, errorHandler, DeferredResources.INSTANCE);
+	}
+
+	/**
+	 * Start an entry point as a runnable, loading CodeMirror minified, by {@link MinifiedDeferredResources}. This runnable
+	 * instance must contains all calls to editor.<br>
+	 * This helps when the GWT application is leveraging on code splitting.<br>
+	 * If CodeMirror can not be loaded, the error is reported to the uncaught exception handler of GWT.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 */
+	public static void runMinified(final Runnable runnable) {
+		runMinified(runnable, GWT::reportUncaughtException);
+	}
+
+	/**
+	 * Start an entry point as a runnable, loading CodeMirror minified, by {@link MinifiedDeferredResources}. This runnable
+	 * instance must contains all calls to editor.<br>
+	 * This helps when the GWT application is leveraging on code splitting.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 * @param errorHandler handler invoked when CodeMirror can not be loaded
+	 */
+	public static void runMinified(final Runnable runnable, final ResourceErrorHandler errorHandler) {
+		run(runnable, errorHandler, MinifiedDeferredResources.INSTANCE);
+	}
+
+	/**
+	 * Start an entry point as a runnable, loading CodeMirror in async mode by the passed resources.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 * @param errorHandler handler invoked when CodeMirror can not be loaded
+	 * @param resources deferred resources type to use
+	 */
+	private static void run(final Runnable runnable, final ResourceErrorHandler errorHandler, Resources<ExternalTextResource> resources) {
+		// checks if the arguments are consistent
+		checkArguments(runnable, errorHandler);
 		// sets deferred resources
-		ResourcesType.setClientBundle(DeferredResources.INSTANCE);
+		ResourcesType.setClientBundle(resources);
 		try {
 			// loads CodeMirror in async
-			DeferredResources.INSTANCE.codemirror().getText(new ResourceCallback<TextResource>() {
+			resources.codemirror().getText(new ResourceCallback<TextResource>() {
 
 				/*
 				 * (non-Javadoc)
@@ -85,7 +135,8 @@ public final class EntryPointStarter {
 				 */
 				@Override
 				public void onError(ResourceException e) {
-					throw new ResourceLoadException("Unable to load CodeMirror resource", e);
+					// notifies the error
+					errorHandler.onError(new ResourceLoadException("Unable to load CodeMirror resource", e));
 				}
 
 				/*
@@ -104,7 +155,71 @@ public final class EntryPointStarter {
 			});
 		} catch (ResourceException e) {
 			// if here, there is an error on resource callback
-			throw new ResourceLoadException("Unable to load CodeMirror resource", e);
+			errorHandler.onError(new ResourceLoadException("Unable to load CodeMirror resource", e));
+		}
+	}
+
+	/**
+	 * Start an entry point as a runnable, loading CodeMirror as external file, by {@link ExternalResources}. This runnable
+	 * instance must contains all calls to editor.<br>
+	 * CodeMirror and the modes, addons, themes and keymaps injected in async mode are loaded by their URLs as static files,
+	 * which can be cached by the browser between visits.<br>
+	 * If CodeMirror can not be loaded, the error is reported to the uncaught exception handler of GWT.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 */
+	public static void runWithExternalResources(final Runnable runnable) {
+		runWithExternalResources(runnable, GWT::reportUncaughtException);
+	}
+
+	/**
+	 * Start an entry point as a runnable, loading CodeMirror as external file, by {@link ExternalResources}. This runnable
+	 * instance must contains all calls to editor.<br>
+	 * CodeMirror and the modes, addons, themes and keymaps injected in async mode are loaded by their URLs as static files,
+	 * which can be cached by the browser between visits.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 * @param errorHandler handler invoked when CodeMirror can not be loaded
+	 */
+	public static void runWithExternalResources(final Runnable runnable, final ResourceErrorHandler errorHandler) {
+		// checks if the arguments are consistent
+		checkArguments(runnable, errorHandler);
+		// sets external resources
+		ResourcesType.setClientBundle(ExternalResources.INSTANCE);
+		// gets the CodeMirror resource
+		final DataResource resource = ExternalResources.INSTANCE.codemirror();
+		// creates the script element which loads CodeMirror by its URL
+		ScriptElement element = Document.get().createScriptElement();
+		element.setSrc(resource.getSafeUri().asString());
+		// loads CodeMirror in async
+		ExternalResourceLoader.load(element, () -> {
+			// sets CodeMirror as injected
+			Injector.ensureInjected(resource);
+			// executes the entry point
+			runnable.run();
+		}, () -> {
+			// if here, CodeMirror is not loaded
+			// removes the element in order to be able to load it again
+			element.removeFromParent();
+			// notifies the error
+			errorHandler.onError(new ResourceLoadException("Unable to load CodeMirror resource"));
+		});
+	}
+
+	/**
+	 * Checks if the entry point and the error handler are consistent.
+	 * 
+	 * @param runnable the entry point instance as runnable
+	 * @param errorHandler handler invoked when CodeMirror can not be loaded
+	 */
+	private static void checkArguments(Runnable runnable, ResourceErrorHandler errorHandler) {
+		// checks if the entry point is consistent
+		if (runnable == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Entry point runnable is null");
+		} else if (errorHandler == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Error handler is null");
 		}
 	}
 }
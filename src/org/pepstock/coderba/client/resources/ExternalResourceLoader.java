@@ -0,0 +1,104 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.LinkElement;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Utility to load a resource, emitted as external file, by a SCRIPT or LINK element, appended to the DOM document.<br>
+ * The element loads the file by its URL and notifies when the file has been loaded or not.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class ExternalResourceLoader {
+
+	// relationship of LINK element to preload a file
+	private static final String PRELOAD_RELATIONSHIP = "preload";
+	// attribute of LINK element to set the type of the preloaded file
+	private static final String AS_ATTRIBUTE = "as";
+	// type of the preloaded java script files
+	private static final String SCRIPT_TYPE = "script";
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ExternalResourceLoader() {
+		// do nothing
+	}
+
+	/**
+	 * Loads a resource by a DOM element, created by {@link InjectableResource#createElement(String)}, appending it to the DOM
+	 * document.
+	 * 
+	 * @param element DOM element which loads the resource
+	 * @param onLoad invoked when the resource has been loaded
+	 * @param onError invoked when the resource can not be loaded
+	 */
+	public static void load(Element element, Runnable onLoad, Runnable onError) {
+		// checks if arguments are consistent
+		if (element == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Element is null");
+		} else if (onLoad == null || onError == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Load callbacks are null");
+		}
+		// enables the load and error events on element
+		DOM.sinkEvents(element, Event.ONLOAD | Event.ONERROR);
+		// sets the listener
+		DOM.setEventListener(element, event -> {
+			// removes the listener because the element is loaded once
+			DOM.setEventListener(element, null);
+			// checks if the resource has been loaded
+			if (DOM.eventGetType(event) == Event.ONLOAD) {
+				onLoad.run();
+			} else {
+				onError.run();
+			}
+		});
+		// appends to the body, starting the loading
+		Document.get().getBody().appendChild(element);
+	}
+
+	/**
+	 * Starts to download a java script file by its URL, without evaluating it, by a LINK element with <code>preload</code>
+	 * relationship.<br>
+	 * The file is evaluated when it is loaded by a SCRIPT element with the same URL, reusing the downloaded content, in order
+	 * to download more files in parallel and to evaluate them in a given order.
+	 * 
+	 * @param url URL of the java script file to download
+	 */
+	public static void preloadScript(String url) {
+		// checks if argument is consistent
+		if (url == null) {
+			// if not, exception
+			throw new IllegalArgumentException("URL is null");
+		}
+		// creates the element which downloads the file
+		LinkElement element = Document.get().createLinkElement();
+		element.setRel(PRELOAD_RELATIONSHIP);
+		element.setAttribute(AS_ATTRIBUTE, SCRIPT_TYPE);
+		element.setHref(url);
+		// appends to the head, starting the download
+		Document.get().getHead().appendChild(element);
+	}
+
+}
@@ -0,0 +1,47 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+
+/**
+ * Client bundle to reference CodeMirror, always needed to CODERBA.<br>
+ * This resources type will load the CodeMirror module as external file, emitted by GWT compiler with a hashed name, by a
+ * SCRIPT element with <code>src</code> attribute. This allows the browser to cache the file and its compiled code between
+ * visits.<br>
+ * The modes, addons, themes and keymaps injected in async mode are loaded as external files as well.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public interface ExternalResources extends Resources<DataResource> {
+
+	/**
+	 * Static reference to resources java script source code
+	 */
+	public static final ExternalResources INSTANCE = GWT.create(ExternalResources.class);
+
+	/**
+	 * Returns the URL of java script file for CodeMirror.
+	 * 
+	 * @return <code>codemirror.js</code> URL for CodeMirror
+	 */
+	@Source("/js/lib/codemirror.js")
+	@DoNotEmbed
+	DataResource codemirror();
+
+}
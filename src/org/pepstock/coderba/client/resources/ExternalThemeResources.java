@@ -0,0 +1,548 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+
+/**
+ * Client bundle to reference THEME CodeMirror instances, as external files.<br>
+ * The resources, with the same sources of {@link ThemeResources}, are emitted as static files with a hashed name, which can be
+ * cached by the browser, and loaded by their URL. The resources are looked up by the name of the embedded ones.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public interface ExternalThemeResources extends ClientBundleWithLookup {
+
+	// static reference of this resource
+	public static final ExternalThemeResources INSTANCE = GWT.create(ExternalThemeResources.class);
+
+	/**
+	 * Returns the URL of CSS file for ThemeC3024Day.
+	 * 
+	 * @return <code>3024-day.css</code> URL for ThemeC3024Day
+	 */
+	@Source("/js/theme/3024-day.css")
+	@DoNotEmbed
+	DataResource m3024Day();
+
+	/**
+	 * Returns the URL of CSS file for ThemeC3024Night.
+	 * 
+	 * @return <code>3024-night.css</code> URL for ThemeC3024Night
+	 */
+	@Source("/js/theme/3024-night.css")
+	@DoNotEmbed
+	DataResource m3024Night();
+
+	/**
+	 * Returns the URL of CSS file for ThemeAbcdef.
+	 * 
+	 * @return <code>abcdef.css</code> URL for ThemeAbcdef
+	 */
+	@Source("/js/theme/abcdef.css")
+	@DoNotEmbed
+	DataResource abcdef();
+
+	/**
+	 * Returns the URL of CSS file for ThemeAmbianceMobile.
+	 * 
+	 * @return <code>ambiance-mobile.css</code> URL for ThemeAmbianceMobile
+	 */
+	@Source("/js/theme/ambiance-mobile.css")
+	@DoNotEmbed
+	DataResource ambianceMobile();
+
+	/**
+	 * Returns the URL of CSS file for ThemeAmbiance.
+	 * 
+	 * @return <code>ambiance.css</code> URL for ThemeAmbiance
+	 */
+	@Source("/js/theme/ambiance.css")
+	@DoNotEmbed
+	DataResource ambiance();
+
+	/**
+	 * Returns the URL of CSS file for ThemeBase16Dark.
+	 * 
+	 * @return <code>base16-dark.css</code> URL for ThemeBase16Dark
+	 */
+	@Source("/js/theme/base16-dark.css")
+	@DoNotEmbed
+	DataResource base16Dark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeBase16Light.
+	 * 
+	 * @return <code>base16-light.css</code> URL for ThemeBase16Light
+	 */
+	@Source("/js/theme/base16-light.css")
+	@DoNotEmbed
+	DataResource base16Light();
+
+	/**
+	 * Returns the URL of CSS file for ThemeBespin.
+	 * 
+	 * @return <code>bespin.css</code> URL for ThemeBespin
+	 */
+	@Source("/js/theme/bespin.css")
+	@DoNotEmbed
+	DataResource bespin();
+
+	/**
+	 * Returns the URL of CSS file for ThemeBlackboard.
+	 * 
+	 * @return <code>blackboard.css</code> URL for ThemeBlackboard
+	 */
+	@Source("/js/theme/blackboard.css")
+	@DoNotEmbed
+	DataResource blackboard();
+
+	/**
+	 * Returns the URL of CSS file for ThemeCobalt.
+	 * 
+	 * @return <code>cobalt.css</code> URL for ThemeCobalt
+	 */
+	@Source("/js/theme/cobalt.css")
+	@DoNotEmbed
+	DataResource cobalt();
+
+	/**
+	 * Returns the URL of CSS file for ThemeColorforth.
+	 * 
+	 * @return <code>colorforth.css</code> URL for ThemeColorforth
+	 */
+	@Source("/js/theme/colorforth.css")
+	@DoNotEmbed
+	DataResource colorforth();
+
+	/**
+	 * Returns the URL of CSS file for ThemeDarcula.
+	 * 
+	 * @return <code>darcula.css</code> URL for ThemeDarcula
+	 */
+	@Source("/js/theme/darcula.css")
+	@DoNotEmbed
+	DataResource darcula();
+
+	/**
+	 * Returns the URL of CSS file for ThemeDracula.
+	 * 
+	 * @return <code>dracula.css</code> URL for ThemeDracula
+	 */
+	@Source("/js/theme/dracula.css")
+	@DoNotEmbed
+	DataResource dracula();
+
+	/**
+	 * Returns the URL of CSS file for ThemeDuotoneDark.
+	 * 
+	 * @return <code>duotone-dark.css</code> URL for ThemeDuotoneDark
+	 */
+	@Source("/js/theme/duotone-dark.css")
+	@DoNotEmbed
+	DataResource duotoneDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeDuotoneLight.
+	 * 
+	 * @return <code>duotone-light.css</code> URL for ThemeDuotoneLight
+	 */
+	@Source("/js/theme/duotone-light.css")
+	@DoNotEmbed
+	DataResource duotoneLight();
+
+	/**
+	 * Returns the URL of CSS file for ThemeEclipse.
+	 * 
+	 * @return <code>eclipse.css</code> URL for ThemeEclipse
+	 */
+	@Source("/js/theme/eclipse.css")
+	@DoNotEmbed
+	DataResource eclipse();
+
+	/**
+	 * Returns the URL of CSS file for ThemeElegant.
+	 * 
+	 * @return <code>elegant.css</code> URL for ThemeElegant
+	 */
+	@Source("/js/theme/elegant.css")
+	@DoNotEmbed
+	DataResource elegant();
+
+	/**
+	 * Returns the URL of CSS file for ThemeErlangDark.
+	 * 
+	 * @return <code>erlang-dark.css</code> URL for ThemeErlangDark
+	 */
+	@Source("/js/theme/erlang-dark.css")
+	@DoNotEmbed
+	DataResource erlangDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeGruvboxDark.
+	 * 
+	 * @return <code>gruvbox-dark.css</code> URL for ThemeGruvboxDark
+	 */
+	@Source("/js/theme/gruvbox-dark.css")
+	@DoNotEmbed
+	DataResource gruvboxDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeHopscotch.
+	 * 
+	 * @return <code>hopscotch.css</code> URL for ThemeHopscotch
+	 */
+	@Source("/js/theme/hopscotch.css")
+	@DoNotEmbed
+	DataResource hopscotch();
+
+	/**
+	 * Returns the URL of CSS file for ThemeIcecoder.
+	 * 
+	 * @return <code>icecoder.css</code> URL for ThemeIcecoder
+	 */
+	@Source("/js/theme/icecoder.css")
+	@DoNotEmbed
+	DataResource icecoder();
+
+	/**
+	 * Returns the URL of CSS file for ThemeIdea.
+	 * 
+	 * @return <code>idea.css</code> URL for ThemeIdea
+	 */
+	@Source("/js/theme/idea.css")
+	@DoNotEmbed
+	DataResource idea();
+
+	/**
+	 * Returns the URL of CSS file for ThemeIsotope.
+	 * 
+	 * @return <code>isotope.css</code> URL for ThemeIsotope
+	 */
+	@Source("/js/theme/isotope.css")
+	@DoNotEmbed
+	DataResource isotope();
+
+	/**
+	 * Returns the URL of CSS file for ThemeLesserDark.
+	 * 
+	 * @return <code>lesser-dark.css</code> URL for ThemeLesserDark
+	 */
+	@Source("/js/theme/lesser-dark.css")
+	@DoNotEmbed
+	DataResource lesserDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeLiquibyte.
+	 * 
+	 * @return <code>liquibyte.css</code> URL for ThemeLiquibyte
+	 */
+	@Source("/js/theme/liquibyte.css")
+	@DoNotEmbed
+	DataResource liquibyte();
+
+	/**
+	 * Returns the URL of CSS file for ThemeLucario.
+	 * 
+	 * @return <code>lucario.css</code> URL for ThemeLucario
+	 */
+	@Source("/js/theme/lucario.css")
+	@DoNotEmbed
+	DataResource lucario();
+
+	/**
+	 * Returns the URL of CSS file for ThemeMaterial.
+	 * 
+	 * @return <code>material.css</code> URL for ThemeMaterial
+	 */
+	@Source("/js/theme/material.css")
+	@DoNotEmbed
+	DataResource material();
+
+	/**
+	 * Returns the URL of CSS file for ThemeMbo.
+	 * 
+	 * @return <code>mbo.css</code> URL for ThemeMbo
+	 */
+	@Source("/js/theme/mbo.css")
+	@DoNotEmbed
+	DataResource mbo();
+
+	/**
+	 * Returns the URL of CSS file for ThemeMdnLike.
+	 * 
+	 * @return <code>mdn-like.css</code> URL for ThemeMdnLike
+	 */
+	@Source("/js/theme/mdn-like.css")
+	@DoNotEmbed
+	DataResource mdnLike();
+
+	/**
+	 * Returns the URL of CSS file for ThemeMidnight.
+	 * 
+	 * @return <code>midnight.css</code> URL for ThemeMidnight
+	 */
+	@Source("/js/theme/midnight.css")
+	@DoNotEmbed
+	DataResource midnight();
+
+	/**
+	 * Returns the URL of CSS file for ThemeMonokai.
+	 * 
+	 * @return <code>monokai.css</code> URL for ThemeMonokai
+	 */
+	@Source("/js/theme/monokai.css")
+	@DoNotEmbed
+	DataResource monokai();
+
+	/**
+	 * Returns the URL of CSS file for ThemeNeat.
+	 * 
+	 * @return <code>neat.css</code> URL for ThemeNeat
+	 */
+	@Source("/js/theme/neat.css")
+	@DoNotEmbed
+	DataResource neat();
+
+	/**
+	 * Returns the URL of CSS file for ThemeNeo.
+	 * 
+	 * @return <code>neo.css</code> URL for ThemeNeo
+	 */
+	@Source("/js/theme/neo.css")
+	@DoNotEmbed
+	DataResource neo();
+
+	/**
+	 * Returns the URL of CSS file for ThemeNight.
+	 * 
+	 * @return <code>night.css</code> URL for ThemeNight
+	 */
+	@Source("/js/theme/night.css")
+	@DoNotEmbed
+	DataResource night();
+
+	/**
+	 * Returns the URL of CSS file for ThemeNord.
+	 * 
+	 * @return <code>nord.css</code> URL for ThemeNord
+	 */
+	@Source("/js/theme/nord.css")
+	@DoNotEmbed
+	DataResource nord();
+
+	/**
+	 * Returns the URL of CSS file for ThemeOceanicNext.
+	 * 
+	 * @return <code>oceanic-next.css</code> URL for ThemeOceanicNext
+	 */
+	@Source("/js/theme/oceanic-next.css")
+	@DoNotEmbed
+	DataResource oceanicNext();
+
+	/**
+	 * Returns the URL of CSS file for ThemePandaSyntax.
+	 * 
+	 * @return <code>panda-syntax.css</code> URL for ThemePandaSyntax
+	 */
+	@Source("/js/theme/panda-syntax.css")
+	@DoNotEmbed
+	DataResource pandaSyntax();
+
+	/**
+	 * Returns the URL of CSS file for ThemeParaisoDark.
+	 * 
+	 * @return <code>paraiso-dark.css</code> URL for ThemeParaisoDark
+	 */
+	@Source("/js/theme/paraiso-dark.css")
+	@DoNotEmbed
+	DataResource paraisoDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeParaisoLight.
+	 * 
+	 * @return <code>paraiso-light.css</code> URL for ThemeParaisoLight
+	 */
+	@Source("/js/theme/paraiso-light.css")
+	@DoNotEmbed
+	DataResource paraisoLight();
+
+	/**
+	 * Returns the URL of CSS file for ThemePastelOnDark.
+	 * 
+	 * @return <code>pastel-on-dark.css</code> URL for ThemePastelOnDark
+	 */
+	@Source("/js/theme/pastel-on-dark.css")
+	@DoNotEmbed
+	DataResource pastelOnDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeRailscasts.
+	 * 
+	 * @return <code>railscasts.css</code> URL for ThemeRailscasts
+	 */
+	@Source("/js/theme/railscasts.css")
+	@DoNotEmbed
+	DataResource railscasts();
+
+	/**
+	 * Returns the URL of CSS file for ThemeRubyblue.
+	 * 
+	 * @return <code>rubyblue.css</code> URL for ThemeRubyblue
+	 */
+	@Source("/js/theme/rubyblue.css")
+	@DoNotEmbed
+	DataResource rubyblue();
+
+	/**
+	 * Returns the URL of CSS file for ThemeSeti.
+	 * 
+	 * @return <code>seti.css</code> URL for ThemeSeti
+	 */
+	@Source("/js/theme/seti.css")
+	@DoNotEmbed
+	DataResource seti();
+
+	/**
+	 * Returns the URL of CSS file for ThemeShadowfox.
+	 * 
+	 * @return <code>shadowfox.css</code> URL for ThemeShadowfox
+	 */
+	@Source("/js/theme/shadowfox.css")
+	@DoNotEmbed
+	DataResource shadowfox();
+
+	/**
+	 * Returns the URL of CSS file for ThemeSolarized.
+	 * 
+	 * @return <code>solarized.css</code> URL for ThemeSolarized
+	 */
+	@Source("/js/theme/solarized.css")
+	@DoNotEmbed
+	DataResource solarized();
+
+	/**
+	 * Returns the URL of CSS file for ThemeSsms.
+	 * 
+	 * @return <code>ssms.css</code> URL for ThemeSsms
+	 */
+	@Source("/js/theme/ssms.css")
+	@DoNotEmbed
+	DataResource ssms();
+
+	/**
+	 * Returns the URL of CSS file for ThemeTheMatrix.
+	 * 
+	 * @return <code>the-matrix.css</code> URL for ThemeTheMatrix
+	 */
+	@Source("/js/theme/the-matrix.css")
+	@DoNotEmbed
+	DataResource theMatrix();
+
+	/**
+	 * Returns the URL of CSS file for ThemeTomorrowNightBright.
+	 * 
+	 * @return <code>tomorrow-night-bright.css</code> URL for ThemeTomorrowNightBright
+	 */
+	@Source("/js/theme/tomorrow-night-bright.css")
+	@DoNotEmbed
+	DataResource tomorrowNightBright();
+
+	/**
+	 * Returns the URL of CSS file for ThemeTomorrowNightEighties.
+	 * 
+	 * @return <code>tomorrow-night-eighties.css</code> URL for ThemeTomorrowNightEighties
+	 */
+	@Source("/js/theme/tomorrow-night-eighties.css")
+	@DoNotEmbed
+	DataResource tomorrowNightEighties();
+
+	/**
+	 * Returns the URL of CSS file for ThemeTtcn.
+	 * 
+	 * @return <code>ttcn.css</code> URL for ThemeTtcn
+	 */
+	@Source("/js/theme/ttcn.css")
+	@DoNotEmbed
+	DataResource ttcn();
+
+	/**
+	 * Returns the URL of CSS file for ThemeTwilight.
+	 * 
+	 * @return <code>twilight.css</code> URL for ThemeTwilight
+	 */
+	@Source("/js/theme/twilight.css")
+	@DoNotEmbed
+	DataResource twilight();
+
+	/**
+	 * Returns the URL of CSS file for ThemeVibrantInk.
+	 * 
+	 * @return <code>vibrant-ink.css</code> URL for ThemeVibrantInk
+	 */
+	@Source("/js/theme/vibrant-ink.css")
+	@DoNotEmbed
+	DataResource vibrantInk();
+
+	/**
+	 * Returns the URL of CSS file for ThemeXqDark.
+	 * 
+	 * @return <code>xq-dark.css</code> URL for ThemeXqDark
+	 */
+	@Source("/js/theme/xq-dark.css")
+	@DoNotEmbed
+	DataResource xqDark();
+
+	/**
+	 * Returns the URL of CSS file for ThemeXqLight.
+	 * 
+	 * @return <code>xq-light.css</code> URL for ThemeXqLight
+	 */
+	@Source("/js/theme/xq-light.css")
+	@DoNotEmbed
+	DataResource xqLight();
+
+	/**
+	 * Returns the URL of CSS file for ThemeYeti.
+	 * 
+	 * @return <code>yeti.css</code> URL for ThemeYeti
+	 */
+	@Source("/js/theme/yeti.css")
+	@DoNotEmbed
+	DataResource yeti();
+
+	/**
+	 * Returns the URL of CSS file for ThemeYonce.
+	 * 
+	 * @return <code>yonce.css</code> URL for ThemeYonce
+	 */
+	@Source("/js/theme/yonce.css")
+	@DoNotEmbed
+	DataResource yonce();
+
+	/**
+	 * Returns the URL of CSS file for ThemeZenburn.
+	 * 
+	 * @return <code>zenburn.css</code> URL for ThemeZenburn
+	 */
+	@Source("/js/theme/zenburn.css")
+	@DoNotEmbed
+	DataResource zenburn();
+
+}
\ No newline at end of file
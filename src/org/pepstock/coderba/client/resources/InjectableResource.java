@@ -70,10 +70,28 @@ public interface InjectableResource {
 	 */
 	TextResource getResource();
 
+	/**
+	 * Returns <code>true</code> if the code of the resource is compiled into the application and then it can be injected in
+	 * sync mode. It is <code>false</code> when the <code>coderba.injection</code> property of the GWT module is set to
+	 * <code>deferred</code>.
+	 * 
+	 * @return <code>true</code> if the code of the resource is compiled into the application
+	 */
+	boolean isEmbedded();
+
 	/**
 	 * Returns a DOM element which must wrap the text resource.
 	 * 
 	 * @return a DOM element which must wrap the text resource
 	 */
 	Element getElement();
+
+	/**
+	 * Creates a DOM element which loads the resource from the URL of an external file.
+	 * 
+	 * @param url URL of the external file of the resource
+	 * @return a DOM element which loads the resource
+	 */
+	Element createElement(String url);
+
 }
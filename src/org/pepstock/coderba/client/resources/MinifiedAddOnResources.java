@@ -0,0 +1,648 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+
+/**
+ * Client bundle to reference ADDON CodeMirror instances, minified, as external files.<br>
+ * The minified resources are emitted as static files with a hashed name, which can be cached by the browser, and loaded by
+ * their URL, allowing to inject the addon without blocking the UI. It is used when the resources type is
+ * {@link MinifiedEmbeddedResources} or {@link MinifiedDeferredResources}. The resources are looked up by the name of the
+ * embedded ones.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public interface MinifiedAddOnResources extends ClientBundleWithLookup {
+
+	// static reference of this resource
+	public static final MinifiedAddOnResources INSTANCE = GWT.create(MinifiedAddOnResources.class);
+
+	// ----------------------------
+	// --- JavaScript Resources ---
+	// ----------------------------
+
+	/**
+	 * Returns the URL of minified java script file for AddOnComment.
+	 * 
+	 * @return <code>comment.js</code> URL for AddOnComment
+	 */
+	@Source("/js/min/addon/comment/comment.js")
+	@DoNotEmbed
+	DataResource comment();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnContinuecomment.
+	 * 
+	 * @return <code>continuecomment.js</code> URL for AddOnContinuecomment
+	 */
+	@Source("/js/min/addon/comment/continuecomment.js")
+	@DoNotEmbed
+	DataResource continuecomment();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnDialog.
+	 * 
+	 * @return <code>dialog.js</code> URL for AddOnDialog
+	 */
+	@Source("/js/min/addon/dialog/dialog.js")
+	@DoNotEmbed
+	DataResource dialog();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnAutorefresh.
+	 * 
+	 * @return <code>autorefresh.js</code> URL for AddOnAutorefresh
+	 */
+	@Source("/js/min/addon/display/autorefresh.js")
+	@DoNotEmbed
+	DataResource autorefresh();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnFullscreen.
+	 * 
+	 * @return <code>fullscreen.js</code> URL for AddOnFullscreen
+	 */
+	@Source("/js/min/addon/display/fullscreen.js")
+	@DoNotEmbed
+	DataResource fullscreen();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnPanel.
+	 * 
+	 * @return <code>panel.js</code> URL for AddOnPanel
+	 */
+	@Source("/js/min/addon/display/panel.js")
+	@DoNotEmbed
+	DataResource panel();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnPlaceholder.
+	 * 
+	 * @return <code>placeholder.js</code> URL for AddOnPlaceholder
+	 */
+	@Source("/js/min/addon/display/placeholder.js")
+	@DoNotEmbed
+	DataResource placeholder();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnRulers.
+	 * 
+	 * @return <code>rulers.js</code> URL for AddOnRulers
+	 */
+	@Source("/js/min/addon/display/rulers.js")
+	@DoNotEmbed
+	DataResource rulers();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnClosebrackets.
+	 * 
+	 * @return <code>closebrackets.js</code> URL for AddOnClosebrackets
+	 */
+	@Source("/js/min/addon/edit/closebrackets.js")
+	@DoNotEmbed
+	DataResource closebrackets();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnClosetag.
+	 * 
+	 * @return <code>closetag.js</code> URL for AddOnClosetag
+	 */
+	@Source("/js/min/addon/edit/closetag.js")
+	@DoNotEmbed
+	DataResource closetag();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnContinuelist.
+	 * 
+	 * @return <code>continuelist.js</code> URL for AddOnContinuelist
+	 */
+	@Source("/js/min/addon/edit/continuelist.js")
+	@DoNotEmbed
+	DataResource continuelist();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMatchbrackets.
+	 * 
+	 * @return <code>matchbrackets.js</code> URL for AddOnMatchbrackets
+	 */
+	@Source("/js/min/addon/edit/matchbrackets.js")
+	@DoNotEmbed
+	DataResource matchbrackets();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMatchtags.
+	 * 
+	 * @return <code>matchtags.js</code> URL for AddOnMatchtags
+	 */
+	@Source("/js/min/addon/edit/matchtags.js")
+	@DoNotEmbed
+	DataResource matchtags();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnTrailingspace.
+	 * 
+	 * @return <code>trailingspace.js</code> URL for AddOnTrailingspace
+	 */
+	@Source("/js/min/addon/edit/trailingspace.js")
+	@DoNotEmbed
+	DataResource trailingspace();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnBraceFold.
+	 * 
+	 * @return <code>brace-fold.js</code> URL for AddOnBraceFold
+	 */
+	@Source("/js/min/addon/fold/brace-fold.js")
+	@DoNotEmbed
+	DataResource braceFold();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnCommentFold.
+	 * 
+	 * @return <code>comment-fold.js</code> URL for AddOnCommentFold
+	 */
+	@Source("/js/min/addon/fold/comment-fold.js")
+	@DoNotEmbed
+	DataResource commentFold();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnFoldcode.
+	 * 
+	 * @return <code>foldcode.js</code> URL for AddOnFoldcode
+	 */
+	@Source("/js/min/addon/fold/foldcode.js")
+	@DoNotEmbed
+	DataResource foldcode();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnFoldgutter.
+	 * 
+	 * @return <code>foldgutter.js</code> URL for AddOnFoldgutter
+	 */
+	@Source("/js/min/addon/fold/foldgutter.js")
+	@DoNotEmbed
+	DataResource foldgutter();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnIndentFold.
+	 * 
+	 * @return <code>indent-fold.js</code> URL for AddOnIndentFold
+	 */
+	@Source("/js/min/addon/fold/indent-fold.js")
+	@DoNotEmbed
+	DataResource indentFold();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMarkdownFold.
+	 * 
+	 * @return <code>markdown-fold.js</code> URL for AddOnMarkdownFold
+	 */
+	@Source("/js/min/addon/fold/markdown-fold.js")
+	@DoNotEmbed
+	DataResource markdownFold();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnXmlFold.
+	 * 
+	 * @return <code>xml-fold.js</code> URL for AddOnXmlFold
+	 */
+	@Source("/js/min/addon/fold/xml-fold.js")
+	@DoNotEmbed
+	DataResource xmlFold();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnAnywordHint.
+	 * 
+	 * @return <code>anyword-hint.js</code> URL for AddOnAnywordHint
+	 */
+	@Source("/js/min/addon/hint/anyword-hint.js")
+	@DoNotEmbed
+	DataResource anywordHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnCssHint.
+	 * 
+	 * @return <code>css-hint.js</code> URL for AddOnCssHint
+	 */
+	@Source("/js/min/addon/hint/css-hint.js")
+	@DoNotEmbed
+	DataResource cssHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnHtmlHint.
+	 * 
+	 * @return <code>html-hint.js</code> URL for AddOnHtmlHint
+	 */
+	@Source("/js/min/addon/hint/html-hint.js")
+	@DoNotEmbed
+	DataResource htmlHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnJavascriptHint.
+	 * 
+	 * @return <code>javascript-hint.js</code> URL for AddOnJavascriptHint
+	 */
+	@Source("/js/min/addon/hint/javascript-hint.js")
+	@DoNotEmbed
+	DataResource javascriptHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnShowHint.
+	 * 
+	 * @return <code>show-hint.js</code> URL for AddOnShowHint
+	 */
+	@Source("/js/min/addon/hint/show-hint.js")
+	@DoNotEmbed
+	DataResource showHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSqlHint.
+	 * 
+	 * @return <code>sql-hint.js</code> URL for AddOnSqlHint
+	 */
+	@Source("/js/min/addon/hint/sql-hint.js")
+	@DoNotEmbed
+	DataResource sqlHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnXmlHint.
+	 * 
+	 * @return <code>xml-hint.js</code> URL for AddOnXmlHint
+	 */
+	@Source("/js/min/addon/hint/xml-hint.js")
+	@DoNotEmbed
+	DataResource xmlHint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnCoffeescriptLint.
+	 * 
+	 * @return <code>coffeescript-lint.js</code> URL for AddOnCoffeescriptLint
+	 */
+	@Source("/js/min/addon/lint/coffeescript-lint.js")
+	@DoNotEmbed
+	DataResource coffeescriptLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnCssLint.
+	 * 
+	 * @return <code>css-lint.js</code> URL for AddOnCssLint
+	 */
+	@Source("/js/min/addon/lint/css-lint.js")
+	@DoNotEmbed
+	DataResource cssLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnHtmlLint.
+	 * 
+	 * @return <code>html-lint.js</code> URL for AddOnHtmlLint
+	 */
+	@Source("/js/min/addon/lint/html-lint.js")
+	@DoNotEmbed
+	DataResource htmlLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnJavascriptLint.
+	 * 
+	 * @return <code>javascript-lint.js</code> URL for AddOnJavascriptLint
+	 */
+	@Source("/js/min/addon/lint/javascript-lint.js")
+	@DoNotEmbed
+	DataResource javascriptLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnJsonLint.
+	 * 
+	 * @return <code>json-lint.js</code> URL for AddOnJsonLint
+	 */
+	@Source("/js/min/addon/lint/json-lint.js")
+	@DoNotEmbed
+	DataResource jsonLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnLint.
+	 * 
+	 * @return <code>lint.js</code> URL for AddOnLint
+	 */
+	@Source("/js/min/addon/lint/lint.js")
+	@DoNotEmbed
+	DataResource lint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnYamlLint.
+	 * 
+	 * @return <code>yaml-lint.js</code> URL for AddOnYamlLint
+	 */
+	@Source("/js/min/addon/lint/yaml-lint.js")
+	@DoNotEmbed
+	DataResource yamlLint();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMerge.
+	 * 
+	 * @return <code>merge.js</code> URL for AddOnMerge
+	 */
+	@Source("/js/min/addon/merge/merge.js")
+	@DoNotEmbed
+	DataResource merge();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnLoadmode.
+	 * 
+	 * @return <code>loadmode.js</code> URL for AddOnLoadmode
+	 */
+	@Source("/js/min/addon/mode/loadmode.js")
+	@DoNotEmbed
+	DataResource loadmode();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMultiplex.
+	 * 
+	 * @return <code>multiplex.js</code> URL for AddOnMultiplex
+	 */
+	@Source("/js/min/addon/mode/multiplex.js")
+	@DoNotEmbed
+	DataResource multiplex();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnOverlay.
+	 * 
+	 * @return <code>overlay.js</code> URL for AddOnOverlay
+	 */
+	@Source("/js/min/addon/mode/overlay.js")
+	@DoNotEmbed
+	DataResource overlay();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSimple.
+	 * 
+	 * @return <code>simple.js</code> URL for AddOnSimple
+	 */
+	@Source("/js/min/addon/mode/simple.js")
+	@DoNotEmbed
+	DataResource simple();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnColorize.
+	 * 
+	 * @return <code>colorize.js</code> URL for AddOnColorize
+	 */
+	@Source("/js/min/addon/runmode/colorize.js")
+	@DoNotEmbed
+	DataResource colorize();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnRunmodeStandalone.
+	 * 
+	 * @return <code>runmode-standalone.js</code> URL for AddOnRunmodeStandalone
+	 */
+	@Source("/js/min/addon/runmode/runmode-standalone.js")
+	@DoNotEmbed
+	DataResource runmodeStandalone();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnRunmode.
+	 * 
+	 * @return <code>runmode.js</code> URL for AddOnRunmode
+	 */
+	@Source("/js/min/addon/runmode/runmode.js")
+	@DoNotEmbed
+	DataResource runmode();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnRunmodenode.
+	 * 
+	 * @return <code>runmode.node.js</code> URL for AddOnRunmodenode
+	 */
+	@Source("/js/min/addon/runmode/runmode.node.js")
+	@DoNotEmbed
+	DataResource runmodenode();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnAnnotatescrollbar.
+	 * 
+	 * @return <code>annotatescrollbar.js</code> URL for AddOnAnnotatescrollbar
+	 */
+	@Source("/js/min/addon/scroll/annotatescrollbar.js")
+	@DoNotEmbed
+	DataResource annotatescrollbar();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnScrollpastend.
+	 * 
+	 * @return <code>scrollpastend.js</code> URL for AddOnScrollpastend
+	 */
+	@Source("/js/min/addon/scroll/scrollpastend.js")
+	@DoNotEmbed
+	DataResource scrollpastend();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSimplescrollbars.
+	 * 
+	 * @return <code>simplescrollbars.js</code> URL for AddOnSimplescrollbars
+	 */
+	@Source("/js/min/addon/scroll/simplescrollbars.js")
+	@DoNotEmbed
+	DataResource simplescrollbars();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnJumpToLine.
+	 * 
+	 * @return <code>jump-to-line.js</code> URL for AddOnJumpToLine
+	 */
+	@Source("/js/min/addon/search/jump-to-line.js")
+	@DoNotEmbed
+	DataResource jumpToLine();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMatchHighlighter.
+	 * 
+	 * @return <code>match-highlighter.js</code> URL for AddOnMatchHighlighter
+	 */
+	@Source("/js/min/addon/search/match-highlighter.js")
+	@DoNotEmbed
+	DataResource matchHighlighter();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMatchesonscrollbar.
+	 * 
+	 * @return <code>matchesonscrollbar.js</code> URL for AddOnMatchesonscrollbar
+	 */
+	@Source("/js/min/addon/search/matchesonscrollbar.js")
+	@DoNotEmbed
+	DataResource matchesonscrollbar();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSearch.
+	 * 
+	 * @return <code>search.js</code> URL for AddOnSearch
+	 */
+	@Source("/js/min/addon/search/search.js")
+	@DoNotEmbed
+	DataResource search();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSearchcursor.
+	 * 
+	 * @return <code>searchcursor.js</code> URL for AddOnSearchcursor
+	 */
+	@Source("/js/min/addon/search/searchcursor.js")
+	@DoNotEmbed
+	DataResource searchcursor();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnActiveLine.
+	 * 
+	 * @return <code>active-line.js</code> URL for AddOnActiveLine
+	 */
+	@Source("/js/min/addon/selection/active-line.js")
+	@DoNotEmbed
+	DataResource activeLine();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnMarkSelection.
+	 * 
+	 * @return <code>mark-selection.js</code> URL for AddOnMarkSelection
+	 */
+	@Source("/js/min/addon/selection/mark-selection.js")
+	@DoNotEmbed
+	DataResource markSelection();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnSelectionPointer.
+	 * 
+	 * @return <code>selection-pointer.js</code> URL for AddOnSelectionPointer
+	 */
+	@Source("/js/min/addon/selection/selection-pointer.js")
+	@DoNotEmbed
+	DataResource selectionPointer();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnTern.
+	 * 
+	 * @return <code>tern.js</code> URL for AddOnTern
+	 */
+	@Source("/js/min/addon/tern/tern.js")
+	@DoNotEmbed
+	DataResource tern();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnWorker.
+	 * 
+	 * @return <code>worker.js</code> URL for AddOnWorker
+	 */
+	@Source("/js/min/addon/tern/worker.js")
+	@DoNotEmbed
+	DataResource worker();
+
+	/**
+	 * Returns the URL of minified java script file for AddOnHardwrap.
+	 * 
+	 * @return <code>hardwrap.js</code> URL for AddOnHardwrap
+	 */
+	@Source("/js/min/addon/wrap/hardwrap.js")
+	@DoNotEmbed
+	DataResource hardwrap();
+
+	// ----------------------------
+	// --- CSS Resources ---
+	// ----------------------------
+
+	/**
+	 * Returns the URL of CSS file for AddOnDialog.
+	 * 
+	 * @return <code>dialog.css</code> URL for AddOnDialog
+	 */
+	@Source("/js/addon/dialog/dialog.css")
+	@DoNotEmbed
+	DataResource dialogCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnFullscreen.
+	 * 
+	 * @return <code>fullscreen.css</code> URL for AddOnFullscreen
+	 */
+	@Source("/js/addon/display/fullscreen.css")
+	@DoNotEmbed
+	DataResource fullscreenCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnFoldgutter.
+	 * 
+	 * @return <code>foldgutter.css</code> URL for AddOnFoldgutter
+	 */
+	@Source("/js/addon/fold/foldgutter.css")
+	@DoNotEmbed
+	DataResource foldgutterCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnShowHint.
+	 * 
+	 * @return <code>show-hint.css</code> URL for AddOnShowHint
+	 */
+	@Source("/js/addon/hint/show-hint.css")
+	@DoNotEmbed
+	DataResource showHintCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnLint.
+	 * 
+	 * @return <code>lint.css</code> URL for AddOnLint
+	 */
+	@Source("/js/addon/lint/lint.css")
+	@DoNotEmbed
+	DataResource lintCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnMerge.
+	 * 
+	 * @return <code>merge.css</code> URL for AddOnMerge
+	 */
+	@Source("/js/addon/merge/merge.css")
+	@DoNotEmbed
+	DataResource mergeCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnSimplescrollbars.
+	 * 
+	 * @return <code>simplescrollbars.css</code> URL for AddOnSimplescrollbars
+	 */
+	@Source("/js/addon/scroll/simplescrollbars.css")
+	@DoNotEmbed
+	DataResource simplescrollbarsCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnMatchesonscrollbar.
+	 * 
+	 * @return <code>matchesonscrollbar.css</code> URL for AddOnMatchesonscrollbar
+	 */
+	@Source("/js/addon/search/matchesonscrollbar.css")
+	@DoNotEmbed
+	DataResource matchesonscrollbarCss();
+
+	/**
+	 * Returns the URL of CSS file for AddOnTern.
+	 * 
+	 * @return <code>tern.css</code> URL for AddOnTern
+	 */
+	@Source("/js/addon/tern/tern.css")
+	@DoNotEmbed
+	DataResource ternCss();
+
+}
\ No newline at end of file
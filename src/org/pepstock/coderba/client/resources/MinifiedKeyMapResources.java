@@ -0,0 +1,64 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+
+/**
+ * Client bundle to reference KEYMAP CodeMirror instances, minified, as external files.<br>
+ * The minified resources are emitted as static files with a hashed name, which can be cached by the browser, and loaded by
+ * their URL, allowing to inject the keymap without blocking the UI. It is used when the resources type is
+ * {@link MinifiedEmbeddedResources} or {@link MinifiedDeferredResources}. The resources are looked up by the name of the
+ * embedded ones.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public interface MinifiedKeyMapResources extends ClientBundleWithLookup {
+
+	// static reference of this resource
+	public static final MinifiedKeyMapResources INSTANCE = GWT.create(MinifiedKeyMapResources.class);
+
+	/**
+	 * Returns the URL of minified java script file for Emacs.
+	 * 
+	 * @return <code>emacs.js</code> URL for Emacs
+	 */
+	@Source("/js/min/keymap/emacs.js")
+	@DoNotEmbed
+	DataResource emacs();
+
+	/**
+	 * Returns the URL of minified java script file for Sublime.
+	 * 
+	 * @return <code>sublime.js</code> URL for Sublime
+	 */
+	@Source("/js/min/keymap/sublime.js")
+	@DoNotEmbed
+	DataResource sublime();
+
+	/**
+	 * Returns the URL of minified java script file for Vim.
+	 * 
+	 * @return <code>vim.js</code> URL for Vim
+	 */
+	@Source("/js/min/keymap/vim.js")
+	@DoNotEmbed
+	DataResource vim();
+
+}
\ No newline at end of file
@@ -0,0 +1,1142 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.ClientBundleWithLookup;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+
+/**
+ * Client bundle to reference MODE CodeMirror instances, minified, as external files.<br>
+ * The minified resources are emitted as static files with a hashed name, which can be cached by the browser, and loaded by
+ * their URL, allowing to inject the mode without blocking the UI. It is used when the resources type is
+ * {@link MinifiedEmbeddedResources} or {@link MinifiedDeferredResources}. The resources are looked up by the name of the
+ * embedded ones.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public interface MinifiedModeResources extends ClientBundleWithLookup {
+
+	// static reference of this resource
+	public static final MinifiedModeResources INSTANCE = GWT.create(MinifiedModeResources.class);
+
+	// ----------------------------
+	// --- JavaScript Resources ---
+	// ----------------------------
+
+	/**
+	 * Returns the URL of minified java script file for ModeApl.
+	 * 
+	 * @return <code>apl.js</code> URL for ModeApl
+	 */
+	@Source("/js/min/mode/apl/apl.js")
+	@DoNotEmbed
+	DataResource apl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeAsciiarmor.
+	 * 
+	 * @return <code>asciiarmor.js</code> URL for ModeAsciiarmor
+	 */
+	@Source("/js/min/mode/asciiarmor/asciiarmor.js")
+	@DoNotEmbed
+	DataResource asciiarmor();
+
+	/**
+	 * Returns the URL of minified java script file for ModeAsn1.
+	 * 
+	 * @return <code>asn.1.js</code> URL for ModeAsn1
+	 */
+	@Source("/js/min/mode/asn.1/asn.1.js")
+	@DoNotEmbed
+	DataResource asn1();
+
+	/**
+	 * Returns the URL of minified java script file for ModeAsterisk.
+	 * 
+	 * @return <code>asterisk.js</code> URL for ModeAsterisk
+	 */
+	@Source("/js/min/mode/asterisk/asterisk.js")
+	@DoNotEmbed
+	DataResource asterisk();
+
+	/**
+	 * Returns the URL of minified java script file for ModeBrainfuck.
+	 * 
+	 * @return <code>brainfuck.js</code> URL for ModeBrainfuck
+	 */
+	@Source("/js/min/mode/brainfuck/brainfuck.js")
+	@DoNotEmbed
+	DataResource brainfuck();
+
+	/**
+	 * Returns the URL of minified java script file for ModeClike.
+	 * 
+	 * @return <code>clike.js</code> URL for ModeClike
+	 */
+	@Source("/js/min/mode/clike/clike.js")
+	@DoNotEmbed
+	DataResource clike();
+
+	/**
+	 * Returns the URL of minified java script file for ModeClojure.
+	 * 
+	 * @return <code>clojure.js</code> URL for ModeClojure
+	 */
+	@Source("/js/min/mode/clojure/clojure.js")
+	@DoNotEmbed
+	DataResource clojure();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCmake.
+	 * 
+	 * @return <code>cmake.js</code> URL for ModeCmake
+	 */
+	@Source("/js/min/mode/cmake/cmake.js")
+	@DoNotEmbed
+	DataResource cmake();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCobol.
+	 * 
+	 * @return <code>cobol.js</code> URL for ModeCobol
+	 */
+	@Source("/js/min/mode/cobol/cobol.js")
+	@DoNotEmbed
+	DataResource cobol();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCoffeescript.
+	 * 
+	 * @return <code>coffeescript.js</code> URL for ModeCoffeescript
+	 */
+	@Source("/js/min/mode/coffeescript/coffeescript.js")
+	@DoNotEmbed
+	DataResource coffeescript();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCommonlisp.
+	 * 
+	 * @return <code>commonlisp.js</code> URL for ModeCommonlisp
+	 */
+	@Source("/js/min/mode/commonlisp/commonlisp.js")
+	@DoNotEmbed
+	DataResource commonlisp();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCrystal.
+	 * 
+	 * @return <code>crystal.js</code> URL for ModeCrystal
+	 */
+	@Source("/js/min/mode/crystal/crystal.js")
+	@DoNotEmbed
+	DataResource crystal();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCss.
+	 * 
+	 * @return <code>css.js</code> URL for ModeCss
+	 */
+	@Source("/js/min/mode/css/css.js")
+	@DoNotEmbed
+	DataResource css();
+
+	/**
+	 * Returns the URL of minified java script file for ModeCypher.
+	 * 
+	 * @return <code>cypher.js</code> URL for ModeCypher
+	 */
+	@Source("/js/min/mode/cypher/cypher.js")
+	@DoNotEmbed
+	DataResource cypher();
+
+	/**
+	 * Returns the URL of minified java script file for ModeD.
+	 * 
+	 * @return <code>d.js</code> URL for ModeD
+	 */
+	@Source("/js/min/mode/d/d.js")
+	@DoNotEmbed
+	DataResource d();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDart.
+	 * 
+	 * @return <code>dart.js</code> URL for ModeDart
+	 */
+	@Source("/js/min/mode/dart/dart.js")
+	@DoNotEmbed
+	DataResource dart();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDiff.
+	 * 
+	 * @return <code>diff.js</code> URL for ModeDiff
+	 */
+	@Source("/js/min/mode/diff/diff.js")
+	@DoNotEmbed
+	DataResource diff();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDjango.
+	 * 
+	 * @return <code>django.js</code> URL for ModeDjango
+	 */
+	@Source("/js/min/mode/django/django.js")
+	@DoNotEmbed
+	DataResource django();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDockerfile.
+	 * 
+	 * @return <code>dockerfile.js</code> URL for ModeDockerfile
+	 */
+	@Source("/js/min/mode/dockerfile/dockerfile.js")
+	@DoNotEmbed
+	DataResource dockerfile();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDtd.
+	 * 
+	 * @return <code>dtd.js</code> URL for ModeDtd
+	 */
+	@Source("/js/min/mode/dtd/dtd.js")
+	@DoNotEmbed
+	DataResource dtd();
+
+	/**
+	 * Returns the URL of minified java script file for ModeDylan.
+	 * 
+	 * @return <code>dylan.js</code> URL for ModeDylan
+	 */
+	@Source("/js/min/mode/dylan/dylan.js")
+	@DoNotEmbed
+	DataResource dylan();
+
+	/**
+	 * Returns the URL of minified java script file for ModeEbnf.
+	 * 
+	 * @return <code>ebnf.js</code> URL for ModeEbnf
+	 */
+	@Source("/js/min/mode/ebnf/ebnf.js")
+	@DoNotEmbed
+	DataResource ebnf();
+
+	/**
+	 * Returns the URL of minified java script file for ModeEcl.
+	 * 
+	 * @return <code>ecl.js</code> URL for ModeEcl
+	 */
+	@Source("/js/min/mode/ecl/ecl.js")
+	@DoNotEmbed
+	DataResource ecl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeEiffel.
+	 * 
+	 * @return <code>eiffel.js</code> URL for ModeEiffel
+	 */
+	@Source("/js/min/mode/eiffel/eiffel.js")
+	@DoNotEmbed
+	DataResource eiffel();
+
+	/**
+	 * Returns the URL of minified java script file for ModeElm.
+	 * 
+	 * @return <code>elm.js</code> URL for ModeElm
+	 */
+	@Source("/js/min/mode/elm/elm.js")
+	@DoNotEmbed
+	DataResource elm();
+
+	/**
+	 * Returns the URL of minified java script file for ModeErlang.
+	 * 
+	 * @return <code>erlang.js</code> URL for ModeErlang
+	 */
+	@Source("/js/min/mode/erlang/erlang.js")
+	@DoNotEmbed
+	DataResource erlang();
+
+	/**
+	 * Returns the URL of minified java script file for ModeFactor.
+	 * 
+	 * @return <code>factor.js</code> URL for ModeFactor
+	 */
+	@Source("/js/min/mode/factor/factor.js")
+	@DoNotEmbed
+	DataResource factor();
+
+	/**
+	 * Returns the URL of minified java script file for ModeFcl.
+	 * 
+	 * @return <code>fcl.js</code> URL for ModeFcl
+	 */
+	@Source("/js/min/mode/fcl/fcl.js")
+	@DoNotEmbed
+	DataResource fcl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeForth.
+	 * 
+	 * @return <code>forth.js</code> URL for ModeForth
+	 */
+	@Source("/js/min/mode/forth/forth.js")
+	@DoNotEmbed
+	DataResource forth();
+
+	/**
+	 * Returns the URL of minified java script file for ModeFortran.
+	 * 
+	 * @return <code>fortran.js</code> URL for ModeFortran
+	 */
+	@Source("/js/min/mode/fortran/fortran.js")
+	@DoNotEmbed
+	DataResource fortran();
+
+	/**
+	 * Returns the URL of minified java script file for ModeGas.
+	 * 
+	 * @return <code>gas.js</code> URL for ModeGas
+	 */
+	@Source("/js/min/mode/gas/gas.js")
+	@DoNotEmbed
+	DataResource gas();
+
+	/**
+	 * Returns the URL of minified java script file for ModeGfm.
+	 * 
+	 * @return <code>gfm.js</code> URL for ModeGfm
+	 */
+	@Source("/js/min/mode/gfm/gfm.js")
+	@DoNotEmbed
+	DataResource gfm();
+
+	/**
+	 * Returns the URL of minified java script file for ModeGherkin.
+	 * 
+	 * @return <code>gherkin.js</code> URL for ModeGherkin
+	 */
+	@Source("/js/min/mode/gherkin/gherkin.js")
+	@DoNotEmbed
+	DataResource gherkin();
+
+	/**
+	 * Returns the URL of minified java script file for ModeGo.
+	 * 
+	 * @return <code>go.js</code> URL for ModeGo
+	 */
+	@Source("/js/min/mode/go/go.js")
+	@DoNotEmbed
+	DataResource go();
+
+	/**
+	 * Returns the URL of minified java script file for ModeGroovy.
+	 * 
+	 * @return <code>groovy.js</code> URL for ModeGroovy
+	 */
+	@Source("/js/min/mode/groovy/groovy.js")
+	@DoNotEmbed
+	DataResource groovy();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHaml.
+	 * 
+	 * @return <code>haml.js</code> URL for ModeHaml
+	 */
+	@Source("/js/min/mode/haml/haml.js")
+	@DoNotEmbed
+	DataResource haml();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHandlebars.
+	 * 
+	 * @return <code>handlebars.js</code> URL for ModeHandlebars
+	 */
+	@Source("/js/min/mode/handlebars/handlebars.js")
+	@DoNotEmbed
+	DataResource handlebars();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHaskell.
+	 * 
+	 * @return <code>haskell.js</code> URL for ModeHaskell
+	 */
+	@Source("/js/min/mode/haskell/haskell.js")
+	@DoNotEmbed
+	DataResource haskell();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHaskellLiterate.
+	 * 
+	 * @return <code>haskell-literate.js</code> URL for ModeHaskellLiterate
+	 */
+	@Source("/js/min/mode/haskell-literate/haskell-literate.js")
+	@DoNotEmbed
+	DataResource haskellLiterate();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHaxe.
+	 * 
+	 * @return <code>haxe.js</code> URL for ModeHaxe
+	 */
+	@Source("/js/min/mode/haxe/haxe.js")
+	@DoNotEmbed
+	DataResource haxe();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHtmlembedded.
+	 * 
+	 * @return <code>htmlembedded.js</code> URL for ModeHtmlembedded
+	 */
+	@Source("/js/min/mode/htmlembedded/htmlembedded.js")
+	@DoNotEmbed
+	DataResource htmlembedded();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHtmlmixed.
+	 * 
+	 * @return <code>htmlmixed.js</code> URL for ModeHtmlmixed
+	 */
+	@Source("/js/min/mode/htmlmixed/htmlmixed.js")
+	@DoNotEmbed
+	DataResource htmlmixed();
+
+	/**
+	 * Returns the URL of minified java script file for ModeHttp.
+	 * 
+	 * @return <code>http.js</code> URL for ModeHttp
+	 */
+	@Source("/js/min/mode/http/http.js")
+	@DoNotEmbed
+	DataResource http();
+
+	/**
+	 * Returns the URL of minified java script file for ModeIdl.
+	 * 
+	 * @return <code>idl.js</code> URL for ModeIdl
+	 */
+	@Source("/js/min/mode/idl/idl.js")
+	@DoNotEmbed
+	DataResource idl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeJavascript.
+	 * 
+	 * @return <code>javascript.js</code> URL for ModeJavascript
+	 */
+	@Source("/js/min/mode/javascript/javascript.js")
+	@DoNotEmbed
+	DataResource javascript();
+
+	/**
+	 * Returns the URL of minified java script file for ModeJinja2.
+	 * 
+	 * @return <code>jinja2.js</code> URL for ModeJinja2
+	 */
+	@Source("/js/min/mode/jinja2/jinja2.js")
+	@DoNotEmbed
+	DataResource jinja2();
+
+	/**
+	 * Returns the URL of minified java script file for ModeJsx.
+	 * 
+	 * @return <code>jsx.js</code> URL for ModeJsx
+	 */
+	@Source("/js/min/mode/jsx/jsx.js")
+	@DoNotEmbed
+	DataResource jsx();
+
+	/**
+	 * Returns the URL of minified java script file for ModeJulia.
+	 * 
+	 * @return <code>julia.js</code> URL for ModeJulia
+	 */
+	@Source("/js/min/mode/julia/julia.js")
+	@DoNotEmbed
+	DataResource julia();
+
+	/**
+	 * Returns the URL of minified java script file for ModeLivescript.
+	 * 
+	 * @return <code>livescript.js</code> URL for ModeLivescript
+	 */
+	@Source("/js/min/mode/livescript/livescript.js")
+	@DoNotEmbed
+	DataResource livescript();
+
+	/**
+	 * Returns the URL of minified java script file for ModeLua.
+	 * 
+	 * @return <code>lua.js</code> URL for ModeLua
+	 */
+	@Source("/js/min/mode/lua/lua.js")
+	@DoNotEmbed
+	DataResource lua();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMarkdown.
+	 * 
+	 * @return <code>markdown.js</code> URL for ModeMarkdown
+	 */
+	@Source("/js/min/mode/markdown/markdown.js")
+	@DoNotEmbed
+	DataResource markdown();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMathematica.
+	 * 
+	 * @return <code>mathematica.js</code> URL for ModeMathematica
+	 */
+	@Source("/js/min/mode/mathematica/mathematica.js")
+	@DoNotEmbed
+	DataResource mathematica();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMbox.
+	 * 
+	 * @return <code>mbox.js</code> URL for ModeMbox
+	 */
+	@Source("/js/min/mode/mbox/mbox.js")
+	@DoNotEmbed
+	DataResource mbox();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMirc.
+	 * 
+	 * @return <code>mirc.js</code> URL for ModeMirc
+	 */
+	@Source("/js/min/mode/mirc/mirc.js")
+	@DoNotEmbed
+	DataResource mirc();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMllike.
+	 * 
+	 * @return <code>mllike.js</code> URL for ModeMllike
+	 */
+	@Source("/js/min/mode/mllike/mllike.js")
+	@DoNotEmbed
+	DataResource mllike();
+
+	/**
+	 * Returns the URL of minified java script file for ModeModelica.
+	 * 
+	 * @return <code>modelica.js</code> URL for ModeModelica
+	 */
+	@Source("/js/min/mode/modelica/modelica.js")
+	@DoNotEmbed
+	DataResource modelica();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMscgen.
+	 * 
+	 * @return <code>mscgen.js</code> URL for ModeMscgen
+	 */
+	@Source("/js/min/mode/mscgen/mscgen.js")
+	@DoNotEmbed
+	DataResource mscgen();
+
+	/**
+	 * Returns the URL of minified java script file for ModeMumps.
+	 * 
+	 * @return <code>mumps.js</code> URL for ModeMumps
+	 */
+	@Source("/js/min/mode/mumps/mumps.js")
+	@DoNotEmbed
+	DataResource mumps();
+
+	/**
+	 * Returns the URL of minified java script file for ModeNginx.
+	 * 
+	 * @return <code>nginx.js</code> URL for ModeNginx
+	 */
+	@Source("/js/min/mode/nginx/nginx.js")
+	@DoNotEmbed
+	DataResource nginx();
+
+	/**
+	 * Returns the URL of minified java script file for ModeNsis.
+	 * 
+	 * @return <code>nsis.js</code> URL for ModeNsis
+	 */
+	@Source("/js/min/mode/nsis/nsis.js")
+	@DoNotEmbed
+	DataResource nsis();
+
+	/**
+	 * Returns the URL of minified java script file for ModeNtriples.
+	 * 
+	 * @return <code>ntriples.js</code> URL for ModeNtriples
+	 */
+	@Source("/js/min/mode/ntriples/ntriples.js")
+	@DoNotEmbed
+	DataResource ntriples();
+
+	/**
+	 * Returns the URL of minified java script file for ModeOctave.
+	 * 
+	 * @return <code>octave.js</code> URL for ModeOctave
+	 */
+	@Source("/js/min/mode/octave/octave.js")
+	@DoNotEmbed
+	DataResource octave();
+
+	/**
+	 * Returns the URL of minified java script file for ModeOz.
+	 * 
+	 * @return <code>oz.js</code> URL for ModeOz
+	 */
+	@Source("/js/min/mode/oz/oz.js")
+	@DoNotEmbed
+	DataResource oz();
+
+	/**
+	 * Returns the URL of minified java script file for ModePascal.
+	 * 
+	 * @return <code>pascal.js</code> URL for ModePascal
+	 */
+	@Source("/js/min/mode/pascal/pascal.js")
+	@DoNotEmbed
+	DataResource pascal();
+
+	/**
+	 * Returns the URL of minified java script file for ModePegjs.
+	 * 
+	 * @return <code>pegjs.js</code> URL for ModePegjs
+	 */
+	@Source("/js/min/mode/pegjs/pegjs.js")
+	@DoNotEmbed
+	DataResource pegjs();
+
+	/**
+	 * Returns the URL of minified java script file for ModePerl.
+	 * 
+	 * @return <code>perl.js</code> URL for ModePerl
+	 */
+	@Source("/js/min/mode/perl/perl.js")
+	@DoNotEmbed
+	DataResource perl();
+
+	/**
+	 * Returns the URL of minified java script file for ModePhp.
+	 * 
+	 * @return <code>php.js</code> URL for ModePhp
+	 */
+	@Source("/js/min/mode/php/php.js")
+	@DoNotEmbed
+	DataResource php();
+
+	/**
+	 * Returns the URL of minified java script file for ModePig.
+	 * 
+	 * @return <code>pig.js</code> URL for ModePig
+	 */
+	@Source("/js/min/mode/pig/pig.js")
+	@DoNotEmbed
+	DataResource pig();
+
+	/**
+	 * Returns the URL of minified java script file for ModePowershell.
+	 * 
+	 * @return <code>powershell.js</code> URL for ModePowershell
+	 */
+	@Source("/js/min/mode/powershell/powershell.js")
+	@DoNotEmbed
+	DataResource powershell();
+
+	/**
+	 * Returns the URL of minified java script file for ModeProperties.
+	 * 
+	 * @return <code>properties.js</code> URL for ModeProperties
+	 */
+	@Source("/js/min/mode/properties/properties.js")
+	@DoNotEmbed
+	DataResource properties();
+
+	/**
+	 * Returns the URL of minified java script file for ModeProtobuf.
+	 * 
+	 * @return <code>protobuf.js</code> URL for ModeProtobuf
+	 */
+	@Source("/js/min/mode/protobuf/protobuf.js")
+	@DoNotEmbed
+	DataResource protobuf();
+
+	/**
+	 * Returns the URL of minified java script file for ModePug.
+	 * 
+	 * @return <code>pug.js</code> URL for ModePug
+	 */
+	@Source("/js/min/mode/pug/pug.js")
+	@DoNotEmbed
+	DataResource pug();
+
+	/**
+	 * Returns the URL of minified java script file for ModePuppet.
+	 * 
+	 * @return <code>puppet.js</code> URL for ModePuppet
+	 */
+	@Source("/js/min/mode/puppet/puppet.js")
+	@DoNotEmbed
+	DataResource puppet();
+
+	/**
+	 * Returns the URL of minified java script file for ModePython.
+	 * 
+	 * @return <code>python.js</code> URL for ModePython
+	 */
+	@Source("/js/min/mode/python/python.js")
+	@DoNotEmbed
+	DataResource python();
+
+	/**
+	 * Returns the URL of minified java script file for ModeQ.
+	 * 
+	 * @return <code>q.js</code> URL for ModeQ
+	 */
+	@Source("/js/min/mode/q/q.js")
+	@DoNotEmbed
+	DataResource q();
+
+	/**
+	 * Returns the URL of minified java script file for ModeR.
+	 * 
+	 * @return <code>r.js</code> URL for ModeR
+	 */
+	@Source("/js/min/mode/r/r.js")
+	@DoNotEmbed
+	DataResource r();
+
+	/**
+	 * Returns the URL of minified java script file for ModeRpm.
+	 * 
+	 * @return <code>rpm.js</code> URL for ModeRpm
+	 */
+	@Source("/js/min/mode/rpm/rpm.js")
+	@DoNotEmbed
+	DataResource rpm();
+
+	/**
+	 * Returns the URL of minified java script file for ModeRst.
+	 * 
+	 * @return <code>rst.js</code> URL for ModeRst
+	 */
+	@Source("/js/min/mode/rst/rst.js")
+	@DoNotEmbed
+	DataResource rst();
+
+	/**
+	 * Returns the URL of minified java script file for ModeRuby.
+	 * 
+	 * @return <code>ruby.js</code> URL for ModeRuby
+	 */
+	@Source("/js/min/mode/ruby/ruby.js")
+	@DoNotEmbed
+	DataResource ruby();
+
+	/**
+	 * Returns the URL of minified java script file for ModeRust.
+	 * 
+	 * @return <code>rust.js</code> URL for ModeRust
+	 */
+	@Source("/js/min/mode/rust/rust.js")
+	@DoNotEmbed
+	DataResource rust();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSas.
+	 * 
+	 * @return <code>sas.js</code> URL for ModeSas
+	 */
+	@Source("/js/min/mode/sas/sas.js")
+	@DoNotEmbed
+	DataResource sas();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSass.
+	 * 
+	 * @return <code>sass.js</code> URL for ModeSass
+	 */
+	@Source("/js/min/mode/sass/sass.js")
+	@DoNotEmbed
+	DataResource sass();
+
+	/**
+	 * Returns the URL of minified java script file for ModeScheme.
+	 * 
+	 * @return <code>scheme.js</code> URL for ModeScheme
+	 */
+	@Source("/js/min/mode/scheme/scheme.js")
+	@DoNotEmbed
+	DataResource scheme();
+
+	/**
+	 * Returns the URL of minified java script file for ModeShell.
+	 * 
+	 * @return <code>shell.js</code> URL for ModeShell
+	 */
+	@Source("/js/min/mode/shell/shell.js")
+	@DoNotEmbed
+	DataResource shell();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSieve.
+	 * 
+	 * @return <code>sieve.js</code> URL for ModeSieve
+	 */
+	@Source("/js/min/mode/sieve/sieve.js")
+	@DoNotEmbed
+	DataResource sieve();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSlim.
+	 * 
+	 * @return <code>slim.js</code> URL for ModeSlim
+	 */
+	@Source("/js/min/mode/slim/slim.js")
+	@DoNotEmbed
+	DataResource slim();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSmalltalk.
+	 * 
+	 * @return <code>smalltalk.js</code> URL for ModeSmalltalk
+	 */
+	@Source("/js/min/mode/smalltalk/smalltalk.js")
+	@DoNotEmbed
+	DataResource smalltalk();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSmarty.
+	 * 
+	 * @return <code>smarty.js</code> URL for ModeSmarty
+	 */
+	@Source("/js/min/mode/smarty/smarty.js")
+	@DoNotEmbed
+	DataResource smarty();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSolr.
+	 * 
+	 * @return <code>solr.js</code> URL for ModeSolr
+	 */
+	@Source("/js/min/mode/solr/solr.js")
+	@DoNotEmbed
+	DataResource solr();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSoy.
+	 * 
+	 * @return <code>soy.js</code> URL for ModeSoy
+	 */
+	@Source("/js/min/mode/soy/soy.js")
+	@DoNotEmbed
+	DataResource soy();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSparql.
+	 * 
+	 * @return <code>sparql.js</code> URL for ModeSparql
+	 */
+	@Source("/js/min/mode/sparql/sparql.js")
+	@DoNotEmbed
+	DataResource sparql();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSpreadsheet.
+	 * 
+	 * @return <code>spreadsheet.js</code> URL for ModeSpreadsheet
+	 */
+	@Source("/js/min/mode/spreadsheet/spreadsheet.js")
+	@DoNotEmbed
+	DataResource spreadsheet();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSql.
+	 * 
+	 * @return <code>sql.js</code> URL for ModeSql
+	 */
+	@Source("/js/min/mode/sql/sql.js")
+	@DoNotEmbed
+	DataResource sql();
+
+	/**
+	 * Returns the URL of minified java script file for ModeStex.
+	 * 
+	 * @return <code>stex.js</code> URL for ModeStex
+	 */
+	@Source("/js/min/mode/stex/stex.js")
+	@DoNotEmbed
+	DataResource stex();
+
+	/**
+	 * Returns the URL of minified java script file for ModeStylus.
+	 * 
+	 * @return <code>stylus.js</code> URL for ModeStylus
+	 */
+	@Source("/js/min/mode/stylus/stylus.js")
+	@DoNotEmbed
+	DataResource stylus();
+
+	/**
+	 * Returns the URL of minified java script file for ModeSwift.
+	 * 
+	 * @return <code>swift.js</code> URL for ModeSwift
+	 */
+	@Source("/js/min/mode/swift/swift.js")
+	@DoNotEmbed
+	DataResource swift();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTcl.
+	 * 
+	 * @return <code>tcl.js</code> URL for ModeTcl
+	 */
+	@Source("/js/min/mode/tcl/tcl.js")
+	@DoNotEmbed
+	DataResource tcl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTextile.
+	 * 
+	 * @return <code>textile.js</code> URL for ModeTextile
+	 */
+	@Source("/js/min/mode/textile/textile.js")
+	@DoNotEmbed
+	DataResource textile();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTiddlywiki.
+	 * 
+	 * @return <code>tiddlywiki.js</code> URL for ModeTiddlywiki
+	 */
+	@Source("/js/min/mode/tiddlywiki/tiddlywiki.js")
+	@DoNotEmbed
+	DataResource tiddlywiki();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTiki.
+	 * 
+	 * @return <code>tiki.js</code> URL for ModeTiki
+	 */
+	@Source("/js/min/mode/tiki/tiki.js")
+	@DoNotEmbed
+	DataResource tiki();
+
+	/**
+	 * Returns the URL of minified java script file for ModeToml.
+	 * 
+	 * @return <code>toml.js</code> URL for ModeToml
+	 */
+	@Source("/js/min/mode/toml/toml.js")
+	@DoNotEmbed
+	DataResource toml();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTornado.
+	 * 
+	 * @return <code>tornado.js</code> URL for ModeTornado
+	 */
+	@Source("/js/min/mode/tornado/tornado.js")
+	@DoNotEmbed
+	DataResource tornado();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTroff.
+	 * 
+	 * @return <code>troff.js</code> URL for ModeTroff
+	 */
+	@Source("/js/min/mode/troff/troff.js")
+	@DoNotEmbed
+	DataResource troff();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTtcn.
+	 * 
+	 * @return <code>ttcn.js</code> URL for ModeTtcn
+	 */
+	@Source("/js/min/mode/ttcn/ttcn.js")
+	@DoNotEmbed
+	DataResource ttcn();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTtcnCfg.
+	 * 
+	 * @return <code>ttcn-cfg.js</code> URL for ModeTtcnCfg
+	 */
+	@Source("/js/min/mode/ttcn-cfg/ttcn-cfg.js")
+	@DoNotEmbed
+	DataResource ttcnCfg();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTurtle.
+	 * 
+	 * @return <code>turtle.js</code> URL for ModeTurtle
+	 */
+	@Source("/js/min/mode/turtle/turtle.js")
+	@DoNotEmbed
+	DataResource turtle();
+
+	/**
+	 * Returns the URL of minified java script file for ModeTwig.
+	 * 
+	 * @return <code>twig.js</code> URL for ModeTwig
+	 */
+	@Source("/js/min/mode/twig/twig.js")
+	@DoNotEmbed
+	DataResource twig();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVb.
+	 * 
+	 * @return <code>vb.js</code> URL for ModeVb
+	 */
+	@Source("/js/min/mode/vb/vb.js")
+	@DoNotEmbed
+	DataResource vb();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVbscript.
+	 * 
+	 * @return <code>vbscript.js</code> URL for ModeVbscript
+	 */
+	@Source("/js/min/mode/vbscript/vbscript.js")
+	@DoNotEmbed
+	DataResource vbscript();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVelocity.
+	 * 
+	 * @return <code>velocity.js</code> URL for ModeVelocity
+	 */
+	@Source("/js/min/mode/velocity/velocity.js")
+	@DoNotEmbed
+	DataResource velocity();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVerilog.
+	 * 
+	 * @return <code>verilog.js</code> URL for ModeVerilog
+	 */
+	@Source("/js/min/mode/verilog/verilog.js")
+	@DoNotEmbed
+	DataResource verilog();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVhdl.
+	 * 
+	 * @return <code>vhdl.js</code> URL for ModeVhdl
+	 */
+	@Source("/js/min/mode/vhdl/vhdl.js")
+	@DoNotEmbed
+	DataResource vhdl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeVue.
+	 * 
+	 * @return <code>vue.js</code> URL for ModeVue
+	 */
+	@Source("/js/min/mode/vue/vue.js")
+	@DoNotEmbed
+	DataResource vue();
+
+	/**
+	 * Returns the URL of minified java script file for ModeWebidl.
+	 * 
+	 * @return <code>webidl.js</code> URL for ModeWebidl
+	 */
+	@Source("/js/min/mode/webidl/webidl.js")
+	@DoNotEmbed
+	DataResource webidl();
+
+	/**
+	 * Returns the URL of minified java script file for ModeXml.
+	 * 
+	 * @return <code>xml.js</code> URL for ModeXml
+	 */
+	@Source("/js/min/mode/xml/xml.js")
+	@DoNotEmbed
+	DataResource xml();
+
+	/**
+	 * Returns the URL of minified java script file for ModeXquery.
+	 * 
+	 * @return <code>xquery.js</code> URL for ModeXquery
+	 */
+	@Source("/js/min/mode/xquery/xquery.js")
+	@DoNotEmbed
+	DataResource xquery();
+
+	/**
+	 * Returns the URL of minified java script file for ModeYacas.
+	 * 
+	 * @return <code>yacas.js</code> URL for ModeYacas
+	 */
+	@Source("/js/min/mode/yacas/yacas.js")
+	@DoNotEmbed
+	DataResource yacas();
+
+	/**
+	 * Returns the URL of minified java script file for ModeYaml.
+	 * 
+	 * @return <code>yaml.js</code> URL for ModeYaml
+	 */
+	@Source("/js/min/mode/yaml/yaml.js")
+	@DoNotEmbed
+	DataResource yaml();
+
+	/**
+	 * Returns the URL of minified java script file for ModeYamlFrontmatter.
+	 * 
+	 * @return <code>yaml-frontmatter.js</code> URL for ModeYamlFrontmatter
+	 */
+	@Source("/js/min/mode/yaml-frontmatter/yaml-frontmatter.js")
+	@DoNotEmbed
+	DataResource yamlFrontmatter();
+
+	/**
+	 * Returns the URL of minified java script file for ModeZ80.
+	 * 
+	 * @return <code>z80.js</code> URL for ModeZ80
+	 */
+	@Source("/js/min/mode/z80/z80.js")
+	@DoNotEmbed
+	DataResource z80();
+
+	// ----------------------------
+	// --- CSS Resources ---
+	// ----------------------------
+
+	/**
+	 * Returns the URL of CSS file for ModeTiddlywiki.
+	 * 
+	 * @return <code>tiddlywiki.css</code> URL for ModeTiddlywiki
+	 */
+	@Source("/js/mode/tiddlywiki/tiddlywiki.css")
+	@DoNotEmbed
+	DataResource tiddlywikiCss();
+
+	/**
+	 * Returns the URL of CSS file for ModeTiki.
+	 * 
+	 * @return <code>tiki.css</code> URL for ModeTiki
+	 */
+	@Source("/js/mode/tiki/tiki.css")
+	@DoNotEmbed
+	DataResource tikiCss();
+}
\ No newline at end of file
@@ -25,13 +25,22 @@ public final class ResourceLoadException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Creates the exception by a description.
+	 * 
+	 * @param message description of exception
+	 */
+	public ResourceLoadException(String message) {
+		super(message);
+	}
+
 	/**
 	 * Creates the exception by a description and the cause.
 	 * 
 	 * @param message description of exception
 	 * @param cause cause of the exception
 	 */
-	ResourceLoadException(String message, Throwable cause) {
+	public ResourceLoadException(String message, Throwable cause) {
 		super(message, cause);
 	}
 }
@@ -19,7 +19,24 @@ import com.google.gwt.resources.client.ResourcePrototype;
 
 /**
  * Utility to set which kind of resources type must be use to load text resources.<br>
- * This utility MUST be called as first statement before using Charba.
+ * This utility MUST be called as first statement before using Charba.<br>
+ * The modes, addons, themes and keymaps injected in async mode are always loaded as external files, by their URLs. When the
+ * application injects them only in async mode, the <code>coderba.injection</code> property of the GWT module can be set to
+ * <code>deferred</code>, in order not to compile their embedded code into the application:
+ * 
+ * <pre>
+ * &lt;set-property name="coderba.injection" value="deferred" /&gt;
+ * </pre>
+ * 
+ * The minified resources types ({@link MinifiedEmbeddedResources} and {@link MinifiedDeferredResources}) have got the
+ * following limitations:
+ * <ul>
+ * <li>only CodeMirror and the modes, addons and keymaps injected in async mode are loaded minified. The items injected in
+ * sync mode, by {@link org.pepstock.coderba.client.Injector#ensureInjected(org.pepstock.coderba.client.Language)}, are always injected by their embedded
+ * sources, not minified;
+ * <li>there is not any minified bundle for themes, which are always loaded by their CSS files, not minified;
+ * <li>the CSS files of modes and addons are not minified.
+ * </ul>
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -74,4 +91,29 @@ public final class ResourcesType {
 		return ResourcesType.resources;
 	}
 
+	/**
+	 * Returns <code>true</code> if the resources type is {@link ExternalResources} and then the resources must be loaded as
+	 * external files, by their URLs.
+	 * 
+	 * @return <code>true</code> if the resources type is {@link ExternalResources}
+	 */
+	public static boolean isExternal() {
+		// stores the instance as object to check the type
+		Object instance = getClientBundle();
+		return instance instanceof ExternalResources;
+	}
+
+	/**
+	 * Returns <code>true</code> if the resources type is {@link MinifiedEmbeddedResources} or
+	 * {@link MinifiedDeferredResources} and then the resources must be loaded minified.
+	 * 
+	 * @return <code>true</code> if the resources type is {@link MinifiedEmbeddedResources} or
+	 *         {@link MinifiedDeferredResources}
+	 */
+	public static boolean isMinified() {
+		// stores the instance as object to check the type
+		Object instance = getClientBundle();
+		return instance instanceof MinifiedEmbeddedResources || instance instanceof MinifiedDeferredResources;
+	}
+
 }
@@ -28,6 +28,8 @@ import com.google.gwt.resources.client.TextResource;
  */
 public final class ScriptResource extends AbstractInjectableResource {
 
+	// property of SCRIPT element to set the async loading
+	private static final String ASYNC_PROPERTY = "async";
 	// creates a DOM element for SCRIPT
 	private final ScriptElement element = Document.get().createScriptElement();
 
@@ -50,4 +52,21 @@ public final class ScriptResource extends AbstractInjectableResource {
 		return element;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.InjectableResource#createElement(java.lang.String)
+	 */
+	@Override
+	public final Element createElement(String url) {
+		// creates a DOM element for SCRIPT
+		ScriptElement externalElement = Document.get().createScriptElement();
+		// the scripts are executed by the order of injection
+		// but downloaded in parallel
+		externalElement.setPropertyBoolean(ASYNC_PROPERTY, false);
+		// sets the URL of file
+		externalElement.setSrc(url);
+		return externalElement;
+	}
+
 }
@@ -17,6 +17,7 @@ package org.pepstock.coderba.client.resources;
 
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.LinkElement;
 import com.google.gwt.dom.client.StyleElement;
 import com.google.gwt.resources.client.TextResource;
 
@@ -28,6 +29,8 @@ import com.google.gwt.resources.client.TextResource;
  */
 public final class StyleResource extends AbstractInjectableResource {
 
+	// relationship of LINK element for style sheets
+	private static final String STYLESHEET_RELATIONSHIP = "stylesheet";
 	// creates a DOM element for STYLE
 	private final StyleElement element = Document.get().createStyleElement();
 
@@ -50,4 +53,20 @@ public final class StyleResource extends AbstractInjectableResource {
 		return element;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.coderba.client.resources.InjectableResource#createElement(java.lang.String)
+	 */
+	@Override
+	public final Element createElement(String url) {
+		// creates a DOM element for LINK
+		LinkElement externalElement = Document.get().createLinkElement();
+		// sets the style sheet relationship
+		externalElement.setRel(STYLESHEET_RELATIONSHIP);
+		// sets the URL of file
+		externalElement.setHref(url);
+		return externalElement;
+	}
+
 }
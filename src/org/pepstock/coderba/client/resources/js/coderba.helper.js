@@ -65,8 +65,6 @@
 	 @return string value
     */
     CoderbaJsHelper.propertyAsString = function(obj, key) {
-    	console.log(obj);
-    	console.log(key);
     	return obj[key];
     }  
     /*
@@ -89,6 +87,52 @@
     CoderbaJsHelper.propertyAsBoolean = function(obj, key) {
     	return obj[key];
     }
+    /*
+	 Returns a property of java script object, reading it directly.
+	  
+	 @param object the object on which to read the property.
+	 @param key the string name of the property to read.
+	 @return value of the property
+    */
+    CoderbaJsHelper.property = function(obj, key) {
+    	return obj[key];
+    }
+    /*
+	 Returns a property of java script object, reading it once, if the value has got the passed type and it is not null or an array,
+	 otherwise the default value.
+	  
+	 @param object the object on which to read the property.
+	 @param key the string name of the property to read.
+	 @param type the type of the value, as returned by typeof operator.
+	 @param defaultValue the value to return if the property does not exist or has got another type.
+	 @return value of the property or the default value
+    */
+    CoderbaJsHelper.propertyOrDefault = function(obj, key, type, defaultValue) {
+    	var value = obj[key];
+    	return typeof value === type && value !== null && !Array.isArray(value) ? value : defaultValue;
+    }
+    /*
+	 Returns a property of java script object, reading it once, if the value is an array, otherwise the default value.
+	  
+	 @param object the object on which to read the property.
+	 @param key the string name of the property to read.
+	 @param defaultValue the value to return if the property does not exist or is not an array.
+	 @return value of the property or the default value
+    */
+    CoderbaJsHelper.arrayOrDefault = function(obj, key, defaultValue) {
+    	var value = obj[key];
+    	return Array.isArray(value) ? value : defaultValue;
+    }
+    /*
+	 Sets a property of java script object by assignment, without any property descriptor.
+	  
+	 @param object the object on which to set the property.
+	 @param key the string name of the property to set.
+	 @param value the value of the property
+    */
+    CoderbaJsHelper.setProperty = function(obj, key, value) {
+    	obj[key] = value;
+    }
     /*
 	 Sets the boolean property to <code>true</code> into a native event.
 	  
@@ -151,4 +195,301 @@
 		};
     	return obj;
     }
- 
\ No newline at end of file
+    /*
+	 Queues a function to be called during the idle periods of the browser, by "requestIdleCallback" if available.
+	 Otherwise a timeout is used, passing a deadline which emulates the idle period.
+	  
+	 @param callback function to call, receiving the idle deadline
+	 @param timeout amount of milliseconds after which the callback is called even if the browser is not idle
+	 @return the handle of the request, to use to cancel it
+    */
+    CoderbaJsHelper.requestIdleCallback = function(callback, timeout) {
+    	// checks if the browser supports idle callbacks
+    	if (typeof window.requestIdleCallback === 'function') {
+    		return window.requestIdleCallback(callback, { timeout: timeout });
+    	}
+    	// emulates the idle period, with a max amount of 50 milliseconds
+    	return window.setTimeout(function() {
+    		var start = Date.now();
+    		callback({
+    			didTimeout: false,
+    			timeRemaining: function() {
+    				return Math.max(0, 50 - (Date.now() - start));
+    			}
+    		});
+    	}, 1);
+    }
+    /*
+	 Cancels a function previously queued by "requestIdleCallback".
+	  
+	 @param handle the handle of the request to cancel
+    */
+    CoderbaJsHelper.cancelIdleCallback = function(handle) {
+    	// checks if the browser supports idle callbacks
+    	if (typeof window.cancelIdleCallback === 'function') {
+    		window.cancelIdleCallback(handle);
+    	} else {
+    		window.clearTimeout(handle);
+    	}
+    }
+    /*
+	 Returns true if the browser supports constructable style sheets, which can be adopted by the document.
+	  
+	 @return true if the browser supports constructable style sheets
+    */
+    CoderbaJsHelper.isConstructableStyleSheet = function() {
+    	// checks if the support has been already checked
+    	if (CoderbaJsHelper.constructableStyleSheet == null) {
+    		CoderbaJsHelper.constructableStyleSheet = typeof CSSStyleSheet === 'function' && typeof CSSStyleSheet.prototype.replaceSync === 'function' && 'adoptedStyleSheets' in document;
+    	}
+    	return CoderbaJsHelper.constructableStyleSheet;
+    }
+    /*
+	 Adds a style sheet, managed by CODERBA, with the CSS code of a resource or replaces its content if already added.
+	 If the browser supports constructable style sheets, the style sheet is adopted by the document, 
+	 otherwise a STYLE element is appended to the head of the document.
+	  
+	 @param key key of the resource
+	 @param css the CSS code to set into the style sheet
+    */
+    CoderbaJsHelper.addStyleSheet = function(key, css) {
+    	// checks if the style sheets map has been already created
+    	if (CoderbaJsHelper.styleSheets == null) {
+    		CoderbaJsHelper.styleSheets = Object.create(null);
+    	}
+    	var sheet = CoderbaJsHelper.styleSheets[key];
+    	// checks if constructable style sheets are supported
+    	if (CoderbaJsHelper.isConstructableStyleSheet()) {
+    		// checks if the style sheet has been already created
+    		if (sheet == null) {
+    			sheet = new CSSStyleSheet();
+    			sheet.replaceSync(css);
+    			document.adoptedStyleSheets = document.adoptedStyleSheets.concat([sheet]);
+    			CoderbaJsHelper.styleSheets[key] = sheet;
+    		} else {
+    			sheet.replaceSync(css);
+    		}
+    	} else {
+    		// checks if the element has been already created
+    		if (sheet == null) {
+    			sheet = document.createElement('style');
+    			sheet.textContent = css;
+    			document.head.appendChild(sheet);
+    			CoderbaJsHelper.styleSheets[key] = sheet;
+    		} else {
+    			sheet.textContent = css;
+    		}
+    	}
+    }
+    /*
+	 Removes the style sheet, managed by CODERBA, with the CSS code of a resource, if added.
+	  
+	 @param key key of the resource
+    */
+    CoderbaJsHelper.removeStyleSheet = function(key) {
+    	// checks if the style sheet has been added
+    	if (CoderbaJsHelper.styleSheets == null || CoderbaJsHelper.styleSheets[key] == null) {
+    		return;
+    	}
+    	var sheet = CoderbaJsHelper.styleSheets[key];
+    	delete CoderbaJsHelper.styleSheets[key];
+    	// checks if constructable style sheets are supported
+    	if (CoderbaJsHelper.isConstructableStyleSheet()) {
+    		document.adoptedStyleSheets = document.adoptedStyleSheets.filter(function(item) {
+    			return item !== sheet;
+    		});
+    	} else if (sheet.parentNode != null) {
+    		sheet.parentNode.removeChild(sheet);
+    	}
+    }
+    /*
+	 Returns the options of an editor which are different from the defaults, ignoring the passed keys.
+	  
+	 @param editor CodeMirror editor instance
+	 @param defaults the default options of CodeMirror
+	 @param ignoredKeys array of the keys of the options to ignore
+	 @return a new object with the options of the editor which are different from the defaults
+    */
+    CoderbaJsHelper.diffOptions = function(editor, defaults, ignoredKeys) {
+    	var result = {};
+    	for (var key in editor.options) {
+    		if (ignoredKeys.indexOf(key) < 0 && editor.options[key] !== defaults[key]) {
+    			result[key] = editor.options[key];
+    		}
+    	}
+    	return result;
+    }
+    /*
+	 Applies the passed options to an editor, in a single operation, changing only the options which have a different value.
+	 The options of the editor which are not in the passed object are reset to the defaults.
+	  
+	 @param editor CodeMirror editor instance
+	 @param options the options to apply
+	 @param defaults the default options of CodeMirror
+	 @param ignoredKeys array of the keys of the options to ignore
+    */
+    CoderbaJsHelper.applyOptions = function(editor, options, defaults, ignoredKeys) {
+    	editor.operation(function() {
+    		var key;
+    		// resets or changes the current options
+    		for (key in editor.options) {
+    			if (ignoredKeys.indexOf(key) < 0) {
+    				var value = options.hasOwnProperty(key) ? options[key] : defaults[key];
+    				if (editor.getOption(key) !== value) {
+    					editor.setOption(key, value);
+    				}
+    			}
+    		}
+    		// adds the options which are not defined yet
+    		for (key in options) {
+    			if (ignoredKeys.indexOf(key) < 0 && !(key in editor.options)) {
+    				editor.setOption(key, options[key]);
+    			}
+    		}
+    	});
+    }
+    /*
+	 Runs a function as a single operation of the editor of the document, if any, otherwise runs it as is.
+	  
+	 @param doc CodeMirror document instance
+	 @param fn function to run
+    */
+    CoderbaJsHelper.docOperation = function(doc, fn) {
+    	var editor = doc.getEditor();
+    	if (editor) {
+    		editor.operation(fn);
+    	} else {
+    		fn();
+    	}
+    }
+    /*
+	 Marks the passed ranges of a document with the same options, in a single operation, adding the markers to the passed array.
+	  
+	 @param doc CodeMirror document instance
+	 @param markers array where the created markers are added
+	 @param ranges array of ranges, objects with "from" and "to" positions
+	 @param options options of the markers
+    */
+    CoderbaJsHelper.markRanges = function(doc, markers, ranges, options) {
+    	CoderbaJsHelper.docOperation(doc, function() {
+    		for (var i = 0; i < ranges.length; i++) {
+    			markers.push(doc.markText(ranges[i].from, ranges[i].to, options));
+    		}
+    	});
+    }
+    /*
+	 Clears all markers of the passed array, in a single operation, emptying the array.
+	 Only the cleared markers which are wrapped, being keys of the passed weak map, are reported.
+	  
+	 @param doc CodeMirror document instance
+	 @param markers array of the markers to clear
+	 @param cleared array where the cleared markers which are wrapped are added
+	 @param map weak map of the wrapped markers
+    */
+    CoderbaJsHelper.clearMarkers = function(doc, markers, cleared, map) {
+    	CoderbaJsHelper.docOperation(doc, function() {
+    		for (var i = 0; i < markers.length; i++) {
+    			if (map.has(markers[i])) {
+    				cleared.push(markers[i]);
+    			}
+    			markers[i].clear();
+    		}
+    	});
+    	markers.length = 0;
+    }
+    /*
+	 Replaces the markers of the passed array with the markers of the passed ranges, in a single operation.
+	 The markers which are already marking a passed range are kept, the others are cleared, and the ranges 
+	 which are not marked yet are marked with the passed options. The array contains the markers of the passed ranges at the end.
+	 Only the cleared markers which are wrapped, being keys of the passed weak map, are reported.
+	  
+	 @param doc CodeMirror document instance
+	 @param markers array of the current markers
+	 @param ranges array of ranges, objects with "from" and "to" positions
+	 @param options options of the new markers
+	 @param cleared array where the cleared markers which are wrapped are added
+	 @param map weak map of the wrapped markers
+    */
+    CoderbaJsHelper.replaceMarkers = function(doc, markers, ranges, options, cleared, map) {
+    	var toKey = function(from, to) {
+    		return from.line + ':' + from.ch + ':' + to.line + ':' + to.ch;
+    	};
+    	CoderbaJsHelper.docOperation(doc, function() {
+    		var existing = Object.create(null);
+    		var result = [];
+    		var i, key, range, marker;
+    		// maps the current markers by their current range
+    		for (i = 0; i < markers.length; i++) {
+    			range = markers[i].find();
+    			if (range) {
+    				key = toKey(range.from, range.to);
+    				if (existing[key] === undefined) {
+    					existing[key] = [];
+    				}
+    				existing[key].push(markers[i]);
+    			} else if (map.has(markers[i])) {
+    				// already cleared by CodeMirror
+    				cleared.push(markers[i]);
+    			}
+    		}
+    		// keeps or creates the markers of the new ranges
+    		for (i = 0; i < ranges.length; i++) {
+    			key = toKey(doc.clipPos(ranges[i].from), doc.clipPos(ranges[i].to));
+    			if (existing[key] !== undefined && existing[key].length > 0) {
+    				result.push(existing[key].pop());
+    			} else {
+    				result.push(doc.markText(ranges[i].from, ranges[i].to, options));
+    			}
+    		}
+    		// clears the markers which have not been kept
+    		for (key in existing) {
+    			for (i = 0; i < existing[key].length; i++) {
+    				marker = existing[key][i];
+    				if (map.has(marker)) {
+    					cleared.push(marker);
+    				}
+    				marker.clear();
+    			}
+    		}
+    		// replaces the content of the array
+    		markers.length = 0;
+    		for (i = 0; i < result.length; i++) {
+    			markers.push(result[i]);
+    		}
+    	});
+    }
+    /*
+	 Returns the element of an array at the passed index, by direct access, without creating any array.
+	  
+	 @param array array instance
+	 @param index index of the element
+	 @return the element at the passed index or undefined if out of bounds
+    */
+    CoderbaJsHelper.getAt = function(array, index) {
+    	return array[index];
+    }
+    /*
+	 Sets the element of an array at the passed index, by direct access, extending the array if the index is out of bounds.
+	  
+	 @param array array instance
+	 @param index index of the element
+	 @param value value to store
+    */
+    CoderbaJsHelper.setAt = function(array, index, value) {
+    	array[index] = value;
+    }
+    /*
+	 Returns the content of the lines of a document, from start up to (not including) end.
+	  
+	 @param doc CodeMirror document instance
+	 @param start starting line
+	 @param end ending line, not included
+	 @return array with the content of the lines
+    */
+    CoderbaJsHelper.getLines = function(doc, start, end) {
+    	var lines = [];
+    	doc.iter(start, end, function(line) {
+    		lines.push(line.text);
+    	});
+    	return lines;
+    }
@@ -0,0 +1,69 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.utils;
+
+import org.pepstock.coderba.client.commons.NativeName;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * The performance object provides access to performance-related information for the current page and to the User Timing
+ * API, to create marks and measures which are shown by the browser performance tools.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = NativeName.PERFORMANCE)
+public final class Performance {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private Performance() {
+		// do nothing
+	}
+
+	/**
+	 * Returns a high resolution timestamp in milliseconds, measured from the beginning of the page load.
+	 * 
+	 * @return a high resolution timestamp in milliseconds
+	 */
+	public static native double now();
+
+	/**
+	 * Creates a timestamp in the browser's performance entry buffer with the given name.
+	 * 
+	 * @param name the name of the mark
+	 */
+	public static native void mark(String name);
+
+	/**
+	 * Creates a named timestamp in the browser's performance entry buffer between two specified marks.
+	 * 
+	 * @param name the name of the measure
+	 * @param startMark the name of the mark where the measure starts
+	 * @param endMark the name of the mark where the measure ends
+	 */
+	public static native void measure(String name, String startMark, String endMark);
+
+	/**
+	 * Removes the given mark from the browser's performance entry buffer.
+	 * 
+	 * @param name the name of the mark to remove
+	 */
+	public static native void clearMarks(String name);
+
+}
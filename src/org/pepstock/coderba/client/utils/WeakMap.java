@@ -0,0 +1,76 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.coderba.client.utils;
+
+import org.pepstock.coderba.client.commons.NativeName;
+
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * The WeakMap object is a collection of key/value pairs in which the keys are weakly referenced.<br>
+ * The keys must be objects and the values can be arbitrary values. An entry is removed when its key is garbage collected.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = NativeName.WEAK_MAP)
+public final class WeakMap<K, V> {
+
+	/**
+	 * Creates an empty weak map.
+	 */
+	public WeakMap() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the value associated to the key, or <code>undefined</code> if there is none.
+	 * 
+	 * @param key the key of the element to return
+	 * @return the value associated to the key or <code>null</code> if there is none
+	 */
+	public native V get(K key);
+
+	/**
+	 * Sets the value for the key in the weak map.
+	 * 
+	 * @param key the key of the element to add
+	 * @param value the value of the element to add
+	 * @return the weak map instance
+	 */
+	public native WeakMap<K, V> set(K key, V value);
+
+	/**
+	 * Returns a boolean asserting whether a value has been associated to the key in the weak map or not.
+	 * 
+	 * @param key the key of the element to test for presence
+	 * @return <code>true</code> if an element with the specified key exists in the weak map
+	 */
+	public native boolean has(K key);
+
+	/**
+	 * Removes any value associated to the key.
+	 * 
+	 * @param key the key of the element to remove
+	 * @return <code>true</code> if an element in the weak map existed and has been removed
+	 */
+	@JsMethod(name = "delete")
+	public native boolean remove(K key);
+
+}